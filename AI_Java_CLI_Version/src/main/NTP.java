@@ -375,17 +375,70 @@ class NTP {
         return true;
     }
     
+    /**
+     * Odd primes used to sieve segments in {@link #primesInRange}. The cache only ever grows,
+     * so the primes up to the square root of the largest range end seen so far are kept. Both
+     * fields are only read and written inside {@link #basePrimesUpTo}, which is synchronized, and
+     * a grown cache is a new array, so an array that was returned never changes.
+     */
+    private static int[] basePrimes = {};
+    private static int basePrimesLimit = 1;
+    
+    static synchronized int[] basePrimesUpTo(int limit) {
+        if (limit <= basePrimesLimit) return basePrimes;
+        limit = Math.max(limit, 2 * basePrimesLimit);
+        var composite = new boolean[limit + 1];
+        var primes = new ArrayList<Integer>();
+        for (int i = 3; i <= limit; i += 2) {
+            if (composite[i]) continue;
+            primes.add(i);
+            for (long j = (long) i * i; j <= limit; j += 2L * i) composite[(int) j] = true;
+        }
+        basePrimes = primes.stream().mapToInt(Integer::intValue).toArray();
+        basePrimesLimit = limit;
+        return basePrimes;
+    }
+    
+    /**
+     * Segmented sieve of Eratosthenes: returns the primes in {@code [from, to)} in increasing
+     * order. Only odd numbers are stored, and each odd base prime p ≤ √to crosses off its odd
+     * multiples starting at max(p², the first one ≥ from).
+     */
+    static long[] primesInRange(long from, long to) {
+        var primes = LongStream.builder();
+        if (from <= 2 && to > 2) primes.add(2);
+        long lo = Math.max(3, from | 1);
+        if (lo >= to) return primes.build().toArray();
+        
+        // composite[i] is for the odd number lo + 2i.
+        var composite = new boolean[(int) ((to - lo + 1) / 2)];
+        long sqrtTo = (long) Math.sqrt((double) to) + 1;
+        for (int p : basePrimesUpTo((int) sqrtTo)) {
+            if (p > sqrtTo) break;
+            long first = Math.max((long) p * p, (lo + p - 1) / p * p);
+            if (first % 2 == 0) first += p;
+            for (long i = (first - lo) / 2; i < composite.length; i += p) composite[(int) i] = true;
+        }
+        
+        for (int i = 0; i < composite.length; i++) {
+            if (!composite[i]) primes.add(lo + 2L * i);
+        }
+        return primes.build().toArray();
+    }
+    
     static List<Long> findPrimesFrom(long start) {
-        var result = new ArrayList<Long>();
-        if (start <= 2) result.add(2L);
-        long n = start <= 3 ? 3 : (start % 2 == 0 ? start + 1 : start);
+        var result = new ArrayList<Long>(30);
+        // Primes near n are about ln(n) apart, so this window usually holds all 30 at once.
+        long width = Math.max(256, (long) (60 * Math.log(Math.max(start, 2))));
+        long lo = start;
         
-        while (true) {
-            if (isPrime(n)) {
-                result.add(n);
+        while (result.size() < 30) {
+            for (long p : primesInRange(lo, lo + width)) {
+                result.add(p);
                 if (result.size() == 30) break;
             }
-            n += 2;
+            lo += width;
+            width *= 2;
         }
         
         return result;
@@ -9,6 +9,7 @@ import java.math.BigInteger;
 import java.util.Arrays;
 import java.util.List;
 import java.util.function.Function;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -123,6 +124,19 @@ public class NTPTests {
             )
         );
 
+    @ParameterizedTest
+    @CsvSource(useHeadersInDisplayName = true, textBlock = """
+        from,                   to
+        0,                      3
+        0,                      10_000
+        1_000,                  1_100
+        9_999_999_990_000,      10_000_000_000_000
+        """)
+    void primesInRange(long from, long to) {
+        long[] expected = LongStream.range(from, to).filter(NTP::isPrime).toArray();
+        assertArrayEquals(expected, NTP.primesInRange(from, to));
+    }
+    
     
     @ParameterizedTest
     @FieldSource("findSemiprimesFromCases")
@@ -0,0 +1,189 @@
+package numbertheoryplayground;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Utility class for writing the numbers of a Fibonacci-like sequence one at a time without
+ * keeping the sequence in memory, for sequences that are way longer than the 20 numbers that the
+ * Fibonacci-like sequences section shows.
+ *
+ * The numbers start out as longs and stay that way until adding 2 of them overflows, which
+ * Math.addExact detects. For sequences that start with numbers ≥ 1, that happens before the 93rd
+ * number, since that's where the Fibonacci sequence passes the max value for a long. From that
+ * point on, the numbers are bigger than a long can hold.
+ */
+public final class FibonacciLikeStream {
+    private FibonacciLikeStream() {}
+    
+    /**
+     * The number of numbers written, the number of chars written, including the new line chars,
+     * and how long it took to write them, in nanoseconds.
+     */
+    public record WriteStats(long numNumbers, long numChars, long nanos) {
+        public double getNumbersPerSecond() {
+            return numNumbers / (nanos / 1e9);
+        }
+        
+        public double getCharsPerSecond() {
+            return numChars / (nanos / 1e9);
+        }
+    }
+    
+    /**
+     * Writes the first length numbers of the Fibonacci-like sequence that starts with input1 and
+     * input2 to the writer, 1 per line. The writer doesn't get closed or flushed, so it can be
+     * for System.out. input1 and input2 should be ≥ 0.
+     *
+     * Number n of a sequence that starts with numbers ≥ 1 has around 0.209n digits, so the first
+     * n numbers have around 0.1n^2 digits altogether. Turning those into strings is what takes
+     * the most time. BigInteger.toString has to divide by powers of 10 and got around 5 MB per
+     * second for the first 50,000 Fibonacci numbers, so once the numbers don't fit in a long,
+     * this keeps them in base 10^18 instead of as BigIntegers. Each "digit" is a long < 10^18,
+     * adding 2 numbers is just adding the digits with carries, and writing a number is just
+     * writing each digit with 18 decimal digits.
+     */
+    public static WriteStats writeNumbers(long input1, long input2, long length, Writer writer) throws IOException {
+        assertIsValid(input1, input2, length);
+        long startTime = System.nanoTime();
+        
+        var chars = new char[20];
+        long numChars = 0;
+        long long1 = input1;
+        long long2 = input2;
+        long numWritten = 0;
+        
+        while (numWritten < length) {
+            int numLongChars = Misc.putChars(long1, chars, 0);
+            chars[numLongChars] = '\n';
+            writer.write(chars, 0, numLongChars + 1);
+            numChars += numLongChars + 1;
+            numWritten++;
+            
+            long nextLong;
+            try {
+                nextLong = Math.addExact(long1, long2);
+            } catch (ArithmeticException ex) {
+                break;
+            }
+            long1 = long2;
+            long2 = nextLong;
+        }
+        
+        if (numWritten < length) {
+            var decimal1 = new Base1e18Number(long2);
+            var decimal2 = new Base1e18Number(long1);
+            decimal2.add(decimal1);
+            var nextDecimal = new Base1e18Number(0);
+            
+            for (; numWritten < length; numWritten++) {
+                numChars += decimal1.write(writer);
+                nextDecimal.setToSum(decimal1, decimal2);
+                // Rotate the 3 numbers instead of making a new one each time.
+                Base1e18Number temp = decimal1;
+                decimal1 = decimal2;
+                decimal2 = nextDecimal;
+                nextDecimal = temp;
+            }
+        }
+        
+        return new WriteStats(numWritten, numChars, System.nanoTime() - startTime);
+    }
+    
+    /**
+     * Writes the numbers to the file at the path provided like the other writeNumbers does. The
+     * file gets created if it doesn't exist and overwritten if it does.
+     */
+    public static WriteStats writeNumbers(long input1, long input2, long length, Path path) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(path)) {
+            return writeNumbers(input1, input2, length, writer);
+        }
+    }
+    
+    private static void assertIsValid(long input1, long input2, long length) {
+        if (input1 < 0 || input2 < 0 || length < 0) {
+            throw new IllegalArgumentException("The inputs and length must be ≥ 0.");
+        }
+    }
+    
+    
+    /**
+     * A whole number that's kept in base 10^18, with the least significant "digit" first. The
+     * digits array can be longer than the number of digits so that it can be reused as the
+     * number grows.
+     */
+    private static final class Base1e18Number {
+        private static final long BASE = 1_000_000_000_000_000_000L;
+        
+        private static final int DECIMAL_DIGITS_PER_DIGIT = 18;
+        
+        private long[] digits;
+        
+        private int numDigits;
+        
+        /**
+         * Used by write for building the string of the number.
+         */
+        private char[] chars = new char[0];
+        
+        private Base1e18Number(long l) {
+            digits = new long[] {l % BASE, l / BASE};
+            numDigits = digits[1] == 0 ? 1 : 2;
+        }
+        
+        private void add(Base1e18Number other) {
+            setToSum(this, other);
+        }
+        
+        /**
+         * Sets this to number1 + number2. This can be 1 of them.
+         */
+        private void setToSum(Base1e18Number number1, Base1e18Number number2) {
+            int maxNumDigits = Math.max(number1.numDigits, number2.numDigits);
+            if (digits.length < maxNumDigits + 1) {
+                digits = Arrays.copyOf(digits, 2 * (maxNumDigits + 1));
+            }
+            
+            long carry = 0;
+            for (var i = 0; i < maxNumDigits; i++) {
+                long sum =
+                    (i < number1.numDigits ? number1.digits[i] : 0) +
+                    (i < number2.numDigits ? number2.digits[i] : 0) +
+                    carry;
+                carry = sum >= BASE ? 1 : 0;
+                digits[i] = sum - carry * BASE;
+            }
+            digits[maxNumDigits] = carry;
+            numDigits = maxNumDigits + (int) carry;
+        }
+        
+        /**
+         * Writes the decimal digits of this and a new line char to the writer and returns the
+         * number of chars written.
+         */
+        private int write(Writer writer) throws IOException {
+            int maxNumChars = numDigits * DECIMAL_DIGITS_PER_DIGIT + 1;
+            if (chars.length < maxNumChars) {
+                chars = new char[2 * maxNumChars];
+            }
+            
+            int numChars = Misc.putChars(digits[numDigits - 1], chars, 0);
+            for (int i = numDigits - 2; i >= 0; i--) {
+                long digit = digits[i];
+                for (int j = numChars + DECIMAL_DIGITS_PER_DIGIT - 1; j >= numChars; j--) {
+                    chars[j] = (char) ('0' + digit % 10);
+                    digit /= 10;
+                }
+                numChars += DECIMAL_DIGITS_PER_DIGIT;
+            }
+            chars[numChars++] = '\n';
+            
+            writer.write(chars, 0, numChars);
+            return numChars;
+        }
+    }
+}
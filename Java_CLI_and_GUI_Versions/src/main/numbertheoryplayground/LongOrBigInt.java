@@ -0,0 +1,107 @@
+package numbertheoryplayground;
+
+import java.math.BigInteger;
+
+/**
+ * An immutable whole number that's kept as a long for as long as it fits in one and as a
+ * BigInteger after that. Most of the LCMs, products and Fibonacci-like numbers that the sections
+ * find fit in a long but some of them don't. Keeping the ones that fit as longs avoids BigIntegers
+ * for them, since a BigInteger has an int[] for its magnitude along with the object itself, and
+ * every operation on one makes a new one of those, even when the numbers are small.
+ *
+ * The operations detect overflow the same way that Math.addExact and Math.multiplyExact do, but
+ * without throwing an exception, and only switch to BigInteger arithmetic when the result doesn't
+ * fit in a long. For multiplying, Math.multiplyHigh gives the high 64 bits of the 128-bit product
+ * and the product fits in a long iff those bits are all copies of the sign bit of the low 64 bits.
+ */
+public final class LongOrBigInt implements Comparable<LongOrBigInt> {
+    /**
+     * The value if it fits in a long. Otherwise, this is 0.
+     */
+    private final long l;
+    
+    /**
+     * The value if it doesn't fit in a long. Otherwise, this is null, so there's only ever 1 way
+     * to hold a value and equals can just compare the fields.
+     */
+    private final BigInteger bigInt;
+    
+    private LongOrBigInt(long l, BigInteger bigInt) {
+        this.l = l;
+        this.bigInt = bigInt;
+    }
+    
+    public static LongOrBigInt valueOf(long l) {
+        return new LongOrBigInt(l, null);
+    }
+    
+    public static LongOrBigInt valueOf(BigInteger bigInt) {
+        return bigInt.bitLength() < Long.SIZE ? new LongOrBigInt(bigInt.longValue(), null) : new LongOrBigInt(0, bigInt);
+    }
+    
+    public boolean fitsInLong() {
+        return bigInt == null;
+    }
+    
+    /**
+     * Returns the value as a long. Throws an ArithmeticException if it doesn't fit in one, like
+     * BigInteger.longValueExact does.
+     */
+    public long longValueExact() {
+        if (bigInt != null) throw new ArithmeticException("The value doesn't fit in a long.");
+        return l;
+    }
+    
+    public BigInteger toBigInteger() {
+        return bigInt == null ? BigInteger.valueOf(l) : bigInt;
+    }
+    
+    public LongOrBigInt add(LongOrBigInt other) {
+        if (bigInt == null && other.bigInt == null) {
+            long sum = l + other.l;
+            // The sum overflowed iff it has a different sign than both of the numbers added.
+            if (((l ^ sum) & (other.l ^ sum)) >= 0) return new LongOrBigInt(sum, null);
+        }
+        return valueOf(toBigInteger().add(other.toBigInteger()));
+    }
+    
+    public LongOrBigInt multiply(long factor) {
+        if (bigInt == null) {
+            long low = l * factor;
+            if (Math.multiplyHigh(l, factor) == low >> 63) return new LongOrBigInt(low, null);
+        }
+        return valueOf(toBigInteger().multiply(BigInteger.valueOf(factor)));
+    }
+    
+    public LongOrBigInt multiply(LongOrBigInt other) {
+        return other.bigInt == null ? multiply(other.l) : valueOf(toBigInteger().multiply(other.bigInt));
+    }
+    
+    public int signum() {
+        return bigInt == null ? Long.signum(l) : bigInt.signum();
+    }
+    
+    @Override
+    public int compareTo(LongOrBigInt other) {
+        if (bigInt == null && other.bigInt == null) return Long.compare(l, other.l);
+        // A value that doesn't fit in a long is further from 0 than any value that does.
+        if (bigInt == null) return -other.bigInt.signum();
+        if (other.bigInt == null) return bigInt.signum();
+        return bigInt.compareTo(other.bigInt);
+    }
+    
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof LongOrBigInt other && l == other.l && (bigInt == null ? other.bigInt == null : bigInt.equals(other.bigInt));
+    }
+    
+    @Override
+    public int hashCode() {
+        return bigInt == null ? Long.hashCode(l) : bigInt.hashCode();
+    }
+    
+    @Override
+    public String toString() {
+        return bigInt == null ? Long.toString(l) : bigInt.toString();
+    }
+}
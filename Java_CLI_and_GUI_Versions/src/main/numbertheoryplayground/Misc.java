@@ -34,7 +34,8 @@ than "natural number.\"""";
     
     
     // Max input constants
-    public static final long ONE_POINT_FIVE_MILLION = 1_500_000;
+    public static final long TEN_MILLION = 10_000_000;
+    public static final long ONE_BILLION = 1_000_000_000;
     public static final long FIVE_HUNDRED_BILLION = 500_000_000_000L;
     public static final long TEN_TRILLION = 10_000_000_000_000L;
     public static final long FIFTY_TRILLION = TEN_TRILLION * 5;
@@ -63,12 +64,42 @@ than "natural number.\"""";
         return commaAdder.format(bi);
     }
     
+    public static String createStringWithCommas(LongOrBigInt num) {
+        return num.fitsInLong() ? createStringWithCommas(num.longValueExact()) : createStringWithCommas(num.toBigInteger());
+    }
+    
     public static String longPairToString(long a, long b) {
         return String.format("%s & %s", createStringWithCommas(a), createStringWithCommas(b));
     }
     
+    /**
+     * The square of a long > 3,037,000,499 doesn't fit in a long, so a BigInteger is used for it
+     * in that case.
+     */
     public static String createLongAndSquareString(long l) {
-        return String.format("%s^2 (%s)", createStringWithCommas(l), createStringWithCommas(l * l));
+        String squareString =
+            Math.abs(l) <= 3_037_000_499L
+            ? createStringWithCommas(l * l)
+            : createStringWithCommas(BigInteger.valueOf(l).pow(2));
+        return String.format("%s^2 (%s)", createStringWithCommas(l), squareString);
+    }
+    
+    /**
+     * Puts the decimal digits of l, which should be ≥ 0, in the char array starting at the index
+     * provided and returns the index after the last digit. This is for writing lots of numbers
+     * without making a String for each one.
+     */
+    public static int putChars(long l, char[] chars, int index) {
+        var numDigits = 1;
+        // 10^19 doesn't fit in a long, but every long has ≤ 19 digits.
+        for (long tenToTheNumDigits = 10; numDigits < 19 && tenToTheNumDigits <= l; tenToTheNumDigits *= 10) {
+            numDigits++;
+        }
+        for (int i = index + numDigits - 1; i >= index; i--) {
+            chars[i] = (char) ('0' + l % 10);
+            l /= 10;
+        }
+        return index + numDigits;
     }
     
     public static String getSpace(int length) {
@@ -0,0 +1,151 @@
+package numbertheoryplayground;
+
+/**
+ * Class that can be instantiated for an odd modulus and does modular multiplication and
+ * exponentiation of longs. Instances of this class are used by algorithms that need to multiply
+ * numbers that can be as big as the max input of a section, like 10 quadrillion, and then find
+ * the remainder when dividing that product by another number. The product of 2 numbers like that
+ * is way too big for a long, so it can't simply be calculated and divided.
+ *
+ * Montgomery multiplication is used to avoid that problem. Numbers get converted to what's called
+ * Montgomery form, which is the number multiplied by 2^64 and then taken mod the modulus. Multiplying
+ * 2 numbers in Montgomery form can then be done with a few long multiplications and no division.
+ * Math.multiplyHigh and Math.unsignedMultiplyHigh are used to get the high 64 bits of 128-bit
+ * products. The modulus has to be odd and < 2^63, which is the case for all the longs used in the
+ * Number Theory Playground.
+ */
+public final class Montgomery {
+    private final long modulus;
+    
+    /**
+     * The long that, when multiplied by the modulus, gives a product whose low 64 bits are 1.
+     */
+    private final long modulusInverse;
+    
+    /**
+     * 2^64 mod the modulus, which is 1 in Montgomery form.
+     */
+    private final long one;
+    
+    /**
+     * (2^64)^2 mod the modulus, which is used for converting numbers to Montgomery form.
+     */
+    private final long rSquared;
+    
+    public Montgomery(long modulus) {
+        if (modulus < 3 || (modulus & 1) == 0) {
+            throw new IllegalArgumentException("The modulus must be odd and > 1.");
+        }
+        
+        this.modulus = modulus;
+        
+        /*
+        Use Newton's method to find the inverse. Each iteration doubles the number of correct low
+        bits. The modulus is its own inverse for the low 3 bits, so 5 iterations are enough to go
+        from 3 correct bits to 64.
+         */
+        long inverse = modulus;
+        for (var i = 0; i < 5; i++) {
+            inverse *= 2 - modulus * inverse;
+        }
+        modulusInverse = inverse;
+        
+        // -modulus as an unsigned long is 2^64 − modulus, which is congruent to 2^64.
+        one = Long.remainderUnsigned(-modulus, modulus);
+        
+        /*
+        Find 2^128 mod the modulus by doubling 2^64 mod the modulus 64 times. The modulus is
+        < 2^63 so doubling a number < the modulus won't go over 2^64, but it can go over the max
+        long so the comparison is unsigned.
+         */
+        long tempRSquared = one;
+        for (var i = 0; i < 64; i++) {
+            tempRSquared <<= 1;
+            if (Long.compareUnsigned(tempRSquared, modulus) >= 0) {
+                tempRSquared -= modulus;
+            }
+        }
+        rSquared = tempRSquared;
+    }
+    
+    public long getModulus() {
+        return modulus;
+    }
+    
+    /**
+     * Returns 1 in Montgomery form.
+     */
+    public long getOne() {
+        return one;
+    }
+    
+    /**
+     * Returns the Montgomery form of a, which should be ≥ 0.
+     */
+    public long toMontgomery(long a) {
+        return multiply(a % modulus, rSquared);
+    }
+    
+    /**
+     * Returns the regular form of a, which should be in Montgomery form.
+     */
+    public long fromMontgomery(long a) {
+        return reduce(0, a);
+    }
+    
+    /**
+     * Returns the Montgomery form of the product of a and b, which should both be in Montgomery
+     * form. This also works if 1 of them is in regular form, in which case the result is in
+     * regular form.
+     */
+    public long multiply(long a, long b) {
+        return reduce(Math.multiplyHigh(a, b), a * b);
+    }
+    
+    /**
+     * Returns the Montgomery form of base raised to the exponent. base should be in Montgomery form
+     * and the exponent should be ≥ 0.
+     */
+    public long pow(long base, long exponent) {
+        long result = one;
+        while (exponent > 0) {
+            if ((exponent & 1) == 1) {
+                result = multiply(result, base);
+            }
+            base = multiply(base, base);
+            exponent >>>= 1;
+        }
+        return result;
+    }
+    
+    /**
+     * Returns the regular form of a × b mod the modulus, where a and b are in regular form.
+     */
+    public long multiplyMod(long a, long b) {
+        return multiply(toMontgomery(a), b % modulus);
+    }
+    
+    /**
+     * Returns the regular form of base raised to the exponent mod the modulus, where base is in
+     * regular form.
+     */
+    public long powMod(long base, long exponent) {
+        return fromMontgomery(pow(toMontgomery(base), exponent));
+    }
+    
+    /**
+     * Divides the 128-bit number with the high and low 64 bits provided by 2^64, mod the modulus.
+     * The high bits should be < the modulus, which they will be if they came from multiplying
+     * 2 numbers < the modulus.
+     */
+    private long reduce(long high, long low) {
+        /*
+        q is chosen so that q × modulus has the same low 64 bits as the 128-bit number, so
+        subtracting q × modulus leaves a number whose low 64 bits are 0 and the high 64 bits are
+        the result of the division.
+         */
+        long q = low * modulusInverse;
+        long result = high - Math.unsignedMultiplyHigh(q, modulus);
+        return result < 0 ? result + modulus : result;
+    }
+}
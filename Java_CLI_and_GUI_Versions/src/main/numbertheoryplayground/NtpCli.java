@@ -148,12 +148,29 @@ public class NtpCli {
                     
                 default:
                     try {
-                        if (section instanceof SingleInputSection sis) {
+                        String[] inputContents = input.split("\\s+");
+                        Optional<Section.ExtraCliChoice> extraChoice =
+                            section.getExtraCliChoices()
+                            .stream()
+                            .filter(choice -> choice.value().equals(inputContents[0]))
+                            .findFirst();
+                        
+                        if (extraChoice.isPresent()) {
+                            int numInputs = inputContents.length - 1;
+                            if (numInputs < extraChoice.get().minNumInputs() || numInputs > extraChoice.get().maxNumInputs()) {
+                                printInvalidInput();
+                            } else {
+                                var inputLongs = new long[numInputs];
+                                for (var i = 0; i < inputLongs.length; i++) {
+                                    inputLongs[i] = stripCommasAndParse(inputContents[i + 1]);
+                                }
+                                println(extraChoice.get().answerFunction().apply(inputLongs));
+                            }
+                        } else if (section instanceof SingleInputSection sis) {
                             var inputLong = stripCommasAndParse(input);
                             var inputString = createStringWithCommas(inputLong);
                             println(sis.getCliAnswer(inputLong, inputString));
                         } else if (section instanceof DoubleInputSection dis) {
-                            String[] inputContents = input.split("\\s+");
                             if (inputContents.length != 2) {
                                 printInvalidInput();
                             } else {
@@ -199,16 +216,29 @@ public class NtpCli {
                 infoValue, section.getCliInfoOptionEnding()
             );
         
+        Stream<String> extraChoices =
+            section.getExtraCliChoices()
+            .stream()
+            .map(choice ->
+                String.format(
+                    "\"%s\" followed by %s whitespace-separated whole numbers to %s",
+                    choice.value(),
+                    choice.minNumInputs() == choice.maxNumInputs()
+                        ? String.valueOf(choice.minNumInputs())
+                        : choice.minNumInputs() + " to " + choice.maxNumInputs(),
+                    choice.sentenceEnding()
+                )
+            );
+        
         String menuChoice = String.format("\"%s\" to go to the main menu.", menuValue);
         
         Stream<String> lines =
             Stream.of(
-                "Enter one of the following:",
-                numChoice,
-                randomChoice,
-                infoChoice,
-                menuChoice
-            );
+                Stream.of("Enter one of the following:", numChoice, randomChoice),
+                extraChoices,
+                Stream.of(infoChoice, menuChoice)
+            )
+            .flatMap(s -> s);
         
         return buildStringWithStreamElementsOnSeparateLines(lines);
     }
@@ -0,0 +1,268 @@
+package numbertheoryplayground;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+import static numbertheoryplayground.sectionclasses.outer.PrimeNumbers.isPrime;
+
+/**
+ * Utility class for finding all the primes in a range of longs with a segmented sieve of
+ * Eratosthenes. Instead of checking the longs in the range one at a time for primality, the range
+ * gets split into windows, or segments, and for each segment, the multiples of the primes ≤ the
+ * square root of the end of the segment get crossed off. The longs that are left are the primes.
+ * Those primes ≤ the square root are called base primes and they're cached so that they only
+ * have to be found once, since the same ones get used again and again.
+ *
+ * Only odd longs are stored in a segment since 2 is the only even prime.
+ */
+public final class PrimeSieve {
+    private PrimeSieve() {}
+    
+    /**
+     * The default number of odd longs in the first segment of an iterator. Each segment after the
+     * first has twice as many odd longs as the previous one, up to MAX_SEGMENT_LENGTH.
+     */
+    private static final int DEFAULT_FIRST_SEGMENT_LENGTH = 1 << 12;
+    
+    /**
+     * The max number of odd longs in a segment. A segment with this many takes up 256 KB.
+     */
+    private static final int MAX_SEGMENT_LENGTH = 1 << 18;
+    
+    /**
+     * If the square root of the end of a segment is > this times the number of odd longs in the
+     * segment, then the segment is only sieved with the base primes ≤ this times the number of odd
+     * longs and the longs that are left get checked with PrimeNumbers.isPrime.
+     */
+    private static final int PARTIAL_SIEVE_FACTOR = 16;
+    
+    /**
+     * Contains all the odd primes ≤ basePrimesLimit in increasing order. This may contain more
+     * primes than are needed for sieving a segment.
+     */
+    private static int[] basePrimes = {};
+    
+    private static int basePrimesLimit = 1;
+    
+    /**
+     * Returns an array with all the odd primes ≤ at least the max provided, in increasing order.
+     * If the cached base primes don't go up to the max, then the cache gets replaced with the
+     * primes up to at least double the old limit, so that the cache doesn't have to be replaced
+     * every time the max goes up by a little bit. TwinPrimeSieve and Semiprimes also use these.
+     * The array returned shouldn't be modified.
+     */
+    public static synchronized int[] getBasePrimes(long max) {
+        if (max <= basePrimesLimit) return basePrimes;
+        
+        var newLimit = (int) Math.min(Integer.MAX_VALUE - 1, Math.max(max, 2L * basePrimesLimit));
+        // isComposite[i] is for the odd int 2i + 1.
+        var isComposite = new boolean[newLimit / 2 + 1];
+        var numPrimes = 0;
+        
+        for (var i = 1; i < isComposite.length; i++) {
+            if (isComposite[i]) continue;
+            numPrimes++;
+            long prime = 2L * i + 1;
+            for (long j = prime * prime / 2; j < isComposite.length; j += prime) {
+                isComposite[(int) j] = true;
+            }
+        }
+        
+        var newBasePrimes = new int[numPrimes];
+        var primeIndex = 0;
+        for (var i = 1; i < isComposite.length; i++) {
+            if (!isComposite[i]) {
+                newBasePrimes[primeIndex++] = 2 * i + 1;
+            }
+        }
+        
+        basePrimes = newBasePrimes;
+        basePrimesLimit = newLimit;
+        return newBasePrimes;
+    }
+    
+    /**
+     * Returns an iterator for all the primes ≥ from and < to, in increasing order. from should be
+     * ≥ 0 and ≤ to. The base primes go up to the square root of to, so for the iterator to be
+     * quick, to should be ≤ around 10^16 or the iteration should be stopped well before reaching
+     * to.
+     */
+    public static PrimitiveIterator.OfLong iterator(long from, long to) {
+        return new PrimeIterator(from, to, DEFAULT_FIRST_SEGMENT_LENGTH);
+    }
+    
+    /**
+     * Returns a stream of all the primes ≥ from and < to, in increasing order. The same
+     * requirements as for iterator apply.
+     */
+    public static LongStream stream(long from, long to) {
+        Spliterator.OfLong spliterator =
+            Spliterators.spliteratorUnknownSize(
+                iterator(from, to),
+                Spliterator.ORDERED | Spliterator.SORTED | Spliterator.DISTINCT | Spliterator.NONNULL
+            );
+        return StreamSupport.longStream(spliterator, false);
+    }
+    
+    /**
+     * Returns an array of the first numPrimes primes ≥ min. The first segment is made big enough
+     * to most likely have all of them, based on the fact that the average gap between primes
+     * around min is around the natural log of min. If it doesn't, more segments get sieved.
+     */
+    public static long[] getNextPrimes(long min, int numPrimes) {
+        double averageGap = Math.max(2, Math.log(min));
+        var estimatedNumOddLongs = (int) Math.min(MAX_SEGMENT_LENGTH, numPrimes * averageGap);
+        var iterator = new PrimeIterator(min, Long.MAX_VALUE, Math.max(64, estimatedNumOddLongs));
+        
+        var primes = new long[numPrimes];
+        for (var i = 0; i < numPrimes; i++) {
+            primes[i] = iterator.nextLong();
+        }
+        return primes;
+    }
+    
+    
+    private static final class PrimeIterator implements PrimitiveIterator.OfLong {
+        private final long to;
+        
+        /**
+         * The odd long that the first element of isComposite is for. The element at index i is
+         * for segmentStart + 2i.
+         */
+        private long segmentStart;
+        
+        private int segmentLength;
+        
+        private int nextSegmentLength;
+        
+        private boolean[] isComposite;
+        
+        /**
+         * The index in isComposite where the search for the next prime starts.
+         */
+        private int index;
+        
+        /**
+         * Whether 2 is the next prime. 2 isn't in any segment since segments only have odd longs.
+         */
+        private boolean nextIs2;
+        
+        /**
+         * The next prime to return, or -1 if there are no more primes or it hasn't been found yet.
+         */
+        private long next = -1;
+        
+        private boolean isDone;
+        
+        /**
+         * Whether the current segment was only sieved with some of the base primes, in which case
+         * the longs that weren't crossed off might not be prime.
+         */
+        private boolean survivorsNeedChecking;
+        
+        private PrimeIterator(long from, long to, int firstSegmentLength) {
+            this.to = to;
+            nextIs2 = from <= 2 && 2 < to;
+            // Start at the first odd long ≥ from, skipping 1 since it's not prime.
+            segmentStart = Math.max(3, from | 1);
+            nextSegmentLength = firstSegmentLength;
+            isComposite = new boolean[0];
+        }
+        
+        @Override
+        public boolean hasNext() {
+            if (nextIs2 || next != -1) return true;
+            if (isDone) return false;
+            
+            while (true) {
+                while (index < segmentLength) {
+                    long l = segmentStart + 2L * index++;
+                    if (!isComposite[index - 1] && (!survivorsNeedChecking || isPrime(l))) {
+                        next = l;
+                        return true;
+                    }
+                }
+                
+                if (!sieveNextSegment()) {
+                    isDone = true;
+                    return false;
+                }
+            }
+        }
+        
+        @Override
+        public long nextLong() {
+            if (!hasNext()) throw new NoSuchElementException();
+            
+            if (nextIs2) {
+                nextIs2 = false;
+                return 2;
+            }
+            
+            long prime = next;
+            next = -1;
+            return prime;
+        }
+        
+        /**
+         * Moves to the segment after the current one and crosses off the multiples of the base
+         * primes in it. Returns false if there are no more odd longs < to.
+         */
+        private boolean sieveNextSegment() {
+            segmentStart += 2L * segmentLength;
+            if (segmentStart >= to || segmentStart < 0) return false;
+            
+            // The number of odd longs that are ≥ segmentStart and < to, which might be > an int.
+            long numOddLongsLeft = (to - segmentStart + 1) / 2;
+            segmentLength = (int) Math.min(nextSegmentLength, numOddLongsLeft);
+            nextSegmentLength = Math.min(MAX_SEGMENT_LENGTH, 2 * nextSegmentLength);
+            index = 0;
+            
+            if (isComposite.length < segmentLength) {
+                isComposite = new boolean[segmentLength];
+            } else {
+                Arrays.fill(isComposite, 0, segmentLength, false);
+            }
+            
+            long segmentEnd = segmentStart + 2L * (segmentLength - 1);
+            long maxBasePrime = (long) Math.sqrt((double) segmentEnd) + 1;
+            
+            /*
+            For a small segment of big longs, most of the base primes don't have any multiples in
+            the segment but there's still a division done for each one to find that out. In that
+            case, only sieve with the smaller base primes and check the longs that are left with
+            the Miller-Rabin test, since that's quicker.
+             */
+            long partialSieveLimit = (long) PARTIAL_SIEVE_FACTOR * segmentLength;
+            survivorsNeedChecking = maxBasePrime > partialSieveLimit;
+            if (survivorsNeedChecking) {
+                maxBasePrime = partialSieveLimit;
+            }
+            
+            for (int prime : getBasePrimes(maxBasePrime)) {
+                if (prime > maxBasePrime) break;
+                
+                // Start at the square of the prime or the first odd multiple of it in the segment.
+                long square = (long) prime * prime;
+                long firstMultiple;
+                if (square >= segmentStart) {
+                    firstMultiple = square;
+                } else {
+                    firstMultiple = (segmentStart + prime - 1) / prime * prime;
+                    if ((firstMultiple & 1) == 0) firstMultiple += prime;
+                }
+                
+                for (long i = (firstMultiple - segmentStart) / 2; i < segmentLength; i += prime) {
+                    isComposite[(int) i] = true;
+                }
+            }
+            
+            return true;
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package numbertheoryplayground;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+import static numbertheoryplayground.sectionclasses.outer.PrimeNumbers.isPrime;
+
+/**
+ * Utility class for finding the primes in an arithmetic progression, which are the primes that
+ * have a certain remainder, or residue, when divided by a modulus. For example, the Pythagorean
+ * primes are the primes that are 1 mod 4. Just like TwinPrimeSieve, a segment has an element for
+ * each member of the progression in a range instead of for each long, so with a modulus of m, a
+ * segment covers m times as many longs as it has elements.
+ *
+ * For a base prime p that doesn't divide the modulus, the members of the progression are
+ * first + km for whole numbers k, and p divides first + km when k mod p is −first × the inverse
+ * of m mod p. So each base prime crosses off every pth element starting at 1 spot. If p divides
+ * the modulus, then it doesn't divide any member since the residue and modulus have to have a GCD
+ * of 1. This uses the same base primes as PrimeSieve.
+ */
+public final class ProgressionPrimeSieve {
+    private ProgressionPrimeSieve() {}
+    
+    /**
+     * The default number of members in the first segment of an iterator. Each segment after the
+     * first has twice as many members as the previous one, up to MAX_SEGMENT_LENGTH.
+     */
+    private static final int DEFAULT_FIRST_SEGMENT_LENGTH = 1 << 12;
+    
+    /**
+     * The max number of members in a segment. A segment with this many takes up 256 KB.
+     */
+    private static final int MAX_SEGMENT_LENGTH = 1 << 18;
+    
+    /**
+     * Just like in PrimeSieve, if the square root of the last member of a segment is > this times
+     * the number of members in the segment, then the segment is only sieved with the base primes
+     * ≤ this times the number of members and the members that are left get checked with
+     * PrimeNumbers.isPrime.
+     */
+    private static final int PARTIAL_SIEVE_FACTOR = 16;
+    
+    /**
+     * Returns an iterator for all the primes ≥ from and < to that are the residue mod the
+     * modulus, in increasing order. from should be ≥ 0 and ≤ to, the modulus should be ≥ 1, and
+     * the residue and modulus should have a GCD of 1. If they don't, then there's at most 1 prime
+     * in the progression, which is the GCD, so an IllegalArgumentException is thrown.
+     */
+    public static PrimitiveIterator.OfLong iterator(long from, long to, long modulus, long residue) {
+        return new PrimeIterator(from, to, modulus, residue, DEFAULT_FIRST_SEGMENT_LENGTH);
+    }
+    
+    /**
+     * Returns the first prime ≥ min that's the residue mod the modulus. The same requirements as
+     * for iterator apply. There's always a prime like that by Dirichlet's theorem on arithmetic
+     * progressions, as long as it's not > the max value for a long.
+     */
+    public static long getNextPrime(long min, long modulus, long residue) {
+        return getNextPrimes(min, 1, modulus, residue)[0];
+    }
+    
+    /**
+     * Returns an array of the first numPrimes primes ≥ min that are the residue mod the modulus.
+     * Around 1 in every ln(min) longs around min is prime, so the first segment is made big enough
+     * to most likely have all of them, based on that.
+     */
+    public static long[] getNextPrimes(long min, int numPrimes, long modulus, long residue) {
+        double averageGap = Math.max(2, Math.log(min));
+        var estimatedNumMembers = (int) Math.min(MAX_SEGMENT_LENGTH, numPrimes * averageGap * 1.5);
+        var iterator =
+            new PrimeIterator(min, Long.MAX_VALUE, modulus, residue, Math.max(64, estimatedNumMembers));
+        
+        var primes = new long[numPrimes];
+        for (var i = 0; i < numPrimes; i++) {
+            primes[i] = iterator.nextLong();
+        }
+        return primes;
+    }
+    
+    
+    private static final class PrimeIterator implements PrimitiveIterator.OfLong {
+        private final long modulus;
+        
+        /**
+         * The first member of the progression that's ≥ the "from" long provided to the
+         * constructor, and ≥ 2 since 0 and 1 aren't prime.
+         */
+        private final long firstMember;
+        
+        /**
+         * The number of members of the progression from firstMember that are < the "to" long
+         * provided to the constructor.
+         */
+        private final long numMembers;
+        
+        /**
+         * The index of the member, counting from firstMember, that the first element of
+         * isComposite is for.
+         */
+        private long segmentStart;
+        
+        private int segmentLength;
+        
+        private int nextSegmentLength;
+        
+        private boolean[] isComposite;
+        
+        private int index;
+        
+        /**
+         * The next prime to return, or -1 if there are no more or it hasn't been found yet.
+         */
+        private long next = -1;
+        
+        private boolean isDone;
+        
+        /**
+         * Whether the current segment was only sieved with some of the base primes, in which case
+         * the members that weren't crossed off might not be prime.
+         */
+        private boolean survivorsNeedChecking;
+        
+        private PrimeIterator(long from, long to, long modulus, long residue, int firstSegmentLength) {
+            if (modulus < 1) {
+                throw new IllegalArgumentException("The modulus must be ≥ 1.");
+            }
+            residue = Math.floorMod(residue, modulus);
+            if (Gcd.gcd(residue, modulus) != 1) {
+                throw new IllegalArgumentException("The residue and modulus must have a GCD of 1.");
+            }
+            
+            this.modulus = modulus;
+            long min = Math.max(2, from);
+            long firstMemberCandidate = min + Math.floorMod(residue - min, modulus);
+            // If the first member would be > the max value for a long, then it overflows.
+            if (firstMemberCandidate < 0 || firstMemberCandidate >= to) {
+                firstMember = 0;
+                numMembers = 0;
+            } else {
+                firstMember = firstMemberCandidate;
+                numMembers = (to - 1 - firstMember) / modulus + 1;
+            }
+            
+            nextSegmentLength = firstSegmentLength;
+            isComposite = new boolean[0];
+        }
+        
+        @Override
+        public boolean hasNext() {
+            if (next != -1) return true;
+            if (isDone) return false;
+            
+            while (true) {
+                while (index < segmentLength) {
+                    long member = firstMember + (segmentStart + index) * modulus;
+                    if (!isComposite[index++] && (!survivorsNeedChecking || isPrime(member))) {
+                        next = member;
+                        return true;
+                    }
+                }
+                
+                if (!sieveNextSegment()) {
+                    isDone = true;
+                    return false;
+                }
+            }
+        }
+        
+        @Override
+        public long nextLong() {
+            if (!hasNext()) throw new NoSuchElementException();
+            
+            long prime = next;
+            next = -1;
+            return prime;
+        }
+        
+        /**
+         * Moves to the segment after the current one and crosses off the members that are
+         * divisible by a base prime. Returns false if there are no more members.
+         */
+        private boolean sieveNextSegment() {
+            segmentStart += segmentLength;
+            if (segmentStart >= numMembers) return false;
+            
+            segmentLength = (int) Math.min(nextSegmentLength, numMembers - segmentStart);
+            nextSegmentLength = Math.min(MAX_SEGMENT_LENGTH, 2 * nextSegmentLength);
+            index = 0;
+            
+            if (isComposite.length < segmentLength) {
+                isComposite = new boolean[segmentLength];
+            } else {
+                Arrays.fill(isComposite, 0, segmentLength, false);
+            }
+            
+            long segmentStartMember = firstMember + segmentStart * modulus;
+            long segmentEndMember = segmentStartMember + (segmentLength - 1) * modulus;
+            long maxBasePrime = (long) Math.sqrt((double) segmentEndMember) + 1;
+            long partialSieveLimit = (long) PARTIAL_SIEVE_FACTOR * segmentLength;
+            survivorsNeedChecking = maxBasePrime > partialSieveLimit;
+            if (survivorsNeedChecking) {
+                maxBasePrime = partialSieveLimit;
+            }
+            
+            // If the modulus is odd, then every other member is even.
+            if ((modulus & 1) == 1) {
+                long firstEvenIndex = segmentStartMember & 1;
+                if (segmentStartMember + firstEvenIndex * modulus == 2) firstEvenIndex += 2;
+                for (long i = firstEvenIndex; i < segmentLength; i += 2) {
+                    isComposite[(int) i] = true;
+                }
+            }
+            
+            for (int prime : PrimeSieve.getBasePrimes(maxBasePrime)) {
+                if (prime > maxBasePrime) break;
+                
+                long modulusModPrime = modulus % prime;
+                // The prime divides the modulus so it doesn't divide any member.
+                if (modulusModPrime == 0) continue;
+                
+                long startModPrime = segmentStartMember % prime;
+                long modulusInverse = Gcd.modInverse(modulusModPrime, prime).getAsLong();
+                long firstIndex = (prime - startModPrime) % prime * modulusInverse % prime;
+                // The prime itself might be a member and it shouldn't be crossed off.
+                if (segmentStartMember + firstIndex * modulus == prime) firstIndex += prime;
+                
+                for (long i = firstIndex; i < segmentLength; i += prime) {
+                    isComposite[(int) i] = true;
+                }
+            }
+            
+            return true;
+        }
+    }
+}
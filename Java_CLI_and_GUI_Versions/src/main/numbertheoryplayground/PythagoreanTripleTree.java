@@ -0,0 +1,262 @@
+package numbertheoryplayground;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Utility class for going through all the primitive Pythagorean triples with a hypotenuse ≤ some
+ * max, and optionally the multiples of them too, using the tree of primitive triples that was
+ * found by Berggren and later by Barning. The root of the tree is 3, 4, and 5 and every primitive
+ * triple a, b, and c has these 3 children, which are also primitive triples:
+ *
+ * a − 2b + 2c, 2a − b + 2c, and 2a − 2b + 3c
+ * a + 2b + 2c, 2a + b + 2c, and 2a + 2b + 3c
+ * −a + 2b + 2c, −2a + b + 2c, and −2a + 2b + 3c
+ *
+ * Every primitive triple is in the tree exactly once and the hypotenuse of a child is always
+ * bigger than the hypotenuse of its parent, so the tree can be walked without going past the max
+ * hypotenuse. The legs in the tree aren't always in increasing order, so they get swapped when
+ * they aren't before a triple is given to a TripleConsumer.
+ *
+ * The tree is walked with a stack of ints instead of recursion since some branches, like the one
+ * with 3, 4, and 5, then 5, 12, and 13, then 7, 24, and 25, and so on, get as deep as around the
+ * square root of half of the max hypotenuse. No objects are created for the triples.
+ */
+public final class PythagoreanTripleTree {
+    private PythagoreanTripleTree() {}
+    
+    /**
+     * Receives the short leg length, long leg length, and hypotenuse of a Pythagorean triple.
+     */
+    @FunctionalInterface
+    public interface TripleConsumer {
+        void accept(int a, int b, int c);
+    }
+    
+    /**
+     * Holds triples in 3 int arrays, 1 for the short leg lengths, 1 for the long leg lengths, and 1
+     * for the hypotenuses, so that lots of triples can be kept without an object for each one. A
+     * batch is a TripleConsumer that adds each triple it receives. writeTriples uses one as a
+     * buffer.
+     */
+    private static final class TripleBatch implements TripleConsumer {
+        private int[] as = new int[64];
+        
+        private int[] bs = new int[64];
+        
+        private int[] cs = new int[64];
+        
+        private int size;
+        
+        @Override
+        public void accept(int a, int b, int c) {
+            if (size == as.length) {
+                as = Arrays.copyOf(as, 2 * size);
+                bs = Arrays.copyOf(bs, 2 * size);
+                cs = Arrays.copyOf(cs, 2 * size);
+            }
+            as[size] = a;
+            bs[size] = b;
+            cs[size] = c;
+            size++;
+        }
+        
+        private int size() {
+            return size;
+        }
+        
+        /**
+         * Removes all the triples from this batch but keeps the arrays, so it can be filled again
+         * without allocating anything.
+         */
+        private void clear() {
+            size = 0;
+        }
+    }
+    
+    /**
+     * Gives each primitive Pythagorean triple with a hypotenuse ≤ maxC to the consumer, along with
+     * each multiple of it with a hypotenuse ≤ maxC if includeMultiples is true. maxC should be
+     * ≥ 0. The triples are in no particular order but a multiple of a primitive triple always
+     * comes right after it.
+     */
+    public static void forEachTriple(int maxC, boolean includeMultiples, TripleConsumer consumer) {
+        walkSubtree(3, 4, 5, maxC, includeMultiples, consumer);
+    }
+    
+    /**
+     * The number of triples written, the number of chars written, including the commas and new
+     * line chars, and how long it took to write them, in nanoseconds.
+     */
+    public record WriteStats(long numTriples, long numChars, long nanos) {
+        public double getTriplesPerSecond() {
+            return numTriples / (nanos / 1e9);
+        }
+        
+        public double getCharsPerSecond() {
+            return numChars / (nanos / 1e9);
+        }
+    }
+    
+    /**
+     * The number of triples that writeTriples puts in a batch before writing them.
+     */
+    private static final int WRITE_BATCH_SIZE = 4096;
+    
+    /**
+     * The max number of chars in a line that writeTriples writes, which is 3 ints with up to 10
+     * digits each, 2 commas, and a new line char.
+     */
+    private static final int MAX_LINE_LENGTH = 33;
+    
+    /**
+     * Writes each triple that forEachTriple would give to a consumer to a line of the writer, as
+     * the short leg length, long leg length, and hypotenuse separated by commas. The writer
+     * doesn't get closed or flushed, so it can be for System.out.
+     *
+     * The triples get put in a TripleBatch, and once it's full, the digits of all of them get put
+     * in a char array that gets written with 1 call. The batch and the char array get reused, so
+     * nothing gets allocated for each triple, unlike appending each line to the writer as a
+     * CharSequence, which makes a String for it.
+     */
+    public static WriteStats writeTriples(int maxC, boolean includeMultiples, Writer writer) throws IOException {
+        long startTime = System.nanoTime();
+        var batch = new TripleBatch();
+        var chars = new char[MAX_LINE_LENGTH * WRITE_BATCH_SIZE];
+        var counts = new long[2];
+        try {
+            forEachTriple(maxC, includeMultiples, (a, b, c) -> {
+                batch.accept(a, b, c);
+                if (batch.size() == WRITE_BATCH_SIZE) {
+                    writeBatch(batch, chars, writer, counts);
+                }
+            });
+            writeBatch(batch, chars, writer, counts);
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+        return new WriteStats(counts[0], counts[1], System.nanoTime() - startTime);
+    }
+    
+    /**
+     * Writes the triples to the file at the path provided like the other writeTriples does. The
+     * file gets created if it doesn't exist and overwritten if it does.
+     */
+    public static WriteStats writeTriples(int maxC, boolean includeMultiples, Path path) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(path)) {
+            return writeTriples(maxC, includeMultiples, writer);
+        }
+    }
+    
+    /**
+     * Writes the triples in the batch to the writer like writeTriples does, using the char array
+     * as a buffer, and then clears the batch. The number of triples and chars written get added
+     * to the first and 2nd elements of counts.
+     */
+    private static void writeBatch(TripleBatch batch, char[] chars, Writer writer, long[] counts) {
+        var numChars = 0;
+        for (var i = 0; i < batch.size; i++) {
+            numChars = Misc.putChars(batch.as[i], chars, numChars);
+            chars[numChars++] = ',';
+            numChars = Misc.putChars(batch.bs[i], chars, numChars);
+            chars[numChars++] = ',';
+            numChars = Misc.putChars(batch.cs[i], chars, numChars);
+            chars[numChars++] = '\n';
+        }
+        
+        try {
+            writer.write(chars, 0, numChars);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        counts[0] += batch.size;
+        counts[1] += numChars;
+        batch.clear();
+    }
+    
+    /**
+     * Gives the primitive triple and, if includeMultiples is true, its multiples with a hypotenuse
+     * ≤ maxC to the consumer, with the legs in increasing order.
+     */
+    private static void accept(int a, int b, int c, int maxC, boolean includeMultiples, TripleConsumer consumer) {
+        int shortLeg = Math.min(a, b);
+        int longLeg = Math.max(a, b);
+        consumer.accept(shortLeg, longLeg, c);
+        
+        if (includeMultiples) {
+            for (int multiple = 2, maxMultiple = maxC / c; multiple <= maxMultiple; multiple++) {
+                consumer.accept(multiple * shortLeg, multiple * longLeg, multiple * c);
+            }
+        }
+    }
+    
+    /**
+     * Puts the 3 ints of each child of the triple that has a hypotenuse ≤ maxC into the array
+     * provided starting at the index provided, and returns the index after the last int put in.
+     * The array should have room for 9 more ints. The children are calculated with longs since
+     * 2a + 2b + 3c could be too big for an int.
+     */
+    private static int addChildren(int a, int b, int c, int maxC, int[] array, int index) {
+        long c1 = 2L * a - 2L * b + 3L * c;
+        if (c1 <= maxC) {
+            array[index++] = a - 2 * b + 2 * c;
+            array[index++] = 2 * a - b + 2 * c;
+            array[index++] = (int) c1;
+        }
+        
+        long c2 = 2L * a + 2L * b + 3L * c;
+        if (c2 <= maxC) {
+            array[index++] = a + 2 * b + 2 * c;
+            array[index++] = 2 * a + b + 2 * c;
+            array[index++] = (int) c2;
+        }
+        
+        long c3 = -2L * a + 2L * b + 3L * c;
+        if (c3 <= maxC) {
+            array[index++] = -a + 2 * b + 2 * c;
+            array[index++] = -2 * a + b + 2 * c;
+            array[index++] = (int) c3;
+        }
+        
+        return index;
+    }
+    
+    /**
+     * Walks the subtree whose root is the primitive triple provided, giving each triple with a
+     * hypotenuse ≤ maxC to the consumer.
+     */
+    private static void walkSubtree(
+        int rootA,
+        int rootB,
+        int rootC,
+        int maxC,
+        boolean includeMultiples,
+        TripleConsumer consumer
+    ) {
+        if (rootC > maxC) return;
+        
+        // The stack has 3 ints for each triple on it.
+        var stack = new int[3 * 64];
+        stack[0] = rootA;
+        stack[1] = rootB;
+        stack[2] = rootC;
+        var stackSize = 3;
+        
+        while (stackSize > 0) {
+            int c = stack[--stackSize];
+            int b = stack[--stackSize];
+            int a = stack[--stackSize];
+            accept(a, b, c, maxC, includeMultiples, consumer);
+            
+            if (stackSize + 9 > stack.length) {
+                stack = Arrays.copyOf(stack, 2 * stack.length);
+            }
+            stackSize = addChildren(a, b, c, maxC, stack, stackSize);
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package numbertheoryplayground;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+import static numbertheoryplayground.sectionclasses.outer.PrimeNumbers.isPrime;
+
+/**
+ * Utility class for finding twin prime pairs with a segmented sieve. All twin prime pairs besides
+ * 3 and 5 are 6k − 1 and 6k + 1 for some whole number k, so a segment has an element for each k
+ * in a range instead of for each long. An element gets crossed off as soon as either 6k − 1 or
+ * 6k + 1 is found to be divisible by a base prime, and the elements that are left are for the
+ * pair starts.
+ *
+ * For a base prime p ≥ 5, p divides 6k − 1 when 6k mod p = 1, which is when k mod p is the inverse
+ * of 6 mod p. Similarly, p divides 6k + 1 when k mod p is p − that inverse. So each base prime
+ * crosses off every pth element starting at 2 different spots. This uses the same base primes as
+ * PrimeSieve.
+ */
+public final class TwinPrimeSieve {
+    private TwinPrimeSieve() {}
+    
+    /**
+     * The default number of ks in the first segment of an iterator. Each segment after the first
+     * has twice as many ks as the previous one, up to MAX_SEGMENT_LENGTH.
+     */
+    private static final int DEFAULT_FIRST_SEGMENT_LENGTH = 1 << 12;
+    
+    /**
+     * The max number of ks in a segment. A segment with this many takes up 128 KB, which covers
+     * 786,432 longs.
+     */
+    private static final int MAX_SEGMENT_LENGTH = 1 << 17;
+    
+    /**
+     * Just like in PrimeSieve, if the square root of the end of a segment is > this times the
+     * number of ks in the segment, then the segment is only sieved with the base primes ≤ this
+     * times the number of ks and the pairs that are left get checked with PrimeNumbers.isPrime.
+     */
+    private static final int PARTIAL_SIEVE_FACTOR = 16;
+    
+    /**
+     * Returns an iterator for the starts of all the twin prime pairs where the start is ≥ from and
+     * < to, in increasing order. from should be ≥ 0 and ≤ to.
+     */
+    public static PrimitiveIterator.OfLong iterator(long from, long to) {
+        return new PairStartIterator(from, to, DEFAULT_FIRST_SEGMENT_LENGTH);
+    }
+    
+    /**
+     * Returns the number of twin prime pairs where the start is ≥ from and < to.
+     */
+    public static long countPairs(long from, long to) {
+        var iterator = iterator(from, to);
+        var count = 0L;
+        while (iterator.hasNext()) {
+            iterator.nextLong();
+            count++;
+        }
+        return count;
+    }
+    
+    /**
+     * Returns an array of the starts of the first numPairs twin prime pairs where the start is
+     * ≥ min. Twin prime pairs around a long x are on average around (ln x)^2 / 1.32 apart, so the
+     * first segment is made big enough to most likely have all of them.
+     */
+    public static long[] getNextPairStarts(long min, int numPairs) {
+        double log = Math.max(2, Math.log(min));
+        double averageGapInKs = log * log / 1.32 / 6;
+        var estimatedNumKs = (int) Math.min(MAX_SEGMENT_LENGTH, numPairs * averageGapInKs * 1.5);
+        var iterator = new PairStartIterator(min, Long.MAX_VALUE, Math.max(64, estimatedNumKs));
+        
+        var pairStarts = new long[numPairs];
+        for (var i = 0; i < numPairs; i++) {
+            pairStarts[i] = iterator.nextLong();
+        }
+        return pairStarts;
+    }
+    
+    /**
+     * Returns the inverse of 6 mod the prime, which should be ≥ 5. If p mod 6 = 1, then
+     * 6 × (5p + 1) / 6 = 5p + 1, which is 1 mod p. If p mod 6 = 5, then 6 × (p + 1) / 6 = p + 1,
+     * which is also 1 mod p.
+     */
+    private static long inverseOf6(long prime) {
+        return prime % 6 == 1 ? (5 * prime + 1) / 6 : (prime + 1) / 6;
+    }
+    
+    
+    private static final class PairStartIterator implements PrimitiveIterator.OfLong {
+        /**
+         * The max k + 1 for a pair start < the "to" long provided to the constructor.
+         */
+        private final long kEnd;
+        
+        /**
+         * The k that the first element of isCrossedOff is for.
+         */
+        private long segmentStart;
+        
+        private int segmentLength;
+        
+        private int nextSegmentLength;
+        
+        private boolean[] isCrossedOff;
+        
+        private int index;
+        
+        /**
+         * Whether 3 is the next pair start. 3 isn't 1 below a multiple of 6 so it's not in any
+         * segment.
+         */
+        private boolean nextIs3;
+        
+        /**
+         * The next pair start to return, or -1 if there are no more or it hasn't been found yet.
+         */
+        private long next = -1;
+        
+        private boolean isDone;
+        
+        /**
+         * Whether the current segment was only sieved with some of the base primes, in which case
+         * the pairs that weren't crossed off might not be twin prime pairs.
+         */
+        private boolean survivorsNeedChecking;
+        
+        private PairStartIterator(long from, long to, int firstSegmentLength) {
+            nextIs3 = from <= 3 && 3 < to;
+            // 6k − 1 ≥ from when k ≥ (from + 1) / 6 rounded up, and 6k − 1 < to when k ≤ to / 6.
+            segmentStart = Math.max(1, (from + 6) / 6);
+            kEnd = to / 6 + 1;
+            nextSegmentLength = firstSegmentLength;
+            isCrossedOff = new boolean[0];
+        }
+        
+        @Override
+        public boolean hasNext() {
+            if (nextIs3 || next != -1) return true;
+            if (isDone) return false;
+            
+            while (true) {
+                while (index < segmentLength) {
+                    long pairStart = 6 * (segmentStart + index) - 1;
+                    if (
+                        !isCrossedOff[index++]
+                        && (!survivorsNeedChecking || isPrime(pairStart) && isPrime(pairStart + 2))
+                    ) {
+                        next = pairStart;
+                        return true;
+                    }
+                }
+                
+                if (!sieveNextSegment()) {
+                    isDone = true;
+                    return false;
+                }
+            }
+        }
+        
+        @Override
+        public long nextLong() {
+            if (!hasNext()) throw new NoSuchElementException();
+            
+            if (nextIs3) {
+                nextIs3 = false;
+                return 3;
+            }
+            
+            long pairStart = next;
+            next = -1;
+            return pairStart;
+        }
+        
+        /**
+         * Moves to the segment after the current one and crosses off the ks where 6k − 1 or
+         * 6k + 1 is divisible by a base prime. Returns false if there are no more ks < kEnd.
+         */
+        private boolean sieveNextSegment() {
+            segmentStart += segmentLength;
+            if (segmentStart >= kEnd) return false;
+            
+            segmentLength = (int) Math.min(nextSegmentLength, kEnd - segmentStart);
+            nextSegmentLength = Math.min(MAX_SEGMENT_LENGTH, 2 * nextSegmentLength);
+            index = 0;
+            
+            if (isCrossedOff.length < segmentLength) {
+                isCrossedOff = new boolean[segmentLength];
+            } else {
+                Arrays.fill(isCrossedOff, 0, segmentLength, false);
+            }
+            
+            long maxPairEnd = 6 * (segmentStart + segmentLength - 1) + 1;
+            long maxBasePrime = (long) Math.sqrt((double) maxPairEnd) + 1;
+            long partialSieveLimit = (long) PARTIAL_SIEVE_FACTOR * segmentLength;
+            survivorsNeedChecking = maxBasePrime > partialSieveLimit;
+            if (survivorsNeedChecking) {
+                maxBasePrime = partialSieveLimit;
+            }
+            
+            for (int prime : PrimeSieve.getBasePrimes(maxBasePrime)) {
+                if (prime > maxBasePrime) break;
+                // 3 doesn't divide 6k − 1 or 6k + 1.
+                if (prime == 3) continue;
+                
+                long inverse = inverseOf6(prime);
+                crossOff(prime, inverse, -1);
+                crossOff(prime, prime - inverse, 1);
+            }
+            
+            return true;
+        }
+        
+        /**
+         * Crosses off the ks in the segment where k mod the prime is the residue provided, which
+         * are the ks where 6k + the offset is divisible by the prime. The k where 6k + the offset
+         * is the prime itself is skipped.
+         */
+        private void crossOff(int prime, long residue, int offset) {
+            long k = segmentStart + Math.floorMod(residue - segmentStart, prime);
+            if (6 * k + offset == prime) k += prime;
+            
+            for (long i = k - segmentStart; i < segmentLength; i += prime) {
+                isCrossedOff[(int) i] = true;
+            }
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package numbertheoryplayground.sectionclasses.abstract_;
 
 import java.util.*;
+import java.util.function.Function;
 import numbertheoryplayground.sectionclasses.outer.*;
 
 import static numbertheoryplayground.Misc.*;
@@ -88,9 +89,8 @@ public abstract sealed class Section
         input info sentence say that the input number(s) should be ≤ the corresponding string value
         in the map followed by the long with commas in parentheses. If the max input isn't one of
         the longs that's a key in the map, then have that sentence just say that input number(s)
-        should be ≤ that long with commas. The max inputs that aren't keys are 10,000 and 250,000,
-        the max inputs for the Pythagorean triples section and the Goldbach conjecture section
-        in the GUI version, respectively.
+        should be ≤ that long with commas. The max input that isn't a key is 250,000, the max
+        input for the Goldbach conjecture section in the GUI version.
         
         As of Java 21, the version I'm using right now, longs can't be used as the selector for
         switch statements and expressions, which seems pathetic. Using a map seems to be the next
@@ -99,7 +99,8 @@ public abstract sealed class Section
         
         Map<Long, String> maxInputsAndStringsWithWords =
             Map.of(
-                ONE_POINT_FIVE_MILLION, "1.5 million",
+                TEN_MILLION, "10 million",
+                ONE_BILLION, "1 billion",
                 FIVE_HUNDRED_BILLION, "500 billion",
                 TEN_TRILLION, "10 trillion",
                 FIFTY_TRILLION, "50 trillion",
@@ -177,6 +178,36 @@ public abstract sealed class Section
      */
     public abstract String getRandomCliAnswer();
     
+    /**
+     * A CLI choice for a calculation that only some sections have. The user enters the value
+     * followed by minNumInputs to maxNumInputs whitespace-separated whole numbers, and the answer
+     * function gets called with those numbers. The beginning of the sentence for this choice is
+     * "'value' followed by minNumInputs to maxNumInputs whitespace-separated whole numbers to ",
+     * or just 1 of those numbers if they're the same.
+     */
+    public record ExtraCliChoice(
+        String value,
+        int minNumInputs,
+        int maxNumInputs,
+        String sentenceEnding,
+        Function<long[], String> answerFunction
+    ) {
+        /**
+         * Constructs a choice that always takes numInputs whole numbers.
+         */
+        public ExtraCliChoice(String value, int numInputs, String sentenceEnding, Function<long[], String> answerFunction) {
+            this(value, numInputs, numInputs, sentenceEnding, answerFunction);
+        }
+    }
+    
+    /**
+     * Returns the CLI choices that this section has besides the ones that every section has.
+     * Most sections don't have any.
+     */
+    public List<ExtraCliChoice> getExtraCliChoices() {
+        return List.of();
+    }
+    
     public final String getHeading() {
         return heading;
     }
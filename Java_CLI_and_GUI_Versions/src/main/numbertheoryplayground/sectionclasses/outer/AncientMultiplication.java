@@ -1,12 +1,12 @@
 package numbertheoryplayground.sectionclasses.outer;
 
 import java.awt.Component;
-import java.math.BigInteger;
 import java.util.List;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import numbertheoryplayground.LongOrBigInt;
 import numbertheoryplayground.NtpCli;
 import numbertheoryplayground.gui.NtpPanel;
 import numbertheoryplayground.sectionclasses.abstract_.DoubleInputSection;
@@ -64,7 +64,7 @@ products of 5 and these powers are 20 and 40. 20 + 40 = (5 × 4) + (5 × 8) = 5
      * This record has data that'll be in rows of tables shown when showing ancient Egyptian
      * multiplication info.
      */
-    record TableRow(long powerOf2, BigInteger correspondingMultiple) {
+    record TableRow(long powerOf2, LongOrBigInt correspondingMultiple) {
         private String powerOf2String() {
             return createStringWithCommas(powerOf2);
         }
@@ -112,9 +112,7 @@ products of 5 and these powers are 20 and 40. 20 + 40 = (5 × 4) + (5 × 8) = 5
             input2MultiplesColumnHeading = "Corresponding Multiples of " + input2String;
             powersOf2ThatSumToInput1ColumnHeading = "Powers of 2 That Sum to " + input1String;
             
-            BigInteger product =
-                BigInteger.valueOf(input1Long)
-                .multiply(BigInteger.valueOf(input2Long));
+            LongOrBigInt product = LongOrBigInt.valueOf(input1Long).multiply(input2Long);
             productSentence =
                 String.format(
                     "The sum of the right column of the second table is %s, which is the " +
@@ -131,11 +129,14 @@ products of 5 and these powers are 20 and 40. 20 + 40 = (5 × 4) + (5 × 8) = 5
              */
             var input1BinaryString = Long.toBinaryString(input1Long);
             var powerOf2 = 1L;
-            var input2BigInt = BigInteger.valueOf(input2Long);
+            var input2Num = LongOrBigInt.valueOf(input2Long);
             
+            /*
+            The multiples are ≤ the product of the inputs, so they're all longs unless the product
+            is too big for one, and even then, only the multiples that are too big become BigIntegers.
+             */
             for (int i = input1BinaryString.length() - 1; i >= 0; i--) {
-                BigInteger correspondingMultiple =
-                    input2BigInt.multiply(BigInteger.valueOf(powerOf2));
+                LongOrBigInt correspondingMultiple = input2Num.multiply(powerOf2);
                 var row = new TableRow(powerOf2, correspondingMultiple);
                 table1RowsBuilder.accept(row);
                 
@@ -4,6 +4,8 @@ import java.awt.Component;
 import java.util.*;
 import java.util.function.BiFunction;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import numbertheoryplayground.DivisorIterator;
 import numbertheoryplayground.NtpCli;
 import numbertheoryplayground.gui.NtpTextArea;
 import numbertheoryplayground.sectionclasses.abstract_.SingleInputSection;
@@ -425,55 +427,91 @@ the next 12 prime numbers so it has 13 unique prime factors and its PF is
     }
     
     /**
-     * This method finds PFs of factors of the input PF's corresponding big int, excluding 1
-     * and the corresponding big int, by finding subfactorizations in the input PF and that's
-     * done by finding combinations of factors and powers in that PF. The PFs in the list
-     * returned are sorted by corresponding big ints.
+     * This method returns a stream of PFs of factors of the input PF's corresponding long,
+     * excluding 1 and the corresponding long, in increasing order of the factors. numFactors is
+     * the number of factors that the corresponding long has, including 1 and itself.
+     *
+     * The factors come from a DivisorIterator, which finds them in increasing order as they're
+     * needed instead of finding all the subfactorizations and then sorting them, so each PF only
+     * gets made when the stream gets to it. That matters for inputs like 9,736,008,432,870,720,
+     * which has 28,672 factors, when the GUI stops taking strings from the stream once the text
+     * is too long to display.
      */
-    static List<PrimeFactorization> getFactorPfs(PrimeFactorization pf, int numFactors) {
+    static Stream<PrimeFactorization> streamFactorPfs(PrimeFactorization pf, int numFactors) {
+        var primes = new long[pf.getNumFactors()];
+        var maxPowers = new int[pf.getNumFactors()];
+        for (var i = 0; i < primes.length; i++) {
+            primes[i] = pf.getFactor(i);
+            maxPowers[i] = pf.getPower(i);
+        }
+        var divisors = new DivisorIterator(primes, maxPowers);
+        divisors.nextLong(); // Skip 1.
+        
         /*
-        numFactors is the calculated number of factors that the input PF's corresponding big int
-        has, including 1 and the corresponding big int. The algorithm below will add a PF to
-        factorPfs that's the same as the input PF but then remove it, so the capacity for
-        factorPfs will be set to numFactors - 1 and its size at the end will be numFactors - 2.
+        The stream is made from an iterator instead of mapping a range of ints, so that the
+        DivisorIterator only gets advanced when the stream asks for the next PF. The spliterator
+        is ordered and sized, so the stream can't use the PFs out of order even if it's made
+        parallel.
          */
-        
-        for (FactorAndPower fp : pf.getFps()) {
-            long primeFactor = fp.factor();
-            int maxPower = fp.power();
-            /*
-            In the 2nd for loop below, we want to iterate through all the PFs that are in factorPfs
-            at this point, and not the ones that get added below. Use this variable for that.
-             */
-            int lastPfIndexToUse = factorPfs.size() - 1;
+        int numFactorPfs = numFactors - 2;
+        var factorPfs = new Iterator<PrimeFactorization>() {
+            private int numLeft = numFactorPfs;
             
-            for (var power = 1; power <= maxPower; power++) {
-                var singleton = List.of(new FactorAndPower(primeFactor, power));
-                factorPfs.add(new PrimeFactorization(singleton));
-                
-                for (var i = 0; i <= lastPfIndexToUse; i++) {
-                    List<FactorAndPower> listFactorFps = factorPfs.get(i).getFps();
-                    var newFactorFps = new ArrayList<FactorAndPower>(listFactorFps.size() + 1);
-                    newFactorFps.addAll(listFactorFps);
-                    newFactorFps.add(new FactorAndPower(primeFactor, power));
-                    factorPfs.add(new PrimeFactorization(newFactorFps));
-                }
+            @Override
+            public boolean hasNext() {
+                return numLeft > 0;
             }
+            
+            @Override
+            public PrimeFactorization next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                numLeft--;
+                return createNextDivisorPf(divisors, primes);
+            }
+        };
+        return StreamSupport.stream(
+            Spliterators.spliterator(factorPfs, numFactorPfs, Spliterator.ORDERED | Spliterator.NONNULL),
+            false
+        );
+    }
+    
+    /**
+     * Returns the PF of the next divisor that the DivisorIterator for the primes finds.
+     */
+    private static PrimeFactorization createNextDivisorPf(DivisorIterator divisors, long[] primes) {
+        long divisor = divisors.nextLong();
+        var numPrimes = 0;
+        for (var j = 0; j < primes.length; j++) {
+            if (divisors.getPower(j) > 0) numPrimes++;
         }
         
-        factorPfs.removeLast();
-        factorPfs.sort(Comparator.comparing(PrimeFactorization::getCorrespondingBigInt));
-        return factorPfs;
+        var factors = new long[numPrimes];
+        var powers = new byte[numPrimes];
+        var k = 0;
+        for (var j = 0; j < primes.length; j++) {
+            int power = divisors.getPower(j);
+            if (power > 0) {
+                factors[k] = primes[j];
+                powers[k++] = (byte) power;
+            }
+        }
+        return new PrimeFactorization(divisor, factors, powers);
+    }
+    
+    /**
+     * Returns a list of the PFs in the stream that streamFactorPfs returns.
+     */
+    static List<PrimeFactorization> getFactorPfs(PrimeFactorization pf) {
+        return streamFactorPfs(pf, new NumberOfFactorsData(pf).numFactors).toList();
     }
     
     private static Stream<String> getFactorPfStrings(PrimeFactorization pf, int numFactors) {
         return
-            getFactorPfs(pf, numFactors)
-            .stream()
+            streamFactorPfs(pf, numFactors)
             .map(pf2 ->
                 pf2.isForAPrimeNumber()
-                ? pf2.getCorrespondingBigIntString()
-                : String.format("%s (%s)", pf2, pf2.getCorrespondingBigIntString())
+                ? pf2.getCorrespondingNumString()
+                : String.format("%s (%s)", pf2, pf2.getCorrespondingNumString())
             );
     }
     
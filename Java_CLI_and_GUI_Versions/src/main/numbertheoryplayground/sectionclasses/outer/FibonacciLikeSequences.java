@@ -1,15 +1,23 @@
 package numbertheoryplayground.sectionclasses.outer;
 
 import java.awt.Component;
+import java.io.IOException;
 import java.math.*;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
+import numbertheoryplayground.DecimalRatio;
+import numbertheoryplayground.FibonacciLikeStream;
+import numbertheoryplayground.Gcd;
+import numbertheoryplayground.LongOrBigInt;
 import numbertheoryplayground.Misc;
+import numbertheoryplayground.Montgomery;
 import numbertheoryplayground.NtpCli;
 import numbertheoryplayground.gui.NtpTextArea;
 import numbertheoryplayground.sectionclasses.abstract_.DoubleInputSection;
+import numbertheoryplayground.sectionclasses.abstract_.Section.ExtraCliChoice;
 
 import static numbertheoryplayground.Misc.*;
 import static numbertheoryplayground.gui.NtpGui.*;
@@ -19,16 +27,13 @@ import static numbertheoryplayground.gui.NtpGui.*;
  */
 public class FibonacciLikeSequences {
     /*
-    BigIntegers are used to create sequences and BigDecimals must be used to find the ratio
-    between BigIntegers. The MathContexts below are used as part of the division of BigDecimals.
-    For consistency, MATH_CONTEXT_WITH_ROUNDING will also be used to calculate Phi and 21 / 13.
+    LongOrBigInts are used to create sequences and BigDecimals must be used to find the ratio
+    between them. The MathContext below is used as part of the division of BigDecimals. For
+    consistency, it will also be used to calculate Phi and 21 / 13.
      */
     
     private static final MathContext MATH_CONTEXT_WITH_ROUNDING = MathContext.DECIMAL64;
     
-    private static final MathContext MATH_CONTEXT_WITHOUT_ROUNDING =
-        new MathContext(MATH_CONTEXT_WITH_ROUNDING.getPrecision(), RoundingMode.UNNECESSARY);
-    
     /**
      * Phi = (1 + the square root of 5) / 2 ≈ 1.618.
      */
@@ -83,13 +88,13 @@ involve numbers other than natural numbers."""
 
         /**
          * The first 4 elements are expressions about the ratios between the 5th and 4th,
-         * 10th and 9th, 15th and 14th, and 20th and 19th numbers in bigIntSequence.
+         * 10th and 9th, 15th and 14th, and 20th and 19th numbers in the sequence.
          * The 5th element is an expression about what Phi approximately is.
          */
         private final Stream<String> ratioAndPhiExpressions;
 
         private Answer(long input1Long, long input2Long, String input1String, String input2String) {
-            List<BigInteger> bigIntSequence = getBigIntFiboLikeSequence(input1Long, input2Long);
+            List<LongOrBigInt> sequence = getFiboLikeSequence(input1Long, input2Long);
             
             sequenceHeading =
                 String.format(
@@ -97,11 +102,11 @@ involve numbers other than natural numbers."""
                     SEQUENCE_LENGTH, input1String, input2String
                 );
 
-            stringSequence = bigIntSequence.stream().map(Misc::createStringWithCommas);
+            stringSequence = sequence.stream().map(Misc::createStringWithCommas);
 
             Stream<String> ratioExpressions =
                 IntStream.of(3, 8, 13, 18)
-                .mapToObj(i -> getRatioExpression(bigIntSequence.get(i), bigIntSequence.get(i + 1)));
+                .mapToObj(i -> getRatioExpression(sequence.get(i), sequence.get(i + 1)));
             
             ratioAndPhiExpressions =
                 Stream.concat(
@@ -112,50 +117,494 @@ involve numbers other than natural numbers."""
     }
     
     /**
-     * Returns a list of BigIntegers of the first 20 numbers in the Fibonacci-like sequence
-     * that starts with input1 and input2. BigIntegers are used since some numbers in the
-     * list might be too big for a long.
+     * Returns a list of the first 20 numbers in the Fibonacci-like sequence that starts with
+     * input1 and input2. LongOrBigInts are used since some numbers in the list might be too big
+     * for a long. The 20th number is ≤ 6,765 times the max of the inputs, so if the inputs are
+     * ≤ 1 quadrillion, none of them are and no BigIntegers get made.
      */
-    static List<BigInteger> getBigIntFiboLikeSequence(long input1, long input2) {
+    static List<LongOrBigInt> getFiboLikeSequence(long input1, long input2) {
         assertIsInRange(input1, MIN_INPUT, MAX_INPUT);
         assertIsInRange(input2, MIN_INPUT, MAX_INPUT);
         
-        var sequence = new ArrayList<BigInteger>(SEQUENCE_LENGTH);
-        var bigInt1 = BigInteger.valueOf(input1);
-        var bigInt2 = BigInteger.valueOf(input2);
-        sequence.add(bigInt1);
-        sequence.add(bigInt2);
+        var sequence = new ArrayList<LongOrBigInt>(SEQUENCE_LENGTH);
+        var num1 = LongOrBigInt.valueOf(input1);
+        var num2 = LongOrBigInt.valueOf(input2);
+        sequence.add(num1);
+        sequence.add(num2);
         
         while (sequence.size() < SEQUENCE_LENGTH) {
-            var nextBigInt = bigInt1.add(bigInt2);
-            sequence.add(nextBigInt);
-            bigInt1 = bigInt2;
-            bigInt2 = nextBigInt;
+            LongOrBigInt nextNum = num1.add(num2);
+            sequence.add(nextNum);
+            num1 = num2;
+            num2 = nextNum;
         }
         
         return sequence;
     }
     
-    static String getRatioExpression(BigInteger bigInt1, BigInteger bigInt2) {
-        var bigDecimal1 = new BigDecimal(bigInt1);
-        var bigDecimal2 = new BigDecimal(bigInt2);
-        BigDecimal ratio;
-        char equalityChar;
+    /**
+     * The ratio between 2 numbers, with an equality char of '=' if the ratio is exact and
+     * '≈' if it got rounded.
+     */
+    record Ratio(BigDecimal value, char equalityChar) {}
+    
+    /**
+     * Returns the ratio of num2 to num1. DecimalRatio works out whether it needs rounding
+     * without dividing with RoundingMode.UNNECESSARY and catching the exception, and it does that
+     * with long arithmetic if both numbers fit in a long.
+     */
+    static Ratio getRatio(LongOrBigInt num1, LongOrBigInt num2) {
+        return createRatio(
+            num1.fitsInLong() && num2.fitsInLong()
+            ? DecimalRatio.of(num2.longValueExact(), num1.longValueExact(), MATH_CONTEXT_WITH_ROUNDING)
+            : DecimalRatio.of(num2.toBigInteger(), num1.toBigInteger(), MATH_CONTEXT_WITH_ROUNDING)
+        );
+    }
+    
+    private static Ratio createRatio(DecimalRatio ratio) {
+        return new Ratio(ratio.value(), ratio.isRounded() ? '≈' : '=');
+    }
+    
+    static String getRatioExpression(LongOrBigInt num1, LongOrBigInt num2) {
+        Ratio ratio = getRatio(num1, num2);
+        return String.format(
+            "%s / %s %s %s",
+            createStringWithCommas(num2),
+            createStringWithCommas(num1),
+            ratio.equalityChar(),
+            ratio.value()
+        );
+    }
+    
+    /*
+    The other calculation for this section is: find the number at an input index in the
+    Fibonacci-like sequence that starts with 2 input numbers, as well as the ratio between it and
+    the number before it. The first input number is at index 1.
+     */
+    
+    private static final long MIN_INDEX = 2;
+    private static final long MAX_INDEX = 10_000_000;
+    
+    /**
+     * 2 numbers that are next to each other in a sequence.
+     */
+    record ConsecutiveNumbers(BigInteger first, BigInteger second) {}
+    
+    /**
+     * Returns F(n) and F(n + 1), where F is the Fibonacci sequence with F(0) = 0 and F(1) = 1.
+     * n should be ≥ 0.
+     *
+     * Instead of adding numbers one at a time, which takes n additions of numbers that get up to
+     * around 0.7n bits long, this uses the fast doubling formulas
+     * F(2k) = F(k) × (2F(k + 1) − F(k)) and F(2k + 1) = F(k)^2 + F(k + 1)^2. The bits of n are
+     * gone through from the highest to the lowest. For each bit, k gets doubled, and if the bit
+     * is 1, k also gets 1 added to it, which is just a shift to the next pair. So it only takes
+     * around 3 log n BigInteger multiplications, and most of the time is spent on the last few,
+     * which are the biggest.
+     */
+    static ConsecutiveNumbers getFibonacciNumbers(long n) {
+        BigInteger fk = BigInteger.ZERO;
+        BigInteger fkPlus1 = BigInteger.ONE;
+        
+        for (int bit = 63 - Long.numberOfLeadingZeros(n); bit >= 0; bit--) {
+            BigInteger f2k = fk.multiply(fkPlus1.shiftLeft(1).subtract(fk));
+            BigInteger f2kPlus1 = fk.multiply(fk).add(fkPlus1.multiply(fkPlus1));
+            
+            if ((n >>> bit & 1) == 0) {
+                fk = f2k;
+                fkPlus1 = f2kPlus1;
+            } else {
+                fk = f2kPlus1;
+                fkPlus1 = f2k.add(f2kPlus1);
+            }
+        }
+        
+        return new ConsecutiveNumbers(fk, fkPlus1);
+    }
+    
+    /**
+     * Returns the numbers at index − 1 and the index provided in the Fibonacci-like sequence
+     * that starts with input1 and input2, where input1 is at index 1. index should be ≥ 2.
+     *
+     * Every Fibonacci-like sequence is a combination of the Fibonacci sequence. If the sequence
+     * is S, then S(n) = input1 × F(n − 2) + input2 × F(n − 1), which can be seen by checking
+     * that it works for n = 1 and n = 2, where F(−1) = 1, and that each side is the sum of the 2
+     * previous terms. So only 2 Fibonacci numbers need to be found, with getFibonacciNumbers.
+     */
+    static ConsecutiveNumbers getFiboLikeNumbers(long input1, long input2, long index) {
+        assertIsInRange(input1, MIN_INPUT, MAX_INPUT);
+        assertIsInRange(input2, MIN_INPUT, MAX_INPUT);
+        assertIsInRange(index, MIN_INDEX, MAX_INDEX);
         
+        ConsecutiveNumbers fibonacciNumbers = getFibonacciNumbers(index - 2);
+        BigInteger indexMinus2Fibo = fibonacciNumbers.first();
+        BigInteger indexMinus1Fibo = fibonacciNumbers.second();
+        var bigInt1 = BigInteger.valueOf(input1);
+        var bigInt2 = BigInteger.valueOf(input2);
+        
+        // S(n − 1) = input1 × F(n − 3) + input2 × F(n − 2) and F(n − 3) = F(n − 1) − F(n − 2).
+        return new ConsecutiveNumbers(
+            bigInt1.multiply(indexMinus1Fibo.subtract(indexMinus2Fibo)).add(bigInt2.multiply(indexMinus2Fibo)),
+            bigInt1.multiply(indexMinus2Fibo).add(bigInt2.multiply(indexMinus1Fibo))
+        );
+    }
+    
+    /**
+     * Numbers with more digits than this don't get displayed in full. A number at index 10
+     * million can have over 2 million digits, and converting that to a string takes longer than
+     * finding it.
+     */
+    private static final int MAX_FULLY_DISPLAYED_DIGITS = 1_000;
+    
+    /**
+     * The number of digits at the start and end of a number that gets displayed if the number
+     * has more than MAX_FULLY_DISPLAYED_DIGITS digits.
+     */
+    private static final int NUM_DISPLAYED_END_DIGITS = 20;
+    
+    /**
+     * Returns the number with commas if it's short enough. Otherwise, returns a description of
+     * the number with its number of digits and its first and last digits. The first digits are
+     * found by rounding down to NUM_DISPLAYED_END_DIGITS significant digits and the last digits
+     * are found with mod.
+     */
+    static String getNumberDescription(BigInteger bigInt) {
+        var bigDecimal = new BigDecimal(bigInt);
+        int numDigits = bigDecimal.precision();
+        if (numDigits <= MAX_FULLY_DISPLAYED_DIGITS) return createStringWithCommas(bigInt);
+        
+        BigInteger firstDigits =
+            bigDecimal
+            .round(new MathContext(NUM_DISPLAYED_END_DIGITS, RoundingMode.DOWN))
+            .unscaledValue();
+        BigInteger lastDigits = bigInt.mod(BigInteger.TEN.pow(NUM_DISPLAYED_END_DIGITS));
+        
+        return String.format(
+            "a number with %s digits that starts with %s and ends with %s",
+            createStringWithCommas(numDigits),
+            firstDigits,
+            String.format("%" + NUM_DISPLAYED_END_DIGITS + "s", lastDigits).replace(' ', '0')
+        );
+    }
+    
+    /**
+     * Returns a couple of sentences about the number at the index in the Fibonacci-like sequence
+     * that starts with input1 and input2, and the ratio between it and the number before it.
+     */
+    static String getFiboLikeNumberInfo(long input1, long input2, long index) {
+        ConsecutiveNumbers numbers = getFiboLikeNumbers(input1, input2, index);
+        Ratio ratio = createRatio(DecimalRatio.of(numbers.second(), numbers.first(), MATH_CONTEXT_WITH_ROUNDING));
+        return String.format(
+            "Number %s in the Fibonacci-like sequence that starts with %s and %s is %s. The ratio " +
+                "between it and the number before it %s %s.",
+            createStringWithCommas(index),
+            createStringWithCommas(input1),
+            createStringWithCommas(input2),
+            getNumberDescription(numbers.second()),
+            ratio.equalityChar() == '=' ? "is" : "≈",
+            ratio.value()
+        );
+    }
+    
+    /*
+    Other calculations for this section are: find the Pisano period of an input modulus, and find
+    the number at an input index in the Fibonacci-like sequence that starts with 2 input numbers,
+    mod an input modulus.
+     */
+    
+    private static final long MIN_MODULUS = 1;
+    
+    /**
+     * The Pisano period of a modulus is at most 6 times the modulus, so this keeps it < the max
+     * value for a long.
+     */
+    private static final long MAX_MODULUS = 1_000_000_000_000_000_000L;
+    
+    private static final long MIN_MOD_INDEX = 1;
+    private static final long MAX_MOD_INDEX = NINE_QUINTILLION;
+    
+    /**
+     * Returns the Pisano period of the modulus, which is the length of the cycle that the
+     * Fibonacci sequence goes through when taken mod the modulus. For example, the Fibonacci
+     * sequence mod 3 is 0, 1, 1, 2, 0, 2, 2, 1, 0, 1, ... so the Pisano period of 3 is 8. Every
+     * Fibonacci-like sequence mod the modulus repeats after this many numbers too, since each
+     * number is a combination of 2 Fibonacci numbers.
+     *
+     * Instead of going through the sequence until 0, 1 comes up again, which can take up to 6
+     * times the modulus steps, the modulus gets factored. The Pisano period of a modulus is the
+     * LCM of the Pisano periods of the prime powers in its PF, and the Pisano period of p^e is
+     * p^(e − 1) × the Pisano period of p. That last fact hasn't been proven for every prime, but
+     * it's been checked for every prime < 10^14 and the primes with a power > 1 here are < 10^9.
+     * See getPrimePisanoPeriod for how the Pisano periods of the primes are found.
+     */
+    static long getPisanoPeriod(long modulus) {
+        assertIsInRange(modulus, MIN_MODULUS, MAX_MODULUS);
+        if (modulus == 1) return 1;
+        
+        long period = 1;
+        for (PrimeFactorization.FactorAndPower fp : PrimeFactorization.factor(modulus)) {
+            long primePowerPeriod = getPrimePisanoPeriod(fp.factor());
+            for (var i = 1; i < fp.power(); i++) {
+                primePowerPeriod *= fp.factor();
+            }
+            period = period / Gcd.gcd(period, primePowerPeriod) * primePowerPeriod;
+        }
+        return period;
+    }
+    
+    /**
+     * Returns the Pisano period of the prime, which is the smallest n > 0 where F(n) mod the
+     * prime is 0 and F(n + 1) mod the prime is 1. The periods of 2 and 5 are 3 and 20. For any
+     * other prime p, if p is 1 or 4 mod 5, then the period divides p − 1, and otherwise it divides
+     * 2(p + 1). So that's where the search starts, and then for each prime factor q of that
+     * number, the number gets divided by q as long as the number / q is still a period.
+     */
+    private static long getPrimePisanoPeriod(long prime) {
+        if (prime == 2) return 3;
+        if (prime == 5) return 20;
+        
+        var fibonacciMod = new FibonacciMod(prime);
+        long primeMod5 = prime % 5;
+        long period = primeMod5 == 1 || primeMod5 == 4 ? prime - 1 : 2 * (prime + 1);
+        
+        for (PrimeFactorization.FactorAndPower fp : PrimeFactorization.factor(period)) {
+            long factor = fp.factor();
+            while (period % factor == 0) {
+                long[] fibonacciNumbers = fibonacciMod.getFibonacciNumbers(period / factor);
+                if (fibonacciNumbers[0] != 0 || fibonacciNumbers[1] != 1) break;
+                period /= factor;
+            }
+        }
+        return period;
+    }
+    
+    /**
+     * Returns the number at the index in the Fibonacci-like sequence that starts with input1 and
+     * input2, mod the modulus, where input1 is at index 1. This uses the same fast doubling as
+     * getFibonacciNumbers but with longs mod the modulus instead of BigIntegers, so it takes
+     * around 3 log(index) multiplications of longs, for any index up to 9 quintillion.
+     */
+    static long getFiboLikeNumberMod(long input1, long input2, long index, long modulus) {
+        assertIsInRange(input1, MIN_INPUT, MAX_INPUT);
+        assertIsInRange(input2, MIN_INPUT, MAX_INPUT);
+        assertIsInRange(index, MIN_MOD_INDEX, MAX_MOD_INDEX);
+        assertIsInRange(modulus, MIN_MODULUS, MAX_MODULUS);
+        
+        return new FibonacciMod(modulus).getFiboLikeNumber(input1, input2, index);
+    }
+    
+    /**
+     * Does the fast doubling for Fibonacci numbers mod a modulus. Montgomery multiplication only
+     * works with an odd modulus, so the modulus is split into 2^s × an odd part. The numbers get
+     * found mod the odd part with Montgomery multiplication and mod 2^s with regular long
+     * multiplication, which is already done mod 2^64, and then they get combined with the Chinese
+     * remainder theorem.
+     */
+    private static final class FibonacciMod {
+        private final long oddPart;
+        
+        private final int powerOf2;
+        
+        /**
+         * Used for the odd part, or null if the odd part is 1.
+         */
+        private final Montgomery montgomery;
+        
+        /**
+         * The long that, when multiplied by the odd part, gives a product that's 1 mod 2^64, and so
+         * also 1 mod 2^s.
+         */
+        private final long oddPartInverse;
+        
+        private FibonacciMod(long modulus) {
+            powerOf2 = Long.numberOfTrailingZeros(modulus);
+            oddPart = modulus >>> powerOf2;
+            montgomery = oddPart == 1 ? null : new Montgomery(oddPart);
+            
+            // Just like in the Montgomery constructor, use Newton's method to find the inverse.
+            long inverse = oddPart;
+            for (var i = 0; i < 5; i++) {
+                inverse *= 2 - oddPart * inverse;
+            }
+            oddPartInverse = inverse;
+        }
+        
+        /**
+         * Returns F(n) and F(n + 1) mod the modulus, with the formulas from getFibonacciNumbers.
+         */
+        private long[] getFibonacciNumbers(long n) {
+            long[] oddPartNumbers = {0, 0};
+            if (montgomery != null) {
+                oddPartNumbers = getOddPartFibonacciNumbers(n);
+                oddPartNumbers[0] = montgomery.fromMontgomery(oddPartNumbers[0]);
+                oddPartNumbers[1] = montgomery.fromMontgomery(oddPartNumbers[1]);
+            }
+            long[] powerOf2Numbers = getPowerOf2FibonacciNumbers(n);
+            return new long[] {
+                combine(oddPartNumbers[0], powerOf2Numbers[0]),
+                combine(oddPartNumbers[1], powerOf2Numbers[1])
+            };
+        }
+        
+        /**
+         * Returns the number at the index in the Fibonacci-like sequence that starts with input1
+         * and input2, mod the modulus. With F(index − 1) and F(index), the number is
+         * input1 × (F(index) − F(index − 1)) + input2 × F(index − 1), like in getFiboLikeNumbers.
+         */
+        private long getFiboLikeNumber(long input1, long input2, long index) {
+            long oddPartNumber = 0;
+            if (montgomery != null) {
+                long[] numbers = getOddPartFibonacciNumbers(index - 1);
+                // Multiplying a regular number by one in Montgomery form gives a regular number.
+                long difference = subtractMod(numbers[1], numbers[0], oddPart);
+                oddPartNumber =
+                    addMod(
+                        montgomery.multiply(input1 % oddPart, difference),
+                        montgomery.multiply(input2 % oddPart, numbers[0]),
+                        oddPart
+                    );
+            }
+            
+            long[] numbers = getPowerOf2FibonacciNumbers(index - 1);
+            long powerOf2Number = input1 * (numbers[1] - numbers[0]) + input2 * numbers[0];
+            
+            return combine(oddPartNumber, powerOf2Number);
+        }
+        
+        /**
+         * Returns F(n) and F(n + 1) mod the odd part, in Montgomery form.
+         */
+        private long[] getOddPartFibonacciNumbers(long n) {
+            long fk = 0;
+            long fkPlus1 = montgomery.getOne();
+            
+            for (int bit = 63 - Long.numberOfLeadingZeros(n); bit >= 0; bit--) {
+                long twiceFkPlus1MinusFk = subtractMod(addMod(fkPlus1, fkPlus1, oddPart), fk, oddPart);
+                long f2k = montgomery.multiply(fk, twiceFkPlus1MinusFk);
+                long f2kPlus1 = addMod(montgomery.multiply(fk, fk), montgomery.multiply(fkPlus1, fkPlus1), oddPart);
+                
+                if ((n >>> bit & 1) == 0) {
+                    fk = f2k;
+                    fkPlus1 = f2kPlus1;
+                } else {
+                    fk = f2kPlus1;
+                    fkPlus1 = addMod(f2k, f2kPlus1, oddPart);
+                }
+            }
+            
+            return new long[] {fk, fkPlus1};
+        }
+        
+        /**
+         * Returns F(n) and F(n + 1) mod 2^64. Overflowing longs wrap around, which is the same as
+         * taking everything mod 2^64, so no mod is needed until combine.
+         */
+        private static long[] getPowerOf2FibonacciNumbers(long n) {
+            long fk = 0;
+            long fkPlus1 = 1;
+            
+            for (int bit = 63 - Long.numberOfLeadingZeros(n); bit >= 0; bit--) {
+                long f2k = fk * (2 * fkPlus1 - fk);
+                long f2kPlus1 = fk * fk + fkPlus1 * fkPlus1;
+                
+                if ((n >>> bit & 1) == 0) {
+                    fk = f2k;
+                    fkPlus1 = f2kPlus1;
+                } else {
+                    fk = f2kPlus1;
+                    fkPlus1 = f2k + f2kPlus1;
+                }
+            }
+            
+            return new long[] {fk, fkPlus1};
+        }
+        
+        /**
+         * Returns the number < the modulus that's oddPartNumber mod the odd part and
+         * powerOf2Number mod 2^s. That number is oddPartNumber + the odd part × t, where t is
+         * (powerOf2Number − oddPartNumber) × the inverse of the odd part, mod 2^s.
+         */
+        private long combine(long oddPartNumber, long powerOf2Number) {
+            long mask = (1L << powerOf2) - 1;
+            long t = (powerOf2Number - oddPartNumber) * oddPartInverse & mask;
+            return oddPartNumber + oddPart * t;
+        }
+        
+        /**
+         * Returns a + b mod the modulus, where a and b are < the modulus. The modulus is < 2^63, so
+         * a + b is < 2^64 but it can go over the max long, so the comparison is unsigned.
+         */
+        private static long addMod(long a, long b, long modulus) {
+            long sum = a + b;
+            return Long.compareUnsigned(sum, modulus) >= 0 ? sum - modulus : sum;
+        }
+        
+        private static long subtractMod(long a, long b, long modulus) {
+            long difference = a - b;
+            return difference < 0 ? difference + modulus : difference;
+        }
+    }
+    
+    /**
+     * Returns a sentence about the Pisano period of the modulus.
+     */
+    static String getPisanoPeriodInfo(long modulus) {
+        long period = getPisanoPeriod(modulus);
+        return String.format(
+            "The Pisano period of %s is %s, so the Fibonacci sequence mod %s repeats every %s " +
+                "numbers, and so does every other Fibonacci-like sequence mod %s, or after a divisor of that.",
+            createStringWithCommas(modulus),
+            createStringWithCommas(period),
+            createStringWithCommas(modulus),
+            createStringWithCommas(period),
+            createStringWithCommas(modulus)
+        );
+    }
+    
+    /*
+    The last calculation for this section is: write the first input length numbers of the
+    Fibonacci-like sequence that starts with 2 input numbers to a file, and say how fast that was.
+     */
+    
+    private static final long MIN_WRITE_LENGTH = 1;
+    
+    /**
+     * The first 100,000 numbers of a sequence have around 1 billion digits altogether, so the
+     * file can be around 1 GB.
+     */
+    private static final long MAX_WRITE_LENGTH = 100_000;
+    
+    static final String WRITE_FILE_NAME = "fibonacci-like-sequence.txt";
+    
+    /**
+     * Writes the numbers to WRITE_FILE_NAME in the current directory with
+     * FibonacciLikeStream.writeNumbers and returns a sentence about how many numbers and chars
+     * were written per second.
+     */
+    static String writeFiboLikeSequence(long input1, long input2, long length) {
+        assertIsInRange(input1, MIN_INPUT, MAX_INPUT);
+        assertIsInRange(input2, MIN_INPUT, MAX_INPUT);
+        assertIsInRange(length, MIN_WRITE_LENGTH, MAX_WRITE_LENGTH);
+        
+        Path path = Path.of(WRITE_FILE_NAME);
+        FibonacciLikeStream.WriteStats stats;
         try {
-            ratio = bigDecimal2.divide(bigDecimal1, MATH_CONTEXT_WITHOUT_ROUNDING);
-            equalityChar = '=';
-        } catch (ArithmeticException ex) {
-            ratio = bigDecimal2.divide(bigDecimal1, MATH_CONTEXT_WITH_ROUNDING);
-            equalityChar = '≈';
+            stats = FibonacciLikeStream.writeNumbers(input1, input2, length, path);
+        } catch (IOException ex) {
+            return String.format("%s couldn't be written: %s", path.toAbsolutePath(), ex.getMessage());
         }
         
         return String.format(
-            "%s / %s %s %s",
-            createStringWithCommas(bigInt2),
-            createStringWithCommas(bigInt1),
-            equalityChar,
-            ratio
+            "Wrote the first %s numbers of the Fibonacci-like sequence that starts with %s and %s, " +
+                "which have %s chars, to %s in %.3f seconds. That's %s numbers and %s chars per second.",
+            createStringWithCommas(stats.numNumbers()),
+            createStringWithCommas(input1),
+            createStringWithCommas(input2),
+            createStringWithCommas(stats.numChars()),
+            path.toAbsolutePath(),
+            stats.nanos() / 1e9,
+            createStringWithCommas(Math.round(stats.getNumbersPerSecond())),
+            createStringWithCommas(Math.round(stats.getCharsPerSecond()))
         );
     }
     
@@ -179,6 +628,70 @@ involve numbers other than natural numbers."""
             );
         }
         
+        @Override
+        public List<ExtraCliChoice> getExtraCliChoices() {
+            return List.of(
+                new ExtraCliChoice(
+                    "n",
+                    3,
+                    String.format(
+                        "get the number in the Fibonacci-like sequence that starts with the first 2 " +
+                            "numbers whose index is the 3rd number, as well as the ratio between it and " +
+                            "the number before it. The first number is at index 1. Have the first 2 " +
+                            "numbers be ≥ %d and ≤ 9 quintillion and the index be ≥ %d and ≤ %s.",
+                        MIN_INPUT, MIN_INDEX, createStringWithCommas(MAX_INDEX)
+                    ),
+                    inputs -> NtpCli.putNewLineChars(getFiboLikeNumberInfo(inputs[0], inputs[1], inputs[2]))
+                ),
+                new ExtraCliChoice(
+                    "p",
+                    1,
+                    String.format(
+                        "get the Pisano period of that number, which is how often the Fibonacci " +
+                            "sequence repeats when taken mod that number. Have it be ≥ %d and ≤ 1 " +
+                            "quintillion (%s).",
+                        MIN_MODULUS, createStringWithCommas(MAX_MODULUS)
+                    ),
+                    inputs -> NtpCli.putNewLineChars(getPisanoPeriodInfo(inputs[0]))
+                ),
+                new ExtraCliChoice(
+                    "m",
+                    4,
+                    String.format(
+                        "get the number in the Fibonacci-like sequence that starts with the first 2 " +
+                            "numbers whose index is the 3rd number, mod the 4th number. Have the index " +
+                            "be ≥ %d and ≤ 9 quintillion and the 4th number be ≥ %d and ≤ 1 quintillion.",
+                        MIN_MOD_INDEX, MIN_MODULUS
+                    ),
+                    inputs -> {
+                        long numberMod = getFiboLikeNumberMod(inputs[0], inputs[1], inputs[2], inputs[3]);
+                        String info =
+                            String.format(
+                                "Number %s in the Fibonacci-like sequence that starts with %s and %s, " +
+                                    "mod %s, is %s.",
+                                createStringWithCommas(inputs[2]),
+                                createStringWithCommas(inputs[0]),
+                                createStringWithCommas(inputs[1]),
+                                createStringWithCommas(inputs[3]),
+                                createStringWithCommas(numberMod)
+                            );
+                        return NtpCli.putNewLineChars(info);
+                    }
+                ),
+                new ExtraCliChoice(
+                    "w",
+                    3,
+                    String.format(
+                        "write the first numbers of the Fibonacci-like sequence that starts with the " +
+                            "first 2 numbers to %s in the current directory, 1 per line, where the 3rd " +
+                            "number is how many to write. Have the 3rd number be ≥ %d and ≤ %s.",
+                        WRITE_FILE_NAME, MIN_WRITE_LENGTH, createStringWithCommas(MAX_WRITE_LENGTH)
+                    ),
+                    inputs -> NtpCli.putNewLineChars(writeFiboLikeSequence(inputs[0], inputs[1], inputs[2]))
+                )
+            );
+        }
+        
         @Override
         public String getCliAnswer(
             long input1Long, long input2Long,
@@ -5,14 +5,16 @@ import java.util.*;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import numbertheoryplayground.Gcd;
+import numbertheoryplayground.Gcd.BezoutCoefficients;
 import numbertheoryplayground.NtpCli;
 import numbertheoryplayground.gui.NtpPanel;
 import numbertheoryplayground.gui.NtpTextArea;
 import numbertheoryplayground.sectionclasses.abstract_.DoubleInputSection;
+import numbertheoryplayground.sectionclasses.abstract_.Section.ExtraCliChoice;
 
 import static numbertheoryplayground.Misc.*;
 import static numbertheoryplayground.gui.NtpGui.*;
-import static numbertheoryplayground.sectionclasses.outer.PrimeFactorization.FactorAndPower;
 
 /**
  * Utility class related to GCDs and LCMs and the section for it.
@@ -63,12 +65,16 @@ prime factors and its PF is
     Given 2 input numbers, the calculations for this section are:
     1. Perform the Euclidean algorithm on the numbers and display a table with info about all iterations.
     2. Find the PFs of the numbers and use these to find the PFs of the GCD and LCM.
+    The CLI can also do calculation 2 for 2 to MAX_NUM_INPUTS input numbers, and it can find
+    Bézout coefficients for 2 input numbers and the inverse of each one mod the other.
      */
     
     // This section uses prime factorizations so the min input for those will be used.
     private static final long MIN_INPUT = PrimeFactorization.MIN_INPUT;
     private static final long MAX_INPUT = FIVE_QUADRILLION;
     
+    static final int MAX_NUM_INPUTS = 10;
+    
     /**
      * Record with data for an iteration of the Euclidean algorithm.
      */
@@ -87,27 +93,24 @@ prime factors and its PF is
     }
     
     /**
-     * Returns a list of iteration objects to represent all iterations of the Euclidean algorithm
-     * performed on input1 and input2.
+     * Returns a stream of iteration objects for all iterations of the Euclidean algorithm
+     * performed on input1 and input2. The iterations get found as the stream gets gone through
+     * instead of all being put in a list first, and each one is found from the one before it.
+     * Just the GCD can be found with Gcd.gcd, which doesn't keep track of any iterations.
      */
-    static List<EuclideanIteration> getEuclideanIterations(long input1, long input2) {
+    static Stream<EuclideanIteration> streamEuclideanIterations(long input1, long input2) {
         assertIsInRange(input1, MIN_INPUT, MAX_INPUT);
         assertIsInRange(input2, MIN_INPUT, MAX_INPUT);
         
         long max = Math.max(input1, input2);
         long min = Math.min(input1, input2);
-        long remainder = max % min;
-        var iterations = new ArrayList<EuclideanIteration>();
-        iterations.add(new EuclideanIteration(max, min, remainder));
-        
-        while (remainder != 0) {
-            max = min;
-            min = remainder;
-            remainder = max % min;
-            iterations.add(new EuclideanIteration(max, min, remainder));
-        }
         
-        return iterations;
+        // The iteration after the one with a remainder of 0 is null, which ends the stream.
+        return Stream.iterate(
+            new EuclideanIteration(max, min, max % min),
+            Objects::nonNull,
+            i -> i.remainder() == 0 ? null : new EuclideanIteration(i.min(), i.remainder(), i.min() % i.remainder())
+        );
     }
     
     // Text used for the Euclidean algorithm table
@@ -117,12 +120,12 @@ prime factors and its PF is
     private static final String EUCLIDEAN_REMAINDER_COLUMN_HEADING = "Remainder";
     
     /**
-     * Returns a message about what the GCD of 2 input numbers is. iterations should be a list
-     * returned from making a call to getEuclideanIterations. The min of the last object in that
-     * list is the GCD.
+     * Returns a message about what the GCD of 2 input numbers is. The GCD is the min of the last
+     * iteration of the Euclidean algorithm but it's found with Gcd.gcd so that the iterations
+     * don't have to be kept to get to the last one.
      */
-    private static String getEuclideanGcdMessage(List<EuclideanIteration> iterations) {
-        return String.format("The GCD is %s.", iterations.getLast().minString());
+    private static String getEuclideanGcdMessage(long input1Long, long input2Long) {
+        return String.format("The GCD is %s.", createStringWithCommas(Gcd.gcd(input1Long, input2Long)));
     }
     
     /**
@@ -131,24 +134,27 @@ prime factors and its PF is
      * Euclidean algorithm performed on input1Long and input2Long.
      */
     private static String getEuclideanCliAnswer(long input1Long, long input2Long) {
-        List<EuclideanIteration> iterations = getEuclideanIterations(input1Long, input2Long);
+        Stream<EuclideanIteration> iterations = streamEuclideanIterations(input1Long, input2Long);
         
         // The gap between the end of the longest item in a column and the item in the next column.
         final int columnGap = 4;
         
         /*
         Make column widths equal to the length of the longest element in the column + the column gap.
-        The first iteration will have the longest elements of all iterations.
+        The first iteration will have the longest elements of all iterations and its max and min
+        are the max and min of the inputs.
          */
-        EuclideanIteration iteration1 = iterations.getFirst();
-        
         int maxColumnWidth =
-            Math.max(EUCLIDEAN_MAX_COLUMN_HEADING.length(), iteration1.maxString().length()) +
-            columnGap;
+            Math.max(
+                EUCLIDEAN_MAX_COLUMN_HEADING.length(),
+                createStringWithCommas(Math.max(input1Long, input2Long)).length()
+            ) + columnGap;
         
         int minColumnWidth =
-            Math.max(EUCLIDEAN_MIN_COLUMN_HEADING.length(), iteration1.minString().length()) +
-            columnGap;
+            Math.max(
+                EUCLIDEAN_MIN_COLUMN_HEADING.length(),
+                createStringWithCommas(Math.min(input1Long, input2Long)).length()
+            ) + columnGap;
         
         String headRow =
             NtpCli.getRowFor3ColumnTable(
@@ -158,11 +164,10 @@ prime factors and its PF is
             );
         
         String collectingPrefix = EUCLIDEAN_TABLE_HEADING + '\n' + headRow + '\n';
-        String collectingSuffix = '\n' + getEuclideanGcdMessage(iterations);
+        String collectingSuffix = '\n' + getEuclideanGcdMessage(input1Long, input2Long);
         
         return
             iterations
-            .stream()
             .map(i ->
                 NtpCli.getRowFor3ColumnTable(
                     i.maxString(), maxColumnWidth, i.minString(), minColumnWidth, i.remainderString()
@@ -177,7 +182,6 @@ prime factors and its PF is
      * for each iteration of the Euclidean algorithm performed on input1Long and input2Long.
      */
     private static NtpPanel getEuclideanPanel(long input1Long, long input2Long) {
-        List<EuclideanIteration> iterations = getEuclideanIterations(input1Long, input2Long);
         
         Function<EuclideanIteration, Stream<String>> getIterationRowStrings =
             ei -> Stream.of(ei.maxString(), ei.minString(), ei.remainderString());
@@ -192,11 +196,11 @@ prime factors and its PF is
         NtpPanel iterationsTable =
             NtpPanel.createTablePanel(
                 columnHeadings,
-                iterations.stream(),
+                streamEuclideanIterations(input1Long, input2Long),
                 getIterationRowStrings
             );
         
-        String gcdMessage = getEuclideanGcdMessage(iterations);
+        String gcdMessage = getEuclideanGcdMessage(input1Long, input2Long);
         
         return
             new NtpPanel()
@@ -237,6 +241,79 @@ or 40 octillion ... It has 29 digits and 21 unique prime factors and its PF is
 Other pairs of input numbers have the same LCM, such as that first input number divided by 2 and
 the second input number multiplied by 2.""";
     
+    /**
+     * The PFs of the GCD and LCM of some PFs. If the GCD is 1, gcdPf is null since only integers
+     * ≥ 2 have a prime factorization.
+     */
+    record GcdAndLcmPfs(PrimeFactorization gcdPf, PrimeFactorization lcmPf) {}
+    
+    /**
+     * Returns the PFs of the GCD and LCM of the PFs provided, which there should be at least 1 of.
+     *
+     * The factors of each PF are sorted, so this does a merge join of them in 1 pass, like
+     * merging sorted lists, instead of looking up each factor of 1 PF in the others. Each PF has
+     * a cursor at the index of its next factor. The smallest factor at a cursor is the next
+     * factor of the LCM and its power in the LCM is the max of its powers in the PFs whose cursor
+     * is at it. If every PF's cursor is at it, then it's also a factor of the GCD and its power
+     * in the GCD is the min of those powers. Then those cursors move forward. Each factor of each
+     * PF gets looked at a constant number of times per PF, so the time is proportional to the
+     * number of unique prime factors times the number of PFs, which is at most MAX_NUM_INPUTS.
+     */
+    static GcdAndLcmPfs combinePfs(List<PrimeFactorization> pfs) {
+        var cursors = new int[pfs.size()];
+        var maxNumLcmFactors = 0;
+        var maxNumGcdFactors = Integer.MAX_VALUE;
+        for (PrimeFactorization pf : pfs) {
+            maxNumLcmFactors += pf.getNumFactors();
+            maxNumGcdFactors = Math.min(maxNumGcdFactors, pf.getNumFactors());
+        }
+        
+        var lcmFactors = new long[maxNumLcmFactors];
+        var lcmPowers = new byte[maxNumLcmFactors];
+        var numLcmFactors = 0;
+        var gcdFactors = new long[maxNumGcdFactors];
+        var gcdPowers = new byte[maxNumGcdFactors];
+        var numGcdFactors = 0;
+        
+        while (true) {
+            var smallestFactor = 0L;
+            for (var i = 0; i < cursors.length; i++) {
+                PrimeFactorization pf = pfs.get(i);
+                if (cursors[i] < pf.getNumFactors() && (smallestFactor == 0 || pf.getFactor(cursors[i]) < smallestFactor)) {
+                    smallestFactor = pf.getFactor(cursors[i]);
+                }
+            }
+            if (smallestFactor == 0) break;
+            
+            var minPower = Integer.MAX_VALUE;
+            var maxPower = 0;
+            var numPfsWithFactor = 0;
+            for (var i = 0; i < cursors.length; i++) {
+                PrimeFactorization pf = pfs.get(i);
+                if (cursors[i] < pf.getNumFactors() && pf.getFactor(cursors[i]) == smallestFactor) {
+                    int power = pf.getPower(cursors[i]++);
+                    minPower = Math.min(minPower, power);
+                    maxPower = Math.max(maxPower, power);
+                    numPfsWithFactor++;
+                }
+            }
+            
+            lcmFactors[numLcmFactors] = smallestFactor;
+            lcmPowers[numLcmFactors++] = (byte) maxPower;
+            if (numPfsWithFactor == cursors.length) {
+                gcdFactors[numGcdFactors] = smallestFactor;
+                gcdPowers[numGcdFactors++] = (byte) minPower;
+            }
+        }
+        
+        return new GcdAndLcmPfs(
+            numGcdFactors == 0
+                ? null
+                : new PrimeFactorization(Arrays.copyOf(gcdFactors, numGcdFactors), Arrays.copyOf(gcdPowers, numGcdFactors)),
+            new PrimeFactorization(Arrays.copyOf(lcmFactors, numLcmFactors), Arrays.copyOf(lcmPowers, numLcmFactors))
+        );
+    }
+    
     /**
      * This class uses PFs to find the GCD and LCM of 2 longs.
      */
@@ -267,32 +344,9 @@ the second input number multiplied by 2.""";
             }
             
             input2Pf = new PrimeFactorization(input2Long, input2String);
-            var gcdPfFps = new ArrayList<FactorAndPower>();
-            var lcmPfFps = new ArrayList<FactorAndPower>();
-            
-            for (FactorAndPower fp : input1Pf.getFps()) {
-                long factor = fp.factor();
-                int power1 = fp.power();
-                
-                input2Pf
-                .getPowerOf(factor)
-                .ifPresentOrElse(
-                    power2 -> {
-                        gcdPfFps.add(new FactorAndPower(factor, Math.min(power1, power2)));
-                        lcmPfFps.add(new FactorAndPower(factor, Math.max(power1, power2)));
-                    },
-                    () -> lcmPfFps.add(new FactorAndPower(factor, power1))
-                );
-            }
-            
-            for (FactorAndPower fp : input2Pf.getFps()) {
-                if (!input1Pf.containsFactor(fp.factor())) {
-                    lcmPfFps.add(new FactorAndPower(fp.factor(), fp.power()));
-                }
-            }
-            
-            gcdPf = gcdPfFps.isEmpty() ? null : new PrimeFactorization(gcdPfFps);
-            lcmPf = new PrimeFactorization(lcmPfFps);
+            GcdAndLcmPfs gcdAndLcmPfs = combinePfs(List.of(input1Pf, input2Pf));
+            gcdPf = gcdAndLcmPfs.gcdPf();
+            lcmPf = gcdAndLcmPfs.lcmPf();
         }
         
         Optional<PrimeFactorization> getGcdPf() {
@@ -304,26 +358,113 @@ the second input number multiplied by 2.""";
         }
         
         private Stream<String> getInfoSentences() {
-            String gcdSentence =
-                getGcdPf()
-                .map(pf -> getGcdOrLcmPfSentence("GCD", gcdPf))
-                .orElse("There are no common prime factors so the GCD is 1.");
-            
-            return Stream.of(
-                input1Pf.getInfoSentence(),
-                input2Pf.getInfoSentence(),
-                gcdSentence,
-                getGcdOrLcmPfSentence("LCM", lcmPf)
+            return Stream.concat(
+                Stream.of(input1Pf.getInfoSentence(), input2Pf.getInfoSentence()),
+                getGcdAndLcmSentences(gcdPf, lcmPf)
             );
         }
+    }
+    
+    private static Stream<String> getGcdAndLcmSentences(PrimeFactorization gcdPf, PrimeFactorization lcmPf) {
+        String gcdSentence =
+            gcdPf == null
+            ? "There are no common prime factors so the GCD is 1."
+            : getGcdOrLcmPfSentence("GCD", gcdPf);
+        return Stream.of(gcdSentence, getGcdOrLcmPfSentence("LCM", lcmPf));
+    }
+    
+    private static String getGcdOrLcmPfSentence(String gcdOrLcmText, PrimeFactorization pf) {
+        var textAfterIs = pf.isForAPrimeNumber() ? "" : pf + ", which is ";
+        return String.format(
+            "The PF of the %s is %s%s.",
+            gcdOrLcmText, textAfterIs, pf.getCorrespondingNumString()
+        );
+    }
+    
+    /**
+     * Returns a string with a main heading and PF info for the GCD and LCM of 2 to MAX_NUM_INPUTS
+     * input numbers, which is what the CLI's "m" choice for this section shows.
+     */
+    static String getManyInputsCliAnswer(long[] inputLongs) {
+        var inputPfs = new ArrayList<PrimeFactorization>(inputLongs.length);
+        var inputStrings = new ArrayList<String>(inputLongs.length);
+        for (long inputLong : inputLongs) {
+            assertIsInRange(inputLong, MIN_INPUT, MAX_INPUT);
+            String inputString = createStringWithCommas(inputLong);
+            inputPfs.add(new PrimeFactorization(inputLong, inputString));
+            inputStrings.add(inputString);
+        }
         
-        private static String getGcdOrLcmPfSentence(String gcdOrLcmText, PrimeFactorization pf) {
-            var textAfterIs = pf.isForAPrimeNumber() ? "" : pf + ", which is ";
-            return String.format(
-                "The PF of the %s is %s%s.",
-                gcdOrLcmText, textAfterIs, pf.getCorrespondingBigIntString()
+        GcdAndLcmPfs gcdAndLcmPfs = combinePfs(inputPfs);
+        Stream<String> pfInfoSentences =
+            Stream.concat(
+                inputPfs.stream().map(PrimeFactorization::getInfoSentence),
+                getGcdAndLcmSentences(gcdAndLcmPfs.gcdPf(), gcdAndLcmPfs.lcmPf())
             );
+        
+        String inputsString =
+            inputStrings.size() == 2
+            ? String.join(" and ", inputStrings)
+            : String.join(", ", inputStrings.subList(0, inputStrings.size() - 1)) + ", and " + inputStrings.getLast();
+        return String.join(
+            "\n\n",
+            "GCD and LCM Info for " + inputsString,
+            NtpCli.buildStringWithStreamElementsOnSeparateLines(PF_INFO_HEADING, pfInfoSentences)
+        );
+    }
+    
+    /**
+     * Returns a string with a main heading and sentences about Bézout coefficients for 2 input
+     * numbers and the inverse of each one mod the other, which is what the CLI's "b" choice for
+     * this section shows.
+     */
+    static String getBezoutCliAnswer(long input1Long, long input2Long) {
+        assertIsInRange(input1Long, MIN_INPUT, MAX_INPUT);
+        assertIsInRange(input2Long, MIN_INPUT, MAX_INPUT);
+        
+        String input1String = createStringWithCommas(input1Long);
+        String input2String = createStringWithCommas(input2Long);
+        BezoutCoefficients coefficients = Gcd.extendedGcd(input1Long, input2Long);
+        String xString = createStringWithCommas(coefficients.x());
+        String yString = createStringWithCommas(coefficients.y());
+        
+        String coefficientsSentence =
+            String.format(
+                "The GCD of %s and %s is %s and %s × %s + %s × %s = %s, so %s and %s are Bézout " +
+                    "coefficients for them.",
+                input1String, input2String, createStringWithCommas(coefficients.gcd()),
+                input1String, getParenthesizedIfNegative(coefficients.x(), xString),
+                input2String, getParenthesizedIfNegative(coefficients.y(), yString),
+                createStringWithCommas(coefficients.gcd()), xString, yString
+            );
+        
+        return String.join(
+            "\n\n",
+            String.format("Bézout Coefficients Info for %s and %s", input1String, input2String),
+            NtpCli.buildStringWithStreamElementsOnSeparateLines(
+                Stream.of(
+                    coefficientsSentence,
+                    getModInverseSentence(input1Long, input1String, input2Long, input2String),
+                    getModInverseSentence(input2Long, input2String, input1Long, input1String)
+                )
+            )
+        );
+    }
+    
+    private static String getParenthesizedIfNegative(long l, String lString) {
+        return l < 0 ? '(' + lString + ')' : lString;
+    }
+    
+    private static String getModInverseSentence(long a, String aString, long modulus, String modulusString) {
+        OptionalLong inverse = Gcd.modInverse(a, modulus);
+        if (inverse.isEmpty()) {
+            return String.format("%s has no inverse mod %s since their GCD isn't 1.", aString, modulusString);
         }
+        return String.format(
+            "The inverse of %s mod %s is %s, since %s × %s is 1 more than a multiple of %s.",
+            aString, modulusString, createStringWithCommas(inverse.getAsLong()),
+            aString, createStringWithCommas(inverse.getAsLong()), modulusString
+        );
     }
     
     
@@ -346,6 +487,35 @@ the second input number multiplied by 2.""";
             );
         }
         
+        @Override
+        public List<ExtraCliChoice> getExtraCliChoices() {
+            return List.of(
+                new ExtraCliChoice(
+                    "m",
+                    2,
+                    MAX_NUM_INPUTS,
+                    String.format(
+                        "find the GCD and LCM of those numbers using their PFs. Have the numbers be " +
+                            "≥ %d and ≤ 5 quadrillion.",
+                        MIN_INPUT
+                    ),
+                    GcdAndLcm::getManyInputsCliAnswer
+                ),
+                new ExtraCliChoice(
+                    "b",
+                    2,
+                    String.format(
+                        "find Bézout coefficients for those numbers, which are whole numbers x and y " +
+                            "where the first number × x + the second number × y = their GCD, and the " +
+                            "inverse of each number mod the other. Have the numbers be ≥ %d and " +
+                            "≤ 5 quadrillion.",
+                        MIN_INPUT
+                    ),
+                    inputs -> getBezoutCliAnswer(inputs[0], inputs[1])
+                )
+            );
+        }
+        
         @Override
         public String getCliAnswer(
             long input1Long, long input2Long,
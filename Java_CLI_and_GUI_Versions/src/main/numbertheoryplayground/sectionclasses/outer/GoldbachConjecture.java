@@ -1,17 +1,22 @@
 package numbertheoryplayground.sectionclasses.outer;
 
 import java.awt.Component;
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
 import java.util.stream.Stream;
 import numbertheoryplayground.NtpCli;
+import numbertheoryplayground.PrimeSieve;
 import numbertheoryplayground.gui.NtpGui;
 import numbertheoryplayground.gui.NtpTextArea;
+import numbertheoryplayground.sectionclasses.abstract_.Section.ExtraCliChoice;
 import numbertheoryplayground.sectionclasses.abstract_.SingleInputSection;
 
 import static numbertheoryplayground.Misc.*;
 import static numbertheoryplayground.sectionclasses.outer.Divisibility.isOdd;
-import static numbertheoryplayground.sectionclasses.outer.PrimeNumbers.isPrime;
 
 /**
  * Utility class related to the Goldbach conjecture and the section for it.
@@ -35,7 +40,7 @@ conjecture has been verified to be true for all even numbers ≥ 4 and ≤ 4 ×
     private static long MAX_INPUT;
     
     public static void setMaxInputForCli() {
-        MAX_INPUT = ONE_POINT_FIVE_MILLION;
+        MAX_INPUT = TEN_MILLION;
     }
     
     public static void setMaxInputForGui() {
@@ -54,45 +59,292 @@ conjecture has been verified to be true for all even numbers ≥ 4 and ≤ 4 ×
     deemed too long but the string for 300,000 is. There are still some inputs below 250,000 that
     result in a string that's deemed too long. 228,342 is one of them and it has 2,498 pairs of
     prime numbers that sum to it.
+    
+    The CLI max input is 10 million. Finding the pairs for it takes around 25 ms with 1 thread and
+    building the string for its 38,807 pairs takes around 85 ms more, so the max doesn't depend on
+    there being more than 1 processor. When there are more, the pairs get found with up to 1
+    thread per processor, and when there's only 1, no pool is used. The string is around 900,000
+    chars, which is around 3 times as long as the one for 1.5 million, the max before the pairs
+    were found with a bitset.
+     */
+    
+    /**
+     * The number of longs of the bitset that a single task sieves or scans for pairs. 2^12 longs
+     * take up 32 KB and cover 2^18 odd numbers, so a chunk fits in the L1 or L2 cache while its
+     * bits are getting crossed off.
+     */
+    private static final int WORDS_PER_CHUNK = 1 << 12;
+    
+    /**
+     * Task that sieves the longs of a bitset of odd primes from fromWord to toWord. Bit j of the
+     * long at index j / 64 is for 2j + 1. If there are more than WORDS_PER_CHUNK longs, then the
+     * range gets split in half and the halves get sieved in parallel. Since each task only writes
+     * to its own longs, no synchronization is needed. The tasks never get serialized.
+     */
+    @SuppressWarnings("serial")
+    private static final class SieveTask extends RecursiveAction {
+        private final long[] bits;
+        
+        private final int numBits;
+        
+        private final int[] basePrimes;
+        
+        private final int fromWord;
+        
+        private final int toWord;
+        
+        private SieveTask(long[] bits, int numBits, int[] basePrimes, int fromWord, int toWord) {
+            this.bits = bits;
+            this.numBits = numBits;
+            this.basePrimes = basePrimes;
+            this.fromWord = fromWord;
+            this.toWord = toWord;
+        }
+        
+        @Override
+        protected void compute() {
+            if (toWord - fromWord > WORDS_PER_CHUNK) {
+                int middleWord = (fromWord + toWord) >>> 1;
+                invokeAll(
+                    new SieveTask(bits, numBits, basePrimes, fromWord, middleWord),
+                    new SieveTask(bits, numBits, basePrimes, middleWord, toWord)
+                );
+                return;
+            }
+            
+            Arrays.fill(bits, fromWord, toWord, -1L);
+            // Clear the bit for 1 and the bits past the last one.
+            if (fromWord == 0) {
+                bits[0] &= ~1L;
+            }
+            if (toWord == bits.length && numBits % 64 != 0) {
+                bits[toWord - 1] &= (1L << numBits) - 1;
+            }
+            
+            int fromBit = 64 * fromWord;
+            int toBit = Math.min(numBits, 64 * toWord);
+            for (int prime : basePrimes) {
+                // The bit for the square of the prime is prime^2 / 2 and the bits for the odd
+                // multiples after that are every prime bits, which are the bits that are
+                // (prime − 1) / 2 mod the prime.
+                long square = (long) prime * prime;
+                if (square / 2 >= toBit) break;
+                
+                long k = Math.max(square / 2, fromBit + Math.floorMod(prime / 2 - fromBit, prime));
+                for (; k < toBit; k += prime) {
+                    bits[(int) (k >>> 6)] &= ~(1L << k);
+                }
+            }
+        }
+    }
+    
+    /**
+     * Returns a bitset of the odd primes ≤ max, stored in longs. Bit j of the long at index j / 64
+     * is set if 2j + 1 is prime. This uses a segmented sieve of Eratosthenes with the base primes
+     * from PrimeSieve and the segments get sieved by the pool. If the pool is null, then there
+     * should only be 1 segment and it gets sieved by the current thread.
+     */
+    private static long[] getOddPrimeBits(int max, ForkJoinPool pool) {
+        int numBits = max / 2 + 1;
+        var bits = new long[(numBits + 63) / 64];
+        int[] basePrimes = PrimeSieve.getBasePrimes((long) Math.sqrt(max) + 1);
+        var task = new SieveTask(bits, numBits, basePrimes, 0, bits.length);
+        
+        if (pool == null) {
+            task.compute();
+        } else {
+            pool.invoke(task);
+        }
+        return bits;
+    }
+    
+    /**
+     * Returns the 64 bits of the bitset that start at the bit index provided. The index can be
+     * negative, in which case the bits before the start of the bitset are 0. The bits after the end
+     * of the bitset are also 0.
+     */
+    private static long getBitsStartingAt(long[] bits, int start) {
+        if (start <= -64) return 0;
+        if (start < 0) return bits[0] << -start;
+        
+        int wordIndex = start >>> 6;
+        int shift = start & 63;
+        long lowBits = wordIndex < bits.length ? bits[wordIndex] >>> shift : 0;
+        long highBits = shift != 0 && wordIndex + 1 < bits.length ? bits[wordIndex + 1] << (64 - shift) : 0;
+        return lowBits | highBits;
+    }
+    
+    /**
+     * Task that finds the pair starts whose bits are in the longs from fromWord to toWord of a
+     * bitset of odd primes, using the reversed view approach described for getPrimePairStarts.
+     * Just like SieveTask, ranges with more than WORDS_PER_CHUNK longs get split in half and the
+     * halves get scanned in parallel. Each task collects its pair starts into its own array and
+     * the array for the left half gets concatenated with the one for the right half, so the pair
+     * starts stay in increasing order without any sorting.
+     */
+    @SuppressWarnings("serial")
+    private static final class PairStartsTask extends RecursiveTask<int[]> {
+        private final long[] bits;
+        
+        private final int s;
+        
+        private final int fromWord;
+        
+        private final int toWord;
+        
+        private PairStartsTask(long[] bits, int s, int fromWord, int toWord) {
+            this.bits = bits;
+            this.s = s;
+            this.fromWord = fromWord;
+            this.toWord = toWord;
+        }
+        
+        @Override
+        protected int[] compute() {
+            if (toWord - fromWord > WORDS_PER_CHUNK) {
+                int middleWord = (fromWord + toWord) >>> 1;
+                var leftTask = new PairStartsTask(bits, s, fromWord, middleWord);
+                leftTask.fork();
+                int[] rightPairStarts = new PairStartsTask(bits, s, middleWord, toWord).compute();
+                int[] leftPairStarts = leftTask.join();
+                
+                int[] pairStarts = Arrays.copyOf(leftPairStarts, leftPairStarts.length + rightPairStarts.length);
+                System.arraycopy(rightPairStarts, 0, pairStarts, leftPairStarts.length, rightPairStarts.length);
+                return pairStarts;
+            }
+            
+            int maxA = s / 2;
+            var pairStarts = new int[64];
+            var numPairs = 0;
+            
+            for (var wordIndex = fromWord; wordIndex < toWord; wordIndex++) {
+                // Bit k of the reversed view is bit s − (64 × wordIndex + k) of the bitset.
+                long reversedView = Long.reverse(getBitsStartingAt(bits, s - 64 * wordIndex - 63));
+                long pairBits = bits[wordIndex] & reversedView;
+                
+                while (pairBits != 0) {
+                    int a = 64 * wordIndex + Long.numberOfTrailingZeros(pairBits);
+                    if (a > maxA) break;
+                    
+                    if (numPairs == pairStarts.length) {
+                        pairStarts = Arrays.copyOf(pairStarts, 2 * numPairs);
+                    }
+                    pairStarts[numPairs++] = 2 * a + 1;
+                    // Clear the lowest set bit.
+                    pairBits &= pairBits - 1;
+                }
+            }
+            
+            return Arrays.copyOf(pairStarts, numPairs);
+        }
+    }
+    
+    private static final int MIN_PARALLELISM = 1;
+    private static final int MAX_PARALLELISM = 64;
+    
+    /**
+     * The pools that getPrimePairStarts uses, by parallelism. A pool gets created the first time
+     * a parallelism is used and then shared by every call with that parallelism, instead of
+     * starting and stopping threads for every input. The worker threads of a ForkJoinPool are
+     * daemon threads that stop after being idle for a while, so an unused pool doesn't keep the
+     * app running or hold on to any threads.
+     */
+    private static final ConcurrentHashMap<Integer, ForkJoinPool> pools = new ConcurrentHashMap<>();
+    
+    /**
+     * Finds the pairs of primes that sum to the input and returns an array that contains the
+     * lowest numbers of those pairs. The work is split up among as many threads as there are
+     * processors available, up to MAX_PARALLELISM.
+     */
+    static int[] getPrimePairStarts(long input) {
+        return getPrimePairStarts(input, getDefaultParallelism(Runtime.getRuntime().availableProcessors()));
+    }
+    
+    /**
+     * Returns the parallelism to use by default when there are numProcessors processors, which is
+     * 1 thread per processor but no more than MAX_PARALLELISM.
      */
+    static int getDefaultParallelism(int numProcessors) {
+        return Math.min(numProcessors, MAX_PARALLELISM);
+    }
     
     /**
-     * Find the pairs of primes that sum to the input and returns a list that contains the
-     * lowest numbers of those pairs.
+     * Finds the pairs of primes that sum to the input and returns an array that contains the
+     * lowest numbers of those pairs. The parallelism is the max number of threads to use and
+     * should be ≥ 1 and ≤ 64.
+     *
+     * Besides 2 + 2 = 4, both primes in a pair are odd. If 2a + 1 and 2b + 1 sum to the input, then
+     * a + b = input / 2 − 1. Let's call that s. So we need to find the bits a ≤ s / 2 where bit a and
+     * bit s − a are both set in a bitset of odd primes. Instead of checking those bits one at a
+     * time, a reversed view of the bitset is created 64 bits at a time with Long.reverse, so that
+     * bit a of the view is bit s − a of the bitset. ANDing the bitset and the view then finds up to
+     * 64 pairs at once.
+     *
+     * Both the sieving and the scanning for pairs get split into chunks of WORDS_PER_CHUNK longs
+     * that are done in parallel by a ForkJoinPool. The scanning can't start until all the sieving
+     * is done since bit s − a could be in any chunk. If the parallelism is 1 or the input is small
+     * enough for there to only be 1 chunk, then no pool is used and everything is done by the
+     * current thread, since a pool would only add the overhead of handing the tasks to its threads.
      */
-    static List<Integer> getPrimePairStarts(long input) {
+    static int[] getPrimePairStarts(long input, int parallelism) {
         assertIsInRange(input, MIN_INPUT, MAX_INPUT);
         if (isOdd(input)) {
             throw InvalidInputNumberException.getInstance();
         }
+        if (parallelism < MIN_PARALLELISM || parallelism > MAX_PARALLELISM) {
+            throw new IllegalArgumentException("The parallelism must be ≥ 1 and ≤ 64.");
+        }
         
-        if (input == 4) return List.of(2);
-        
-        /*
-        Check if the input is 4 since 4 is the only even number ≥ 4 that has 2 in a pair of
-        primes that sum to it. If the input isn't 4, then check pairs of odd numbers that sum to
-        the input for primality. The iterating only needs to go up to the floor of half of the
-        input. After that point, checks for primality will be done on pairs of numbers that have
-        already been checked for primality.
-         */
-        var pairStarts = new ArrayList<Integer>();
-        var maxPossiblePairStart = (int) input / 2;
-        
-        for (var i = 3; i <= maxPossiblePairStart; i += 2) {
-            if (isPrime(i) && isPrime(input - i)) {
-                pairStarts.add(i);
-            }
+        // 4 is the only even number ≥ 4 that has 2 in a pair of primes that sum to it.
+        if (input == 4) return new int[] {2};
+        
+        var intInput = (int) input;
+        int s = intInput / 2 - 1;
+        int numPairWords = (s / 2 >>> 6) + 1;
+        
+        if (parallelism == 1 || intInput / 2 + 1 <= 64 * WORDS_PER_CHUNK) {
+            long[] bits = getOddPrimeBits(intInput, null);
+            return new PairStartsTask(bits, s, 0, numPairWords).compute();
         }
         
-        return pairStarts;
+        ForkJoinPool pool = pools.computeIfAbsent(parallelism, ForkJoinPool::new);
+        long[] bits = getOddPrimeBits(intInput, pool);
+        return pool.invoke(new PairStartsTask(bits, s, 0, numPairWords));
+    }
+    
+    /**
+     * Returns a sentence about how many pairs of primes sum to the input and how long it took to
+     * find them with up to parallelism threads, followed by the pairs. This lets the parallelism
+     * be picked in the CLI, so the time for different numbers of threads can be compared on
+     * computers with more than 1 processor.
+     */
+    static String getTimedCliAnswer(long input, long parallelism) {
+        assertIsInRange(parallelism, MIN_PARALLELISM, MAX_PARALLELISM);
+        
+        long startTime = System.nanoTime();
+        int[] pairStarts = getPrimePairStarts(input, (int) parallelism);
+        long nanos = System.nanoTime() - startTime;
+        
+        String inputString = createStringWithCommas(input);
+        String timeSentence =
+            String.format(
+                "They were found in %.3f ms with up to %d thread%s.",
+                nanos / 1e6,
+                parallelism,
+                parallelism == 1 ? "" : "s"
+            );
+        return NtpCli.buildStringWithStreamElementsOnLongLines(
+            NtpCli.putNewLineChars(getNumPairsSentence(pairStarts.length, inputString) + ' ' + timeSentence),
+            getPrimePairStrings(pairStarts, input)
+        );
     }
     
     /**
      * Returns a stream of the string representations of the pairs of primes that sum to the input.
-     * pairStarts should be a list returned from calling getPrimePairStarts using the input.
+     * pairStarts should be an array returned from calling getPrimePairStarts using the input.
      */
-    private static Stream<String> getPrimePairStrings(List<Integer> pairStarts, long input) {
-        return pairStarts.stream().map(start -> longPairToString(start, input - start));
+    private static Stream<String> getPrimePairStrings(int[] pairStarts, long input) {
+        return Arrays.stream(pairStarts).mapToObj(start -> longPairToString(start, input - start));
     }
     
     private static String getNumPairsSentence(int numPairs, String inputString) {
@@ -128,18 +380,38 @@ conjecture has been verified to be true for all even numbers ≥ 4 and ≤ 4 ×
             );
         }
         
+        @Override
+        public List<ExtraCliChoice> getExtraCliChoices() {
+            return List.of(
+                new ExtraCliChoice(
+                    "p",
+                    2,
+                    String.format(
+                        "find the pairs of prime numbers that sum to the first number using up to the " +
+                            "2nd number of threads, and say how long that took. Have the first number " +
+                            "be even, ≥ %d, and ≤ %s and the 2nd number be ≥ %d and ≤ %d. This computer " +
+                            "has %d processor%s.",
+                        MIN_INPUT, createStringWithCommas(MAX_INPUT), MIN_PARALLELISM, MAX_PARALLELISM,
+                        Runtime.getRuntime().availableProcessors(),
+                        Runtime.getRuntime().availableProcessors() == 1 ? "" : "s"
+                    ),
+                    inputs -> getTimedCliAnswer(inputs[0], inputs[1])
+                )
+            );
+        }
+        
         @Override
         public String getCliAnswer(long inputLong, String inputString) {
-            List<Integer> pairStarts = getPrimePairStarts(inputLong);
+            int[] pairStarts = getPrimePairStarts(inputLong);
             return NtpCli.buildStringWithStreamElementsOnLongLines(
-                getPairsHeading(pairStarts.size(), inputString),
+                getPairsHeading(pairStarts.length, inputString),
                 getPrimePairStrings(pairStarts, inputLong)
             );
         }
         
         @Override
         public List<Component> getGuiComponents(long inputLong, String inputString) {
-            List<Integer> pairStarts = getPrimePairStarts(inputLong);
+            int[] pairStarts = getPrimePairStarts(inputLong);
             
             /*
             Check if the string formed when trying to create pairsTextArea is deemed too long.
@@ -149,12 +421,12 @@ conjecture has been verified to be true for all even numbers ≥ 4 and ≤ 4 ×
                 var pairsTextArea =
                     NtpTextArea.createWideOneWithStreamElements(getPrimePairStrings(pairStarts, inputLong));
                 return List.of(
-                    NtpGui.createListHeadingLabel(getPairsHeading(pairStarts.size(), inputString)),
+                    NtpGui.createListHeadingLabel(getPairsHeading(pairStarts.length, inputString)),
                     pairsTextArea
                 );
             } catch (NtpTextArea.StringTooLongException ex) {
                 String textToDisplay =
-                    getNumPairsSentence(pairStarts.size(), inputString) + ' ' +
+                    getNumPairsSentence(pairStarts.length, inputString) + ' ' +
                     NtpTextArea.StringTooLongException.ERROR_MESSAGE;
                 return List.of(new NtpTextArea(textToDisplay));
             }
@@ -1,15 +1,17 @@
 package numbertheoryplayground.sectionclasses.outer;
 
 import java.awt.Component;
-import java.math.BigInteger;
 import java.util.*;
-import java.util.stream.*;
+import numbertheoryplayground.Gcd;
+import numbertheoryplayground.LongOrBigInt;
+import numbertheoryplayground.Montgomery;
 import numbertheoryplayground.NtpCli;
 import numbertheoryplayground.gui.NtpGui;
 import numbertheoryplayground.sectionclasses.abstract_.SingleInputSection;
 
 import static numbertheoryplayground.Misc.*;
 import static numbertheoryplayground.sectionclasses.outer.Divisibility.*;
+import static numbertheoryplayground.sectionclasses.outer.PrimeNumbers.isPrime;
 
 /**
  * Class that can be instantiated and also has static members related to prime factorizations and
@@ -45,12 +47,12 @@ by 2 or 3 and those numbers are ≤ the max input and have the same amount of un
      */
     record FactorAndPower(long factor, int power) {}
     /**
-     * The BigInteger that this prime factorization is for.
+     * The number that this prime factorization is for.
      */
-    private final BigInteger correspondingBigInt;
+    private final LongOrBigInt correspondingNum;
     
     /*
-    Why use a BigInteger? Well, this class has 2 constructors, 1 of which has a list for a param.
+    Why not just use a long? Well, this class has 2 constructors, 1 of which has a list for a param.
     1 place where that one is used is in the constructor for the
     GcdAndLcmAnswer.PrimeFactorizationAnswer class. That constructor creates a list of the prime
     factors and powers of the LCM of 2 input longs, and then creates a PrimeFactorization using
@@ -60,16 +62,30 @@ by 2 or 3 and those numbers are ≤ the max input and have the same amount of un
     the PF_INFO string above the GcdAndLcmAnswer.PrimeFactorizationAnswer class. That LCM is
     5 quadrillion × (5 quadrillion − 1), which is almost 25 nonillion, which is a number with 32
     digits. The max value for a long is 9 quintillion something, which is a relatively small
-    number with 19 digits.
+    number with 19 digits. A LongOrBigInt holds the number as a long when it fits in one and
+    only makes a BigInteger for the PFs whose number doesn't, which is hardly any of them.
      */
     
-    private final String correspondingBigIntString;
+    private final String correspondingNumString;
+    
+    /*
+    The factors and powers are kept in 2 parallel arrays instead of a list of FactorAndPower
+    records. The factors are sorted, which is appropriate for the string representation of this,
+    and lets getPowerOf and containsFactor do a binary search. A power can't be more than 62,
+    since 2^63 is too big for a long, so a byte is enough for it. Divisibility can make
+    thousands of PFs for the factors of 1 number, and each one is 2 arrays instead of a list and
+    a record for each factor.
+     */
+    
+    private final long[] factors;
+    
+    private final byte[] powers;
     
     /**
-     * An immutable list that's sorted by factors, which is appropriate for the string
-     * representation of this.
+     * Trial division is only done with numbers < this. Any prime factors > this get found with
+     * the Miller-Rabin primality test and Pollard's rho algorithm.
      */
-    private final List<FactorAndPower> fps;
+    private static final long TRIAL_DIVISION_LIMIT = 1_000;
     
     /**
      * Constructs a PrimeFactorization for the prime factorization of the input long.
@@ -77,17 +93,29 @@ by 2 or 3 and those numbers are ≤ the max input and have the same amount of un
     PrimeFactorization(long inputLong, String inputString) {
         assertIsInRange(inputLong, MIN_INPUT, MAX_INPUT);
         
-        correspondingBigInt = BigInteger.valueOf(inputLong);
-        correspondingBigIntString = inputString;
+        correspondingNum = LongOrBigInt.valueOf(inputLong);
+        correspondingNumString = inputString;
+        List<FactorAndPower> fps = factor(inputLong);
+        factors = new long[fps.size()];
+        powers = new byte[fps.size()];
+        copyFps(fps, factors, powers);
+    }
+    
+    /**
+     * Returns an immutable list of the prime factors and powers of l, sorted by factors. l should
+     * be > 1 but it can be any long like that, not just one ≤ MAX_INPUT. This is used by the
+     * constructor above and by TwoSquareTheorem, which needs PFs of longs > MAX_INPUT.
+     */
+    static List<FactorAndPower> factor(long l) {
         var tempFps = new ArrayList<FactorAndPower>();
-        var maxLongToCheck = (long) Math.sqrt(inputLong);
-        long remaining = inputLong;
-
+        long remaining = l;
+        
         /*
-        Find all the prime factors and their powers and put these in tempFps. Divide remaining
-        by each factor that's found. When remaining becomes 1, the entire prime factorization has
-        been found. First 2 will be checked and then odd numbers will be checked since all prime
-        numbers besides 2 are odd.
+        Find all the small prime factors and their powers and put these in tempFps. Divide
+        remaining by each factor that's found. First 2 will be checked and then odd numbers
+        < TRIAL_DIVISION_LIMIT will be checked since all prime numbers besides 2 are odd. Trial
+        division all the way up to the square root of the input would take around 50 million
+        divisions for an input that's the product of 2 primes close to 100 million.
          */
         
         if (isDivisible(remaining, 2)) {
@@ -99,25 +127,138 @@ by 2 or 3 and those numbers are ≤ the max input and have the same amount of un
             tempFps.add(new FactorAndPower(2, power));
         }
         
-        if (remaining > 1) {
-            for (var possiblePrimeFactor = 3L; possiblePrimeFactor <= maxLongToCheck; possiblePrimeFactor += 2) {
-                if (isDivisible(remaining, possiblePrimeFactor)) {
-                    var power = 0;
-                    do {
-                        power++;
-                        remaining /= possiblePrimeFactor;
-                    } while (isDivisible(remaining, possiblePrimeFactor));
-                    tempFps.add(new FactorAndPower(possiblePrimeFactor, power));
-                    if (remaining == 1) break;
-                }
+        for (
+            var possiblePrimeFactor = 3L;
+            possiblePrimeFactor < TRIAL_DIVISION_LIMIT && possiblePrimeFactor * possiblePrimeFactor <= remaining;
+            possiblePrimeFactor += 2
+        ) {
+            if (isDivisible(remaining, possiblePrimeFactor)) {
+                var power = 0;
+                do {
+                    power++;
+                    remaining /= possiblePrimeFactor;
+                } while (isDivisible(remaining, possiblePrimeFactor));
+                tempFps.add(new FactorAndPower(possiblePrimeFactor, power));
             }
         }
         
+        /*
+        If remaining is > 1 at this point, then all its prime factors are ≥ TRIAL_DIVISION_LIMIT
+        or the loop above ended because remaining became < the square of a possible factor, in
+        which case remaining is prime. Either way, split remaining into its prime factors and
+        then count how many times each one appears.
+         */
         if (remaining > 1) {
-            tempFps.add(new FactorAndPower(remaining, 1));
+            var largePrimeFactors = new ArrayList<Long>();
+            addLargePrimeFactors(remaining, largePrimeFactors);
+            largePrimeFactors.sort(null);
+            
+            var i = 0;
+            while (i < largePrimeFactors.size()) {
+                long factor = largePrimeFactors.get(i);
+                var power = 0;
+                do {
+                    power++;
+                    i++;
+                } while (i < largePrimeFactors.size() && largePrimeFactors.get(i) == factor);
+                tempFps.add(new FactorAndPower(factor, power));
+            }
+        }
+        
+        return List.copyOf(tempFps);
+    }
+    
+    /**
+     * Adds the prime factors of l to the list provided, with a factor being added multiple times if
+     * its power is > 1. l should be > 1 and not have any prime factors < TRIAL_DIVISION_LIMIT
+     * unless l is prime.
+     */
+    private static void addLargePrimeFactors(long l, List<Long> primeFactors) {
+        if (isPrime(l)) {
+            primeFactors.add(l);
+            return;
         }
         
-        fps = List.copyOf(tempFps);
+        long factor = findFactor(l);
+        addLargePrimeFactors(factor, primeFactors);
+        addLargePrimeFactors(l / factor, primeFactors);
+    }
+    
+    /**
+     * The number of steps that Pollard's rho algorithm takes between finding GCDs.
+     */
+    private static final int RHO_GCD_BATCH_SIZE = 128;
+    
+    /**
+     * Returns a factor of the composite long provided that's > 1 and < that long. This uses
+     * Richard Brent's version of Pollard's rho algorithm. l should be odd.
+     *
+     * The algorithm creates a sequence of numbers mod l by starting with a number and finding
+     * the next one with the function x^2 + c. Since there are only so many numbers mod l, the
+     * sequence will eventually repeat and when it's considered mod p, where p is an unknown prime
+     * factor of l, it'll repeat after around the square root of p steps. When 2 numbers in the
+     * sequence are the same mod p, the GCD of their difference and l will be divisible by p.
+     * Brent's version finds the repetition with a "tortoise" number x that stays in place while a
+     * "hare" number y moves ahead a power of 2 steps. Instead of finding the GCD of x − y and l
+     * after every step, the differences get multiplied together and the GCD of that product and l
+     * gets found every RHO_GCD_BATCH_SIZE steps.
+     *
+     * The numbers in the sequence are kept in Montgomery form, which doesn't change any GCDs
+     * with l since Montgomery form is a number multiplied by a power of 2 mod l.
+     */
+    static long findFactor(long l) {
+        var montgomery = new Montgomery(l);
+        
+        for (long c = 1; ; c++) {
+            long cMontgomery = montgomery.toMontgomery(c);
+            long x;
+            long y = montgomery.toMontgomery(2);
+            long ySaved = y;
+            long product = montgomery.getOne();
+            long gcd = 1;
+            
+            for (long stepsToTake = 1; gcd == 1; stepsToTake *= 2) {
+                x = y;
+                for (long i = 0; i < stepsToTake; i++) {
+                    y = nextRhoNumber(montgomery, y, cMontgomery);
+                }
+                
+                for (long stepsTaken = 0; stepsTaken < stepsToTake && gcd == 1; stepsTaken += RHO_GCD_BATCH_SIZE) {
+                    ySaved = y;
+                    long batchSize = Math.min(RHO_GCD_BATCH_SIZE, stepsToTake - stepsTaken);
+                    for (long i = 0; i < batchSize; i++) {
+                        y = nextRhoNumber(montgomery, y, cMontgomery);
+                        product = montgomery.multiply(product, Math.abs(x - y));
+                    }
+                    gcd = Gcd.gcd(product, l);
+                }
+                
+                if (gcd == l) {
+                    /*
+                    The product became divisible by l, which can happen if more than 1 prime factor
+                    of l got found in the same batch. Go back to the start of the batch and find
+                    the GCD after every step.
+                     */
+                    do {
+                        ySaved = nextRhoNumber(montgomery, ySaved, cMontgomery);
+                        gcd = Gcd.gcd(Math.abs(x - ySaved), l);
+                    } while (gcd == 1);
+                }
+            }
+            
+            // If the GCD is still l, then this value of c didn't work so try the next one.
+            if (gcd != l) return gcd;
+        }
+    }
+    
+    /**
+     * Returns x^2 + c mod the Montgomery modulus, where x and c are in Montgomery form.
+     */
+    private static long nextRhoNumber(Montgomery montgomery, long x, long c) {
+        long next = montgomery.multiply(x, x) + c;
+        long modulus = montgomery.getModulus();
+        // next might have gone over the max long, in which case it's negative.
+        return next >= modulus || next < 0 ? next - modulus : next;
     }
     
     /**
@@ -125,31 +266,115 @@ by 2 or 3 and those numbers are ≤ the max input and have the same amount of un
      * are in the list provided.
      */
     PrimeFactorization(List<FactorAndPower> fps) {
-        this.fps =
-            fps
-            .stream()
-            .sorted(Comparator.comparingLong(FactorAndPower::factor))
-            .toList();
+        factors = new long[fps.size()];
+        powers = new byte[fps.size()];
+        copyFps(fps, factors, powers);
         
-        BigInteger tempCorrespondingBigInt = BigInteger.ONE;
-        for (FactorAndPower fp : fps) {
-            BigInteger multiplicand = BigInteger.valueOf((long) Math.pow(fp.factor, fp.power));
-            tempCorrespondingBigInt = tempCorrespondingBigInt.multiply(multiplicand);
+        // Insertion sort both arrays by factors, since there are at most around 20 factors.
+        for (var i = 1; i < factors.length; i++) {
+            long factor = factors[i];
+            byte power = powers[i];
+            int j = i - 1;
+            for (; j >= 0 && factors[j] > factor; j--) {
+                factors[j + 1] = factors[j];
+                powers[j + 1] = powers[j];
+            }
+            factors[j + 1] = factor;
+            powers[j + 1] = power;
+        }
+        
+        correspondingNum = multiplyPowers(factors, powers);
+        correspondingNumString = createStringWithCommas(correspondingNum);
+    }
+    
+    /**
+     * Constructs a PrimeFactorization for a long whose factors and powers are already known. The
+     * factors should be sorted and the arrays get used as they are, so they shouldn't be changed
+     * after this, and the long doesn't get calculated from them. Divisibility uses this for the
+     * divisors of a number.
+     */
+    PrimeFactorization(long correspondingLong, long[] sortedFactors, byte[] powers) {
+        factors = sortedFactors;
+        this.powers = powers;
+        correspondingNum = LongOrBigInt.valueOf(correspondingLong);
+        correspondingNumString = createStringWithCommas(correspondingLong);
+    }
+    
+    /**
+     * Constructs a PrimeFactorization for the factors and powers in the arrays, whose product gets
+     * calculated. The factors should be sorted and the arrays get used as they are, so they
+     * shouldn't be changed after this. GcdAndLcm uses this for GCD and LCM PFs.
+     */
+    PrimeFactorization(long[] sortedFactors, byte[] powers) {
+        factors = sortedFactors;
+        this.powers = powers;
+        correspondingNum = multiplyPowers(factors, powers);
+        correspondingNumString = createStringWithCommas(correspondingNum);
+    }
+    
+    private static void copyFps(List<FactorAndPower> fps, long[] factors, byte[] powers) {
+        for (var i = 0; i < factors.length; i++) {
+            FactorAndPower fp = fps.get(i);
+            if (fp.power < 1 || fp.power > Byte.MAX_VALUE) {
+                throw new IllegalArgumentException("Each power must be ≥ 1 and ≤ " + Byte.MAX_VALUE + '.');
+            }
+            factors[i] = fp.factor;
+            powers[i] = (byte) fp.power;
+        }
+    }
+    
+    /**
+     * Returns the exact product of the factors raised to their powers, no matter how big it is.
+     * The product gets multiplied as a long for as long as Math.multiplyHigh says that it fits in
+     * one, so that there's no LongOrBigInt for each multiplication, and then as a LongOrBigInt,
+     * which holds it as a BigInteger.
+     */
+    private static LongOrBigInt multiplyPowers(long[] factors, byte[] powers) {
+        long longProduct = 1;
+        LongOrBigInt product = null;
+        for (var i = 0; i < factors.length; i++) {
+            for (var j = 0; j < powers[i]; j++) {
+                if (product == null) {
+                    long nextLongProduct = longProduct * factors[i];
+                    if (Math.multiplyHigh(longProduct, factors[i]) == 0 && nextLongProduct >= 0) {
+                        longProduct = nextLongProduct;
+                        continue;
+                    }
+                    product = LongOrBigInt.valueOf(longProduct);
+                }
+                product = product.multiply(factors[i]);
+            }
         }
-        correspondingBigInt = tempCorrespondingBigInt;
-        correspondingBigIntString = createStringWithCommas(correspondingBigInt);
+        return product == null ? LongOrBigInt.valueOf(longProduct) : product;
     }
     
-    BigInteger getCorrespondingBigInt() {
-        return correspondingBigInt;
+    LongOrBigInt getCorrespondingNum() {
+        return correspondingNum;
     }
     
-    public String getCorrespondingBigIntString() {
-        return correspondingBigIntString;
+    public String getCorrespondingNumString() {
+        return correspondingNumString;
     }
     
+    /**
+     * Returns an immutable list of the factors and powers, sorted by factors. The list is a view of
+     * the arrays, so the FactorAndPower records get made as the list gets read. getNumFactors,
+     * getFactor, and getPower can be used to go through them without making any.
+     */
     List<FactorAndPower> getFps() {
-        return fps;
+        return new FpList();
+    }
+    
+    int getNumFactors() {
+        return factors.length;
+    }
+    
+    long getFactor(int index) {
+        return factors[index];
+    }
+    
+    int getPower(int index) {
+        return powers[index];
     }
     
     /**
@@ -159,22 +384,20 @@ by 2 or 3 and those numbers are ≤ the max input and have the same amount of un
      */
     @Override
     public String toString() {
-        return
-            fps
-            .stream()
-            .map(fp -> {
-                var factorString = createStringWithCommas(fp.factor);
-                return fp.power == 1 ? factorString : String.format("%s^%d", factorString, fp.power);
-            })
-            .collect(Collectors.joining(" × "));
+        var joiner = new StringJoiner(" × ");
+        for (var i = 0; i < factors.length; i++) {
+            String factorString = createStringWithCommas(factors[i]);
+            joiner.add(powers[i] == 1 ? factorString : String.format("%s^%d", factorString, powers[i]));
+        }
+        return joiner.toString();
     }
     
     boolean isForAPrimeNumber() {
-        return fps.size() == 1 && fps.getFirst().power == 1;
+        return factors.length == 1 && powers[0] == 1;
     }
     
     String getInfoSentence() {
-        return String.format("The PF of %s is %s.", correspondingBigIntString, this);
+        return String.format("The PF of %s is %s.", correspondingNumString, this);
     }
     
     /**
@@ -182,19 +405,27 @@ by 2 or 3 and those numbers are ≤ the max input and have the same amount of un
      * Otherwise, an empty Optional will be returned.
      */
     OptionalInt getPowerOf(long factor) {
-        return
-            fps
-            .stream()
-            .filter(fp -> fp.factor == factor)
-            .mapToInt(FactorAndPower::power)
-            .findFirst();
+        int index = Arrays.binarySearch(factors, factor);
+        return index >= 0 ? OptionalInt.of(powers[index]) : OptionalInt.empty();
     }
     
     boolean containsFactor(long l) {
-        return
-            fps
-            .stream()
-            .anyMatch(fp -> fp.factor == l);
+        return Arrays.binarySearch(factors, l) >= 0;
+    }
+    
+    /**
+     * The list that getFps returns.
+     */
+    private final class FpList extends AbstractList<FactorAndPower> implements RandomAccess {
+        @Override
+        public FactorAndPower get(int index) {
+            return new FactorAndPower(factors[index], powers[index]);
+        }
+        
+        @Override
+        public int size() {
+            return factors.length;
+        }
     }
 
     
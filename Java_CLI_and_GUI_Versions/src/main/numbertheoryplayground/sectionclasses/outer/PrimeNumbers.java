@@ -1,11 +1,13 @@
 package numbertheoryplayground.sectionclasses.outer;
 
 import java.awt.Component;
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Stream;
 import numbertheoryplayground.Misc;
+import numbertheoryplayground.Montgomery;
 import numbertheoryplayground.NtpCli;
+import numbertheoryplayground.PrimeSieve;
 import numbertheoryplayground.gui.NtpGui;
 import numbertheoryplayground.gui.NtpTextArea;
 import numbertheoryplayground.sectionclasses.abstract_.SingleInputSection;
@@ -42,38 +44,89 @@ and 33 is divisible by 3 so 29 is prime and 33 isn't.""";
     private static final long MAX_INPUT = TEN_TRILLION;
     private static final int NUM_PRIMES_TO_FIND = 30;
     
-    static boolean isPrime(long input) {
+    /**
+     * The primes < 40. Trial division by these is done before the Miller-Rabin test below since it
+     * quickly rules out most composite numbers.
+     */
+    private static final int[] SMALL_PRIMES = {2, 3, 5, 7, 11, 13, 17, 19, 23, 29, 31, 37};
+    
+    /**
+     * If a long < 4,759,123,141 passes the Miller-Rabin test for all of these bases, then it's
+     * prime.
+     */
+    private static final long[] SMALL_INPUT_BASES = {2, 7, 61};
+    
+    /**
+     * If a long < 2^64 passes the Miller-Rabin test for all of these bases, then it's prime. This
+     * set of bases was found by Jim Sinclair.
+     */
+    private static final long[] LARGE_INPUT_BASES = {2, 325, 9_375, 28_178, 450_775, 9_780_504, 1_795_265_022};
+    
+    /**
+     * Returns true if the input is prime and false otherwise. Trial division up to the square root
+     * of the input can take over a million divisions for inputs close to the max input of some
+     * sections, so a deterministic version of the Miller-Rabin primality test is used instead.
+     *
+     * This test is based on the fact that if p is an odd prime and p − 1 = d × 2^s where d is odd,
+     * then for any base a that isn't divisible by p, either a^d mod p = 1 or
+     * a^(d × 2^r) mod p = p − 1 for some r < s. A composite number can pass this test for some
+     * bases but it's been verified that no composite long passes it for all the bases in
+     * LARGE_INPUT_BASES. Each base requires about 64 modular multiplications, which are done with
+     * a Montgomery object.
+     */
+    public static boolean isPrime(long input) {
         if (input <= 1) return false;
-        if (input <= 3) return true;
-        if (isEven(input)) return false;
         
-        var maxPossibleFactorToCheck = (long) Math.sqrt(input);
-        for (var l = 3L; l <= maxPossibleFactorToCheck; l += 2) {
-            if (isDivisible(input, l)) return false;
+        for (int smallPrime : SMALL_PRIMES) {
+            if (input == smallPrime) return true;
+            if (isDivisible(input, smallPrime)) return false;
+        }
+        
+        // The input doesn't have any prime factors ≤ 37 so if it's < 41^2, it's prime.
+        if (input < 41 * 41) return true;
+        
+        var montgomery = new Montgomery(input);
+        long one = montgomery.getOne();
+        long minusOne = input - one;
+        long d = input - 1;
+        int s = Long.numberOfTrailingZeros(d);
+        d >>= s;
+        
+        long[] bases = input < 4_759_123_141L ? SMALL_INPUT_BASES : LARGE_INPUT_BASES;
+        
+        for (long base : bases) {
+            long x = montgomery.toMontgomery(base);
+            // If the base is divisible by the input, then it tells us nothing.
+            if (x == 0) continue;
+            
+            x = montgomery.pow(x, d);
+            if (x == one || x == minusOne) continue;
+            
+            var foundMinusOne = false;
+            for (var r = 1; r < s; r++) {
+                x = montgomery.multiply(x, x);
+                if (x == minusOne) {
+                    foundMinusOne = true;
+                    break;
+                }
+            }
+            if (!foundMinusOne) return false;
         }
         
         return true;
     }
     
     /**
-     * Returns a list of the first 30 primes ≥ the input.
+     * Returns a list of the first 30 primes ≥ the input. These are found with a segmented sieve
+     * rather than by checking odd numbers for primality one at a time.
      */
     static List<Long> getPrimes(long input) {
         assertIsInRange(input, MIN_INPUT, MAX_INPUT);
         
-        var primes = new ArrayList<Long>(NUM_PRIMES_TO_FIND);
-        if (input < 2) primes.add(2L);
-        
-        long possiblePrime = isOdd(input) ? input : input + 1;
-        while (true) {
-            if (isPrime(possiblePrime)) {
-                primes.add(possiblePrime);
-                if (primes.size() == NUM_PRIMES_TO_FIND) {
-                    return primes;
-                }
-            }
-            possiblePrime += 2;
-        }
+        return
+            Arrays.stream(PrimeSieve.getNextPrimes(input, NUM_PRIMES_TO_FIND))
+            .boxed()
+            .toList();
     }
     
     private static Stream<String> getPrimesStrings(long input) {
@@ -1,18 +1,24 @@
 package numbertheoryplayground.sectionclasses.outer;
 
 import java.awt.Component;
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.stream.IntStream;
+import java.util.Objects;
 import java.util.stream.Stream;
+import numbertheoryplayground.Gcd;
 import numbertheoryplayground.NtpCli;
+import numbertheoryplayground.PythagoreanTripleTree;
 import numbertheoryplayground.gui.NtpGui;
 import numbertheoryplayground.gui.NtpTextArea;
+import numbertheoryplayground.sectionclasses.abstract_.Section.ExtraCliChoice;
 import numbertheoryplayground.sectionclasses.abstract_.SingleInputSection;
 
 import static numbertheoryplayground.Misc.*;
-import static numbertheoryplayground.sectionclasses.outer.Divisibility.isDivisible;
+import static numbertheoryplayground.sectionclasses.outer.Divisibility.isEven;
+import static numbertheoryplayground.sectionclasses.outer.PrimeFactorization.FactorAndPower;
 
 /**
  * Utility class related to Pythagorean triples and the section for it.
@@ -49,13 +55,58 @@ input number + 1, and so on until 10 are found.""";
      */
     
     private static final long MIN_INPUT = 0;
-    private static final long MAX_INPUT = 10_000;
+    private static final long MAX_INPUT = ONE_BILLION;
     private static final int NUM_TRIPLES_TO_FIND = 10;
     
     /**
-     * a is for the short leg, b is for the long leg, and c is for the hypotenuse.
+     * a is for the short leg, b is for the long leg, and c is for the hypotenuse. Whether the
+     * triple is primitive gets found once when it's constructed instead of every time toString
+     * gets called. A prime that divides any 2 of a, b, and c also divides the third, since it
+     * divides 2 of a^2, b^2, and c^2 and so it divides the third square too. So the triple is
+     * primitive if the GCD of a and b is 1.
      */
-    record Triple(int a, int b, int c) {
+    static final class Triple {
+        private final long a;
+        
+        private final long b;
+        
+        private final long c;
+        
+        private final boolean isPrimitive;
+        
+        Triple(long a, long b, long c) {
+            this.a = a;
+            this.b = b;
+            this.c = c;
+            isPrimitive = Gcd.gcd(a, b) == 1;
+        }
+        
+        long getA() {
+            return a;
+        }
+        
+        long getB() {
+            return b;
+        }
+        
+        long getC() {
+            return c;
+        }
+        
+        boolean isPrimitive() {
+            return isPrimitive;
+        }
+        
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Triple t && a == t.a && b == t.b && c == t.c;
+        }
+        
+        @Override
+        public int hashCode() {
+            return Objects.hash(a, b, c);
+        }
+        
         @Override
         public String toString() {
             return String.format(
@@ -63,27 +114,9 @@ input number + 1, and so on until 10 are found.""";
                 createLongAndSquareString(a),
                 createLongAndSquareString(b),
                 createLongAndSquareString(c),
-                isPrimitive() ? " (primitive)" : ""
+                isPrimitive ? " (primitive)" : ""
             );
         }
-        
-        boolean isPrimitive() {
-            /*
-            See if there's a common factor other than 1. The iterating only needs to go up to a third of the min
-            of a, b, and c. This is because if the min could be a common factor, then we would be able to divide
-            a, b, and c by the min and get a Pythagorean triple and the min of a, b, and c in that triple would
-            be 1. There's no Pythagorean Triple with 1. The first one is 3, 4, and 5. Because of that, half of
-            the min also can't be a common factor. The next lowest possible common factor is a third of the min.
-             */
-            int maxPossibleCommonFactor = Math.min(a, Math.min(b, c)) / 3;
-            return
-                IntStream.concat(
-                    IntStream.of(2),
-                    IntStream.iterate(3, i -> i + 2)
-                )
-                .takeWhile(i -> i <= maxPossibleCommonFactor)
-                .noneMatch(i -> isDivisible(a, i) && isDivisible(b, i) && isDivisible(c, i));
-        }
     }
     
     /**
@@ -95,31 +128,59 @@ input number + 1, and so on until 10 are found.""";
     static List<Triple> getTriples(long input) {
         assertIsInRange(input, MIN_INPUT, MAX_INPUT);
         
-        var triples = new ArrayList<Triple>(NUM_TRIPLES_TO_FIND);
-        // a and b are for the short and long leg lengths, respectively.
-        var a = (int) input;
-        var b = a + 1;
-        
-        while (true) {
-            var cDouble = Math.hypot(a, b);
-            if (cDouble < b + 1) {
-                /*
-                b + 1 is the minimum possible integer value for c, so if c is less than that,
-                then the max value for b for the current value of a has been exceeded.
-                 */
-                b = ++a + 1;
-                continue;
-            }
-            
-            var cInt = (int) cDouble;
-            if (cDouble == cInt) {
-                triples.add(new Triple(a, b, cInt));
-                if (triples.size() == NUM_TRIPLES_TO_FIND) {
-                    return triples;
+        var triples = new ArrayList<Triple>();
+        for (long a = input; triples.size() < NUM_TRIPLES_TO_FIND; a++) {
+            addTriplesWithShortLeg(a, triples);
+        }
+        return List.copyOf(triples.subList(0, NUM_TRIPLES_TO_FIND));
+    }
+    
+    /**
+     * Adds Triples for all the Pythagorean triples with the short leg length provided to the list,
+     * in increasing order of the long leg length.
+     *
+     * If a^2 + b^2 = c^2, then a^2 = c^2 − b^2 = (c − b)(c + b). So every triple with a short leg
+     * length of a comes from a pair of factors d and e of a^2 where d × e = a^2, d = c − b, and
+     * e = c + b. Then b = (e − d) / 2 and c = (e + d) / 2, so d and e have to both be even or both
+     * be odd. b also has to be > a, which is when a^2 − 2ad − d^2 > 0, which means d has to be
+     * < a × (√2 − 1), so < half of a. The divisors of a^2 that are ≤ half of a get found from the
+     * PF of a by doubling all the powers. A smaller d means a bigger e, which means a bigger b,
+     * so the ds get gone through in decreasing order.
+     *
+     * This is all done with longs, so unlike checking every b with Math.hypot, there are no
+     * rounding errors and only the triples that exist get looked at.
+     */
+    private static void addTriplesWithShortLeg(long a, List<Triple> triples) {
+        // There are no triples with a short leg length < 3.
+        if (a < 3) return;
+        
+        long maxD = a / 2;
+        var ds = new long[16];
+        ds[0] = 1;
+        var numDs = 1;
+        
+        for (FactorAndPower fp : new PrimeFactorization(a, String.valueOf(a)).getFps()) {
+            int numDsBefore = numDs;
+            for (var i = 0; i < numDsBefore; i++) {
+                long d = ds[i];
+                for (var power = 1; power <= 2 * fp.power() && d <= maxD / fp.factor(); power++) {
+                    d *= fp.factor();
+                    if (numDs == ds.length) {
+                        ds = Arrays.copyOf(ds, 2 * numDs);
+                    }
+                    ds[numDs++] = d;
                 }
             }
-            
-            b++;
+        }
+        
+        Arrays.sort(ds, 0, numDs);
+        long aSquared = a * a;
+        for (var i = numDs - 1; i >= 0; i--) {
+            long d = ds[i];
+            long e = aSquared / d;
+            if (isEven(e - d) && aSquared - 2 * a * d - d * d > 0) {
+                triples.add(new Triple(a, (e - d) / 2, (e + d) / 2));
+            }
         }
     }
     
@@ -132,14 +193,13 @@ input number + 1, and so on until 10 are found.""";
     private static Stream<String> getNumberedTripleStrings(long input, int indentLength) {
         List<Triple> triples = getTriples(input);
         String indent = getSpace(indentLength);
-        var position = new AtomicInteger(1);
-        return
-            triples
-            .stream()
-            .map(t -> {
-                String maybeIndent = position.get() < 10 ? indent : "";
-                return String.format("%s%d) %s", maybeIndent, position.getAndIncrement(), t);
-            });
+        var tripleStrings = new String[triples.size()];
+        for (var i = 0; i < tripleStrings.length; i++) {
+            int position = i + 1;
+            String maybeIndent = position < 10 ? indent : "";
+            tripleStrings[i] = String.format("%s%d) %s", maybeIndent, position, triples.get(i));
+        }
+        return Arrays.stream(tripleStrings);
     }
     
     private static final String TRIPLES_HEADING_START =
@@ -155,6 +215,53 @@ input number + 1, and so on until 10 are found.""";
         return String.format("%s %s are:", TRIPLES_HEADING_START, inputString);
     }
     
+    /*
+    The other calculation for this section is: write every primitive Pythagorean triple with a
+    hypotenuse ≤ an input number to a file, along with their multiples if a 2nd input number is 1,
+    and say how fast that was.
+     */
+    
+    private static final long MIN_MAX_C = 0;
+    
+    /**
+     * There are around 1.6 million primitive triples with a hypotenuse ≤ 10 million and around
+     * 25 million triples altogether, so the file can be around 600 MB.
+     */
+    private static final long MAX_MAX_C = 10_000_000;
+    
+    static final String WRITE_FILE_NAME = "pythagorean-triples.csv";
+    
+    /**
+     * Writes the triples to WRITE_FILE_NAME in the current directory with
+     * PythagoreanTripleTree.writeTriples and returns a sentence about how many triples and chars
+     * were written per second. includeMultiples should be 0 or 1.
+     */
+    static String writeTriplesFromTree(long maxC, long includeMultiples) {
+        assertIsInRange(maxC, MIN_MAX_C, MAX_MAX_C);
+        assertIsInRange(includeMultiples, 0, 1);
+        
+        Path path = Path.of(WRITE_FILE_NAME);
+        PythagoreanTripleTree.WriteStats stats;
+        try {
+            stats = PythagoreanTripleTree.writeTriples((int) maxC, includeMultiples == 1, path);
+        } catch (IOException ex) {
+            return String.format("%s couldn't be written: %s", path.toAbsolutePath(), ex.getMessage());
+        }
+        
+        return String.format(
+            "Wrote the %s %s with a hypotenuse ≤ %s, which have %s chars, to %s in %.3f seconds. " +
+                "That's %s triples and %s chars per second.",
+            createStringWithCommas(stats.numTriples()),
+            includeMultiples == 1 ? "Pythagorean triples" : "primitive Pythagorean triples",
+            createStringWithCommas(maxC),
+            createStringWithCommas(stats.numChars()),
+            path.toAbsolutePath(),
+            stats.nanos() / 1e9,
+            createStringWithCommas(Math.round(stats.getTriplesPerSecond())),
+            createStringWithCommas(Math.round(stats.getCharsPerSecond()))
+        );
+    }
+    
     
     public static final class Section extends SingleInputSection {
         public Section() {
@@ -168,6 +275,27 @@ input number + 1, and so on until 10 are found.""";
             );
         }
         
+        @Override
+        public List<ExtraCliChoice> getExtraCliChoices() {
+            return List.of(
+                new ExtraCliChoice(
+                    "t",
+                    1,
+                    2,
+                    String.format(
+                        "write every primitive Pythagorean triple with a hypotenuse ≤ the first number " +
+                            "to %s in the current directory, 1 per line, along with their multiples if " +
+                            "there's a 2nd number and it's 1. Have the first number be ≥ %d and ≤ %s " +
+                            "and the 2nd number be 0 or 1.",
+                        WRITE_FILE_NAME, MIN_MAX_C, createStringWithCommas(MAX_MAX_C)
+                    ),
+                    inputs -> NtpCli.putNewLineChars(
+                        writeTriplesFromTree(inputs[0], inputs.length == 2 ? inputs[1] : 0)
+                    )
+                )
+            );
+        }
+        
         @Override
         public String getCliAnswer(long inputLong, String inputString) {
             Stream<String> tripleStrings = getNumberedTripleStrings(inputLong, 1);
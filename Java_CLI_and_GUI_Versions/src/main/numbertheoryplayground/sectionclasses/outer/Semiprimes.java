@@ -5,6 +5,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Stream;
 import numbertheoryplayground.NtpCli;
+import numbertheoryplayground.PrimeSieve;
 import numbertheoryplayground.gui.NtpGui;
 import numbertheoryplayground.gui.NtpTextArea;
 import numbertheoryplayground.sectionclasses.abstract_.SingleInputSection;
@@ -46,52 +47,199 @@ the largest known prime number, which is (2^136,279,841) − 1.""";
     }
     
     /**
-     * If the input is a semiprime, then a SemiprimeData for it gets returned.
-     * Otherwise, null gets returned.
+     * A window of consecutive longs that gets sieved to find out which ones are semiprimes. For
+     * each long in the window, the sieve keeps track of how many prime factors have been found
+     * for it, counting repeated factors, its smallest prime factor, and the cofactor that's left
+     * after dividing it by all the prime factors that have been found.
+     *
+     * If there aren't too many primes ≤ the square root of the end of the window compared to the
+     * length of the window, which is the case when counting semiprimes in big windows, then the
+     * sieve uses all of them. After that, the cofactor of each long is either 1 or prime.
+     *
+     * Otherwise, the sieve only uses the primes ≤ the cube root of the end of the window. After
+     * that, the cofactor of each long only has prime factors > that cube root, so it can have at
+     * most 2 of them, since the product of 3 of them would be > the long. That means only a few
+     * cases need to be checked and only the cofactors need to be checked for primality. Sieving
+     * with the primes up to the square root would mean going through 100s of thousands of primes
+     * for a small window of longs close to the max input, instead of a few thousand.
      */
-    private static SemiprimeData checkIfSemiprime(long input) {
-        /*
-        First, we need to find the first int factor of the input that's > 1 and < the input.
-        Just like with the algorithm for determining if a long is prime, we only need to check
-        primes ≤ the square root of the input. If we don't find a factor, then that means that
-        the input is prime and not semiprime.
+    private static final class Window {
+        /**
+         * If the square root of the end of a window is ≤ this times the length of the window, then
+         * the window gets sieved with all the primes ≤ that square root.
          */
-        if (isEven(input)) {
-            return isPrime(input / 2) ? new SemiprimeData(input, 2, input / 2) : null;
+        private static final int FULL_SIEVE_FACTOR = 16;
+        
+        private final long start;
+        
+        private final int length;
+        
+        private final long[] cofactors;
+        
+        private final byte[] numPrimeFactorsFound;
+        
+        /**
+         * The element at index i is the smallest prime factor of start + i if one has been found
+         * and 0 otherwise.
+         */
+        private final long[] smallestPrimeFactors;
+        
+        /**
+         * Whether the sieve used all the primes ≤ the square root of the end of the window.
+         */
+        private final boolean sievedToSquareRoot;
+        
+        private Window(long start, int length) {
+            this.start = start;
+            this.length = length;
+            cofactors = new long[length];
+            numPrimeFactorsFound = new byte[length];
+            smallestPrimeFactors = new long[length];
+            for (var i = 0; i < length; i++) {
+                cofactors[i] = start + i;
+            }
+            
+            long end = start + length - 1;
+            var maxSievingPrime = (long) Math.sqrt(end) + 1;
+            sievedToSquareRoot = maxSievingPrime <= (long) FULL_SIEVE_FACTOR * length;
+            if (!sievedToSquareRoot) {
+                maxSievingPrime = (long) Math.cbrt(end) + 1;
+            }
+            
+            sieve(2);
+            for (int prime : PrimeSieve.getBasePrimes(maxSievingPrime)) {
+                if (prime > maxSievingPrime) break;
+                sieve(prime);
+            }
         }
         
-        var maxPossibleFactorToCheck = (long) Math.sqrt(input);
-        for (var possibleFactor1 = 3L; possibleFactor1 <= maxPossibleFactorToCheck; possibleFactor1 += 2) {
-            if (isDivisible(input, possibleFactor1)) {
-                long factor2 = input / possibleFactor1;
-                return
-                    possibleFactor1 == factor2 || isPrime(factor2)
-                    ? new SemiprimeData(input, possibleFactor1, factor2)
-                    : null;
+        /**
+         * Divides the cofactors of the multiples of the prime in this window by the prime as many
+         * times as they can be.
+         */
+        private void sieve(long prime) {
+            long firstMultiple = (start + prime - 1) / prime * prime;
+            for (long l = firstMultiple; l < start + length; l += prime) {
+                // 0 is a multiple of every prime but it doesn't have a prime factorization.
+                if (l == 0) continue;
+                
+                var i = (int) (l - start);
+                if (smallestPrimeFactors[i] == 0) {
+                    smallestPrimeFactors[i] = prime;
+                }
+                do {
+                    cofactors[i] /= prime;
+                    numPrimeFactorsFound[i]++;
+                } while (isDivisible(cofactors[i], prime));
             }
         }
         
-        return null;
+        /**
+         * If the long at the index provided is a semiprime, then a SemiprimeData for it gets
+         * returned. Otherwise, null gets returned.
+         */
+        private SemiprimeData checkIfSemiprime(int index) {
+            long l = start + index;
+            if (l < 4) return null;
+            
+            long cofactor = cofactors[index];
+            long smallestPrimeFactor = smallestPrimeFactors[index];
+            
+            return switch (numPrimeFactorsFound[index]) {
+                // The cofactor is the 2nd prime factor if it's prime.
+                case 1 ->
+                    cofactor > 1 && (sievedToSquareRoot || isPrime(cofactor))
+                    ? new SemiprimeData(l, smallestPrimeFactor, cofactor)
+                    : null;
+                
+                case 2 ->
+                    cofactor == 1
+                    ? new SemiprimeData(l, smallestPrimeFactor, l / smallestPrimeFactor)
+                    : null;
+                
+                /*
+                l doesn't have any prime factors ≤ the cube root so it's either prime or the product
+                of 2 primes. If it's not prime, then its prime factors get found with Pollard's rho
+                algorithm, unless it's the square of a prime.
+                 */
+                case 0 -> {
+                    if (sievedToSquareRoot || isPrime(l)) yield null;
+                    var squareRoot = (long) Math.sqrt(l);
+                    if (squareRoot * squareRoot == l) yield new SemiprimeData(l, squareRoot, squareRoot);
+                    long factor = PrimeFactorization.findFactor(l);
+                    yield new SemiprimeData(l, Math.min(factor, l / factor), Math.max(factor, l / factor));
+                }
+                
+                default -> null;
+            };
+        }
+        
+        /**
+         * Does the same thing as checkIfSemiprime but doesn't find the prime factors.
+         */
+        private boolean isSemiprime(int index) {
+            long l = start + index;
+            if (l < 4) return false;
+            
+            long cofactor = cofactors[index];
+            return switch (numPrimeFactorsFound[index]) {
+                case 0 -> !sievedToSquareRoot && !isPrime(l);
+                case 1 -> cofactor > 1 && (sievedToSquareRoot || isPrime(cofactor));
+                case 2 -> cofactor == 1;
+                default -> false;
+            };
+        }
     }
     
     /**
-     * Returns a list of SemiprimeDatas for the first 20 semiprimes ≥ the input.
+     * Returns a list of SemiprimeDatas for the first 20 semiprimes ≥ the input. Windows of longs
+     * starting at the input get sieved until 20 semiprimes are found. Around 1 in every
+     * ln(ln(input)) / ln(input) longs is a semiprime, so the first window is made big enough to
+     * most likely have 20 of them, and each window after that is twice as big as the previous one.
      */
     static List<SemiprimeData> getSemiprimesData(long input) {
         assertIsInRange(input, MIN_INPUT, MAX_INPUT);
         
-        final int numSemiprimesToFind = 20;
-        var semiprimesData = new ArrayList<SemiprimeData>(numSemiprimesToFind);
+        var semiprimesData = new ArrayList<SemiprimeData>(NUM_SEMIPRIMES_TO_FIND);
+        double log = Math.max(2, Math.log(input));
+        var windowLength = (int) Math.max(64, 2 * NUM_SEMIPRIMES_TO_FIND * log / Math.log(log));
+        long windowStart = input;
         
-        for (var l = input; ; l++) {
-            var possibleSemiprimeData = checkIfSemiprime(l);
-            if (possibleSemiprimeData != null) {
-                semiprimesData.add(possibleSemiprimeData);
-                if (semiprimesData.size() == numSemiprimesToFind) {
-                    return semiprimesData;
+        while (true) {
+            var window = new Window(windowStart, windowLength);
+            for (var i = 0; i < windowLength; i++) {
+                var possibleSemiprimeData = window.checkIfSemiprime(i);
+                if (possibleSemiprimeData != null) {
+                    semiprimesData.add(possibleSemiprimeData);
+                    if (semiprimesData.size() == NUM_SEMIPRIMES_TO_FIND) {
+                        return semiprimesData;
+                    }
                 }
             }
+            windowStart += windowLength;
+            windowLength *= 2;
+        }
+    }
+    
+    /**
+     * The max number of longs in a window when counting semiprimes. A window with this many longs
+     * takes up around 1 MB.
+     */
+    private static final int MAX_COUNTING_WINDOW_LENGTH = 1 << 16;
+    
+    /**
+     * Returns the number of semiprimes ≥ from and < to. from should be ≥ 0 and ≤ to.
+     */
+    static long countSemiprimes(long from, long to) {
+        var count = 0L;
+        for (long windowStart = from; windowStart < to; windowStart += MAX_COUNTING_WINDOW_LENGTH) {
+            var windowLength = (int) Math.min(MAX_COUNTING_WINDOW_LENGTH, to - windowStart);
+            var window = new Window(windowStart, windowLength);
+            for (var i = 0; i < windowLength; i++) {
+                if (window.isSemiprime(i)) count++;
+            }
         }
+        return count;
     }
     
     private static Stream<String> getSemiprimesDataStrings(long input) {
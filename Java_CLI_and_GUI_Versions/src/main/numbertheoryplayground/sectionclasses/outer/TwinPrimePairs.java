@@ -1,16 +1,16 @@
 package numbertheoryplayground.sectionclasses.outer;
 
 import java.awt.Component;
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Stream;
 import numbertheoryplayground.NtpCli;
+import numbertheoryplayground.TwinPrimeSieve;
 import numbertheoryplayground.gui.NtpGui;
 import numbertheoryplayground.gui.NtpTextArea;
 import numbertheoryplayground.sectionclasses.abstract_.SingleInputSection;
 
 import static numbertheoryplayground.Misc.*;
-import static numbertheoryplayground.sectionclasses.outer.PrimeNumbers.isPrime;
 
 /**
  * Utility class related to twin prime pairs and the section for it.
@@ -44,31 +44,18 @@ twin prime pairs, the first 2 mentioned above."""
     
     /**
      * Finds the first 20 twin prime pairs where the lowest number in the pair is ≥ the input
-     * and returns a list that contains the lowest numbers of those pairs.
+     * and returns a list that contains the lowest numbers of those pairs. As mentioned in the INFO
+     * string, all twin prime pairs besides 3 and 5 consist of 1 number that's 1 below a multiple
+     * of 6 and another number that's 1 above that same multiple of 6. A TwinPrimeSieve is used to
+     * sieve those pairs of numbers in bulk, rather than checking each pair for primality.
      */
     static List<Long> getPairStarts(long input) {
         assertIsInRange(input, MIN_INPUT, MAX_INPUT);
         
-        var pairStarts = new ArrayList<Long>(NUM_PAIRS_TO_FIND);
-        /*
-        As mentioned in the INFO string, all twin prime pairs besides 3 and 5 consist of 1 number
-        that's 1 below a multiple of 6 and another number that's 1 above that same multiple of 6.
-        Set iterationStart to the first long ≥ the input that's 1 below a multiple of 6 so that
-        we'll be able to iterate through longs that are 1 below a multiple of 6.
-         */
-        if (input <= 3) pairStarts.add(3L);
-        long possiblePairStart = input;
-        while (possiblePairStart % 6 != 5) possiblePairStart++;
-
-        while (true) {
-            if (isPrime(possiblePairStart) && isPrime(possiblePairStart + 2)) {
-                pairStarts.add(possiblePairStart);
-                if (pairStarts.size() == NUM_PAIRS_TO_FIND) {
-                    return pairStarts;
-                }
-            }
-            possiblePairStart += 6;
-        }
+        return
+            Arrays.stream(TwinPrimeSieve.getNextPairStarts(input, NUM_PAIRS_TO_FIND))
+            .boxed()
+            .toList();
     }
     
     /**
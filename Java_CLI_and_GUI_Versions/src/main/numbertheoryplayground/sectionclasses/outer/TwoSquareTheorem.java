@@ -1,13 +1,19 @@
 package numbertheoryplayground.sectionclasses.outer;
 
 import java.awt.Component;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.stream.Stream;
+import numbertheoryplayground.Montgomery;
 import numbertheoryplayground.NtpCli;
+import numbertheoryplayground.ProgressionPrimeSieve;
+import numbertheoryplayground.gui.NtpGui;
 import numbertheoryplayground.gui.NtpTextArea;
 import numbertheoryplayground.sectionclasses.abstract_.SingleInputSection;
 
 import static numbertheoryplayground.Misc.*;
-import static numbertheoryplayground.sectionclasses.outer.PrimeNumbers.isPrime;
+import static numbertheoryplayground.sectionclasses.outer.Divisibility.isOdd;
 
 /**
  * Utility class related to the two square theorem and the section for it.
@@ -25,11 +31,195 @@ as 2^2 (4) + 5^2 (25).""";
     
     /*
     The calculations for this section are: find the first Pythagorean prime ≥ an input number,
-    as well as the whole numbers whose squares sum to that prime.
+    as well as the whole numbers whose squares sum to that prime, and find all the ways to
+    express the input number as the sum of 2 squares.
      */
 
     private static final long MIN_INPUT = 0;
-    private static final long MAX_INPUT = ONE_QUADRILLION;
+    private static final long MAX_INPUT = NINE_QUINTILLION;
+    
+    /**
+     * a and b are whole numbers whose squares sum to a number, with a ≤ b.
+     */
+    record TwoSquares(long a, long b) {}
+    
+    /**
+     * Returns the whole numbers whose squares sum to the Pythagorean prime provided.
+     *
+     * Instead of trying every a and checking if p − a^2 is a square, which takes up to √p tries,
+     * this uses the Hermite-Serret algorithm, which takes around log p steps. Since p is 1 above a
+     * multiple of 4, −1 has a square root mod p. If c is a number that doesn't have a square root
+     * mod p, which is true for half of the numbers from 1 to p − 1, then c^((p − 1) / 2) is −1 mod
+     * p, which is Euler's criterion. So c^((p − 1) / 4) is a square root of −1 mod p. When the
+     * Euclidean algorithm is done with p and that square root, the first remainder < √p is a and
+     * p − a^2 is the square of b. Everything is done with longs, so there are no rounding errors
+     * like there would be with Math.sqrt for big primes.
+     */
+    static TwoSquares findTwoSquares(long pythagPrime) {
+        var montgomery = new Montgomery(pythagPrime);
+        long squareRootOfMinus1;
+        for (var c = 2L; ; c++) {
+            squareRootOfMinus1 = montgomery.powMod(c, (pythagPrime - 1) / 4);
+            if (montgomery.multiplyMod(squareRootOfMinus1, squareRootOfMinus1) == pythagPrime - 1) break;
+        }
+        
+        long maxA = floorSqrt(pythagPrime);
+        long max = pythagPrime;
+        long min = squareRootOfMinus1;
+        while (min > maxA) {
+            long remainder = max % min;
+            max = min;
+            min = remainder;
+        }
+        
+        long a = min;
+        long b = floorSqrt(pythagPrime - a * a);
+        return a <= b ? new TwoSquares(a, b) : new TwoSquares(b, a);
+    }
+    
+    /**
+     * A Gaussian integer is a complex number whose real and imaginary parts are integers. The
+     * norm of a + bi is a^2 + b^2, and the norm of a product is the product of the norms. So a
+     * way to write n as the sum of 2 squares is the same as a Gaussian integer with a norm of n.
+     */
+    private record GaussianInt(long real, long imaginary) {
+        GaussianInt multiply(GaussianInt other) {
+            return new GaussianInt(
+                real * other.real - imaginary * other.imaginary,
+                real * other.imaginary + imaginary * other.real
+            );
+        }
+        
+        GaussianInt conjugate() {
+            return new GaussianInt(real, -imaginary);
+        }
+    }
+    
+    /**
+     * Returns the number of ways to write n as the sum of 2 squares, counting different signs and
+     * orders as different ways, which is usually called r2(n). For example, 5 is 1^2 + 2^2 and
+     * that can be written 8 ways, like (−1)^2 + 2^2 and 2^2 + 1^2, so r2(5) is 8.
+     *
+     * If a prime that's 3 above a multiple of 4 has an odd power in the PF of n, then n can't be
+     * written as the sum of 2 squares. Otherwise, r2(n) is 4 × the product of (the power + 1) for
+     * each prime in the PF that's 1 above a multiple of 4. n should be ≥ 0.
+     */
+    static long countRepresentations(long n) {
+        if (n == 0) return 1;
+        if (n == 1) return 4;
+        
+        long count = 4;
+        for (PrimeFactorization.FactorAndPower fp : PrimeFactorization.factor(n)) {
+            long factorMod4 = fp.factor() % 4;
+            if (factorMod4 == 3 && isOdd(fp.power())) return 0;
+            if (factorMod4 == 1) count *= fp.power() + 1;
+        }
+        return count;
+    }
+    
+    /**
+     * Returns all the ways to write n as the sum of 2 squares a^2 + b^2 with 0 ≤ a ≤ b, sorted by
+     * a. n should be ≥ 0.
+     *
+     * Instead of trying every a, n gets factored once and then its Gaussian integers with a norm
+     * of n get built from the Gaussian primes that divide it. 1 + i has a norm of 2. A prime q
+     * that's 3 above a multiple of 4 is still prime as a Gaussian integer, so it has to have an
+     * even power e in the PF and contributes q^(e / 2). A Pythagorean prime p is x^2 + y^2,
+     * which findTwoSquares finds, so it splits into x + yi and its conjugate x − yi. If p has a
+     * power of e, then the Gaussian integer gets (x + yi)^j × (x − yi)^(e − j) for some j from 0
+     * to e. Multiplying together a choice for every prime gives every Gaussian integer with a
+     * norm of n, up to multiplying by 1, −1, i, or −i, which only changes signs and order. Each
+     * way comes up at most twice since conjugates give the same a and b, so the ways are sorted
+     * and the duplicates are removed.
+     *
+     * Every part of every Gaussian integer here is ≤ √n, so none of the multiplications overflow.
+     */
+    static List<TwoSquares> findAllTwoSquares(long n) {
+        if (n == 0) return List.of(new TwoSquares(0, 0));
+        
+        List<GaussianInt> gaussianInts = List.of(new GaussianInt(1, 0));
+        if (n > 1) {
+            for (PrimeFactorization.FactorAndPower fp : PrimeFactorization.factor(n)) {
+                long factor = fp.factor();
+                int power = fp.power();
+                
+                if (factor == 2) {
+                    var onePlusIToPower = new GaussianInt(1, 0);
+                    for (var i = 0; i < power; i++) {
+                        onePlusIToPower = onePlusIToPower.multiply(new GaussianInt(1, 1));
+                    }
+                    gaussianInts = multiplyAll(gaussianInts, List.of(onePlusIToPower));
+                } else if (factor % 4 == 3) {
+                    if (isOdd(power)) return List.of();
+                    
+                    long factorToHalfPower = 1;
+                    for (var i = 0; i < power / 2; i++) {
+                        factorToHalfPower *= factor;
+                    }
+                    gaussianInts = multiplyAll(gaussianInts, List.of(new GaussianInt(factorToHalfPower, 0)));
+                } else {
+                    TwoSquares twoSquares = findTwoSquares(factor);
+                    var gaussianPrime = new GaussianInt(twoSquares.a(), twoSquares.b());
+                    
+                    /*
+                    powers[j] is gaussianPrime^j and conjugatePowers[j] is its conjugate^j, so
+                    choice j is powers[j] × conjugatePowers[power − j].
+                     */
+                    var powers = new GaussianInt[power + 1];
+                    var conjugatePowers = new GaussianInt[power + 1];
+                    powers[0] = conjugatePowers[0] = new GaussianInt(1, 0);
+                    for (var j = 1; j <= power; j++) {
+                        powers[j] = powers[j - 1].multiply(gaussianPrime);
+                        conjugatePowers[j] = conjugatePowers[j - 1].multiply(gaussianPrime.conjugate());
+                    }
+                    
+                    var choices = new ArrayList<GaussianInt>(power + 1);
+                    for (var j = 0; j <= power; j++) {
+                        choices.add(powers[j].multiply(conjugatePowers[power - j]));
+                    }
+                    gaussianInts = multiplyAll(gaussianInts, choices);
+                }
+            }
+        }
+        
+        return
+            gaussianInts
+            .stream()
+            .map(g -> {
+                long a = Math.abs(g.real());
+                long b = Math.abs(g.imaginary());
+                return a <= b ? new TwoSquares(a, b) : new TwoSquares(b, a);
+            })
+            .distinct()
+            .sorted(Comparator.comparingLong(TwoSquares::a))
+            .toList();
+    }
+    
+    private static List<GaussianInt> multiplyAll(List<GaussianInt> gaussianInts, List<GaussianInt> multipliers) {
+        var products = new ArrayList<GaussianInt>(gaussianInts.size() * multipliers.size());
+        for (GaussianInt gaussianInt : gaussianInts) {
+            for (GaussianInt multiplier : multipliers) {
+                products.add(gaussianInt.multiply(multiplier));
+            }
+        }
+        return products;
+    }
+    
+    /**
+     * The square root of the max value for a long, rounded down.
+     */
+    private static final long MAX_LONG_SQUARE_ROOT = 3_037_000_499L;
+    
+    /**
+     * Returns the square root of l rounded down. Math.sqrt is used for a guess, which can be off by
+     * 1 for big longs, and then the guess gets corrected. l should be ≥ 0.
+     */
+    static long floorSqrt(long l) {
+        var squareRoot = Math.min(MAX_LONG_SQUARE_ROOT, (long) Math.sqrt((double) l));
+        while (squareRoot * squareRoot > l) squareRoot--;
+        while (squareRoot < MAX_LONG_SQUARE_ROOT && (squareRoot + 1) * (squareRoot + 1) <= l) squareRoot++;
+        return squareRoot;
+    }
     
     static final class Answer {
         /**
@@ -46,24 +236,27 @@ as 2^2 (4) + 5^2 (25).""";
         
         private final String infoSentence;
         
+        /**
+         * All the ways to write the input as the sum of 2 squares, from findAllTwoSquares.
+         */
+        private final List<TwoSquares> inputTwoSquares;
+        
+        /**
+         * r2 of the input, from countRepresentations.
+         */
+        private final long numRepresentations;
+        
+        private final String representationsSentence;
+        
         Answer(long inputLong, String inputString) {
             assertIsInRange(inputLong, MIN_INPUT, MAX_INPUT);
             
-            pythagPrime = inputLong;
-            while (pythagPrime % 4 != 1) pythagPrime++;
-            while (!isPrime(pythagPrime)) pythagPrime += 4;
+            // Only the longs that are 1 mod 4 get sieved, instead of checking each one with isPrime.
+            pythagPrime = ProgressionPrimeSieve.getNextPrime(inputLong, 4, 1);
             
-            b = 0;
-            for (a = 1; a < pythagPrime; a++) {
-                long aSquared = a * a;
-                long bSquared = pythagPrime - aSquared;
-                var bDouble = Math.sqrt(bSquared);
-                var bLong = (long) bDouble;
-                if (bDouble == bLong) {
-                    b = bLong;
-                    break;
-                }
-            }
+            TwoSquares twoSquares = findTwoSquares(pythagPrime);
+            a = twoSquares.a();
+            b = twoSquares.b();
             
             infoSentence =
                 String.format(
@@ -73,6 +266,39 @@ as 2^2 (4) + 5^2 (25).""";
                     createLongAndSquareString(a),
                     createLongAndSquareString(b)
                 );
+            
+            inputTwoSquares = findAllTwoSquares(inputLong);
+            numRepresentations = countRepresentations(inputLong);
+            representationsSentence =
+                inputTwoSquares.isEmpty()
+                ? String.format("%s can't be expressed as the sum of 2 squares.", inputString)
+                : String.format(
+                    "%s can be expressed as the sum of 2 squares in %s, or %s if different signs " +
+                        "and orders are counted.",
+                    inputString,
+                    inputTwoSquares.size() == 1
+                        ? "1 way"
+                        : createStringWithCommas(inputTwoSquares.size()) + " ways",
+                    createStringWithCommas(numRepresentations)
+                );
+        }
+        
+        private String getRepresentationsHeading() {
+            return representationsSentence + ' ' + (inputTwoSquares.size() == 1 ? "It is" : "They are") + ':';
+        }
+        
+        /**
+         * Returns a stream with a string like the ones in infoSentence for each way to write the
+         * input as the sum of 2 squares.
+         */
+        Stream<String> getInputTwoSquaresStrings() {
+            return
+                inputTwoSquares
+                .stream()
+                .map(twoSquares ->
+                    createLongAndSquareString(twoSquares.a()) + " + " +
+                        createLongAndSquareString(twoSquares.b())
+                );
         }
 
         long getPythagPrime() {
@@ -86,6 +312,14 @@ as 2^2 (4) + 5^2 (25).""";
         long getB() {
             return b;
         }
+        
+        List<TwoSquares> getInputTwoSquares() {
+            return inputTwoSquares;
+        }
+        
+        long getNumRepresentations() {
+            return numRepresentations;
+        }
     }
     
     
@@ -97,21 +331,46 @@ as 2^2 (4) + 5^2 (25).""";
                 MIN_INPUT,
                 MAX_INPUT,
                 "the first Pythagorean prime ≥ that number, as well as the " +
-                    "whole numbers whose squares sum to that prime",
+                    "whole numbers whose squares sum to that prime, and all the ways to " +
+                    "express that number as the sum of 2 squares",
                 "the two square theorem"
             );
         }
         
         @Override
         public String getCliAnswer(long inputLong, String inputString) {
-            String info = new Answer(inputLong, inputString).infoSentence;
-            return NtpCli.putNewLineChars(info);
+            var answer = new Answer(inputLong, inputString);
+            String representationsInfo =
+                answer.inputTwoSquares.isEmpty()
+                ? NtpCli.putNewLineChars(answer.representationsSentence)
+                : NtpCli.buildStringWithStreamElementsOnSeparateLines(
+                    answer.getRepresentationsHeading(),
+                    answer.getInputTwoSquaresStrings()
+                );
+            return NtpCli.putNewLineChars(answer.infoSentence) + "\n\n" + representationsInfo;
         }
         
         @Override
         public List<Component> getGuiComponents(long input, String inputString) {
-            String info = new Answer(input, inputString).infoSentence;
-            return List.of(new NtpTextArea(info));
+            var answer = new Answer(input, inputString);
+            var infoTextArea = new NtpTextArea(answer.infoSentence);
+            if (answer.inputTwoSquares.isEmpty()) {
+                return List.of(infoTextArea, new NtpTextArea(answer.representationsSentence));
+            }
+            
+            // There can be thousands of ways, so check if they're too long to display, just like
+            // in the Goldbach conjecture section.
+            try {
+                return List.of(
+                    infoTextArea,
+                    NtpGui.createListHeadingLabel(answer.getRepresentationsHeading()),
+                    NtpTextArea.createWithStreamElementsOnSeparateLines(answer.getInputTwoSquaresStrings())
+                );
+            } catch (NtpTextArea.StringTooLongException ex) {
+                String textToDisplay =
+                    answer.representationsSentence + ' ' + NtpTextArea.StringTooLongException.ERROR_MESSAGE;
+                return List.of(infoTextArea, new NtpTextArea(textToDisplay));
+            }
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,104 @@
+package numbertheoryplayground;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DivisorIteratorTests {
+    /**
+     * Returns a DivisorIterator for l, whose prime factors are found with trial division.
+     */
+    private static DivisorIterator createIterator(long l) {
+        var primes = new ArrayList<Long>();
+        var powers = new ArrayList<Integer>();
+        long remaining = l;
+        for (var factor = 2L; factor * factor <= remaining; factor++) {
+            var power = 0;
+            while (remaining % factor == 0) {
+                remaining /= factor;
+                power++;
+            }
+            if (power > 0) {
+                primes.add(factor);
+                powers.add(power);
+            }
+        }
+        if (remaining > 1) {
+            primes.add(remaining);
+            powers.add(1);
+        }
+        
+        return new DivisorIterator(
+            primes.stream().mapToLong(Long::longValue).toArray(),
+            powers.stream().mapToInt(Integer::intValue).toArray()
+        );
+    }
+    
+    /**
+     * The expected divisors are found by checking every long from 1 to n.
+     */
+    @Test
+    void iteratorMatchesCheckingEveryLong() {
+        for (var n = 1L; n <= 5_000; n++) {
+            long finalN = n;
+            long[] expectedDivisors = LongStream.rangeClosed(1, n).filter(l -> finalN % l == 0).toArray();
+            
+            LongStream.Builder actualDivisors = LongStream.builder();
+            createIterator(n).forEachRemaining((LongConsumer) actualDivisors::add);
+            assertArrayEquals(expectedDivisors, actualDivisors.build().toArray());
+        }
+    }
+    
+    /**
+     * The 1st input is mentioned in the Divisibility section's info and has 28,672 divisors. The
+     * 2nd is 2^62 and the 3rd is 2^6 × 3^4 × 5^2 × 7^2 × 11 × 13 × 17 × 19 × 23 × 29 × 31, which
+     * has 40,320 divisors and more powers > 1.
+     */
+    @ParameterizedTest
+    @ValueSource(longs = {9_736_008_432_870_720L, 4_611_686_018_427_387_904L, 6_064_949_221_531_200L})
+    void iteratorWithBigInputs(long n) {
+        DivisorIterator iterator = createIterator(n);
+        var divisors = new ArrayList<Long>();
+        while (iterator.hasNext()) {
+            long divisor = iterator.nextLong();
+            assertEquals(0, n % divisor);
+            if (!divisors.isEmpty()) assertTrue(divisor > divisors.getLast());
+            divisors.add(divisor);
+        }
+        
+        assertEquals(1, divisors.getFirst());
+        assertEquals(n, divisors.getLast());
+        // The divisors come in pairs that multiply to n, from the ends towards the middle.
+        for (var i = 0; i < divisors.size(); i++) {
+            assertEquals(n / divisors.get(i), divisors.get(divisors.size() - 1 - i));
+        }
+        assertThrows(NoSuchElementException.class, iterator::nextLong);
+    }
+    
+    @Test
+    void getPower() {
+        var iterator = new DivisorIterator(new long[] {2, 3, 5}, new int[] {2, 1, 1});
+        var powerLists = new ArrayList<List<Integer>>();
+        while (iterator.hasNext()) {
+            iterator.nextLong();
+            powerLists.add(List.of(iterator.getPower(0), iterator.getPower(1), iterator.getPower(2)));
+        }
+        
+        // The divisors of 60 are 1, 2, 3, 4, 5, 6, 10, 12, 15, 20, 30, and 60.
+        assertEquals(
+            List.of(
+                List.of(0, 0, 0), List.of(1, 0, 0), List.of(0, 1, 0), List.of(2, 0, 0),
+                List.of(0, 0, 1), List.of(1, 1, 0), List.of(1, 0, 1), List.of(2, 1, 0),
+                List.of(0, 1, 1), List.of(2, 0, 1), List.of(1, 1, 1), List.of(2, 1, 1)
+            ),
+            powerLists
+        );
+    }
+}
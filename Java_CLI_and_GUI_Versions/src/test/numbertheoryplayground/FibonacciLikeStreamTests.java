@@ -0,0 +1,68 @@
+package numbertheoryplayground;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FibonacciLikeStreamTests {
+    /**
+     * Returns the first length numbers of the sequence that starts with input1 and input2, found
+     * by adding BigIntegers.
+     */
+    private static List<BigInteger> getExpectedNumbers(long input1, long input2, int length) {
+        var numbers = new ArrayList<BigInteger>(length);
+        var bigInt1 = BigInteger.valueOf(input1);
+        var bigInt2 = BigInteger.valueOf(input2);
+        while (numbers.size() < length) {
+            numbers.add(bigInt1);
+            BigInteger next = bigInt1.add(bigInt2);
+            bigInt1 = bigInt2;
+            bigInt2 = next;
+        }
+        return numbers;
+    }
+    
+    /**
+     * Checks that the numbers are the same as adding BigIntegers. Some of the inputs have the
+     * first number that doesn't fit in a long be the 3rd one, so that the switch from longs to
+     * base 10^18 numbers happens right away.
+     */
+    @ParameterizedTest
+    @CsvSource(useHeadersInDisplayName = true, textBlock = """
+        INPUT_1,                      INPUT_2,                      LENGTH
+        1,                            1,                            2_000
+        304,                          5,                            2_000
+        0,                            1,                            2_000
+        0,                            0,                            10
+        1,                            1,                            0
+        9_223_372_036_854_775_807,    9_223_372_036_854_775_807,    100
+        1,                            999_999_999_999_999_999,      100
+        1,                            9_223_372_036_854_775_807,    10
+        9_000_000_000_000_000_000,    9_000_000_000_000_000_000,    100
+        """)
+    void writeNumbers(long input1, long input2, int length) throws IOException {
+        var writer = new StringWriter();
+        FibonacciLikeStream.WriteStats stats = FibonacciLikeStream.writeNumbers(input1, input2, length, writer);
+        
+        var expectedString = new StringBuilder();
+        for (BigInteger number : getExpectedNumbers(input1, input2, length)) {
+            expectedString.append(number).append('\n');
+        }
+        assertEquals(expectedString.toString(), writer.toString());
+        assertEquals(length, stats.numNumbers());
+        assertEquals(expectedString.length(), stats.numChars());
+    }
+    
+    @Test
+    void invalidInputs() {
+        assertThrows(IllegalArgumentException.class, () -> FibonacciLikeStream.writeNumbers(-1, 1, 10, new StringWriter()));
+        assertThrows(IllegalArgumentException.class, () -> FibonacciLikeStream.writeNumbers(1, 1, -1, new StringWriter()));
+    }
+}
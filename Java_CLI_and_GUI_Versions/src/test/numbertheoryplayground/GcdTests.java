@@ -0,0 +1,98 @@
+package numbertheoryplayground;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import java.math.BigInteger;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static numbertheoryplayground.Gcd.BezoutCoefficients;
+
+class GcdTests {
+    /**
+     * The expected GCDs are found with BigInteger.gcd. The pairs of consecutive Fibonacci numbers
+     * take the most iterations of the Euclidean algorithm for their size.
+     */
+    @ParameterizedTest
+    @CsvSource(useHeadersInDisplayName = true, textBlock = """
+        A,                            B
+        0,                            0
+        0,                            12
+        12,                           0
+        1,                            9_223_372_036_854_775_807
+        240,                          46
+        7_540_113_804_746_346_429,    4_660_046_610_375_530_309
+        9_223_372_036_854_775_807,    9_223_372_036_854_775_806
+        4_611_686_018_427_387_904,    6_917_529_027_641_081_856
+        """)
+    void gcdAndExtendedGcdWithEdgeCases(long a, long b) {
+        assertBezoutCoefficientsAreValid(a, b);
+    }
+    
+    @Test
+    void gcdAndExtendedGcdMatchBigInteger() {
+        var random = new Random(25);
+        for (var i = 0; i < 10_000; i++) {
+            // Shifting right by a random amount gives numbers of all sizes.
+            long a = random.nextLong() >>> 1 + random.nextInt(63);
+            long b = random.nextLong() >>> 1 + random.nextInt(63);
+            // Make some of them have a big common factor.
+            if (i % 3 == 0) {
+                long factor = 1 + random.nextInt(1_000_000);
+                a = a / factor * factor;
+                b = b / factor * factor;
+            }
+            assertBezoutCoefficientsAreValid(a, b);
+        }
+    }
+    
+    private static void assertBezoutCoefficientsAreValid(long a, long b) {
+        BigInteger bigA = BigInteger.valueOf(a);
+        BigInteger bigB = BigInteger.valueOf(b);
+        long expectedGcd = bigA.gcd(bigB).longValueExact();
+        assertEquals(expectedGcd, Gcd.gcd(a, b));
+        
+        BezoutCoefficients coefficients = Gcd.extendedGcd(a, b);
+        assertEquals(expectedGcd, coefficients.gcd());
+        assertEquals(
+            BigInteger.valueOf(expectedGcd),
+            bigA.multiply(BigInteger.valueOf(coefficients.x())).add(bigB.multiply(BigInteger.valueOf(coefficients.y())))
+        );
+        if (expectedGcd != 0) {
+            assertTrue(Math.abs(coefficients.x()) <= Math.max(1, b / expectedGcd));
+            assertTrue(Math.abs(coefficients.y()) <= Math.max(1, a / expectedGcd));
+        }
+    }
+    
+    /**
+     * The expected inverses are found with BigInteger.modInverse, which throws an
+     * ArithmeticException if there isn't one.
+     */
+    @Test
+    void modInverseMatchesBigInteger() {
+        for (var modulus = 1L; modulus <= 200; modulus++) {
+            for (var a = -200L; a <= 200; a++) {
+                BigInteger bigModulus = BigInteger.valueOf(modulus);
+                BigInteger bigA = BigInteger.valueOf(a);
+                if (bigA.gcd(bigModulus).equals(BigInteger.ONE)) {
+                    assertEquals(bigA.modInverse(bigModulus).longValueExact(), Gcd.modInverse(a, modulus).getAsLong());
+                } else {
+                    assertTrue(Gcd.modInverse(a, modulus).isEmpty());
+                }
+            }
+        }
+        
+        long bigPrime = 9_223_372_036_854_775_783L;
+        assertEquals(
+            BigInteger.valueOf(123_456_789).modInverse(BigInteger.valueOf(bigPrime)).longValueExact(),
+            Gcd.modInverse(123_456_789, bigPrime).getAsLong()
+        );
+    }
+    
+    @Test
+    void invalidArgs() {
+        assertThrows(IllegalArgumentException.class, () -> Gcd.extendedGcd(-1, 5));
+        assertThrows(IllegalArgumentException.class, () -> Gcd.modInverse(3, 0));
+    }
+}
@@ -0,0 +1,76 @@
+package numbertheoryplayground;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import java.math.BigInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongOrBigIntTests {
+    /**
+     * These are close to the places where adding or multiplying longs overflows, along with
+     * numbers that can't be close to overflowing.
+     */
+    static final long[] EDGE_LONGS = {
+        0, 1, -1, 2, -2, 3, 1_000_000_007, 3_037_000_499L, 3_037_000_500L, -3_037_000_500L,
+        4_294_967_296L, Long.MAX_VALUE / 2, Long.MAX_VALUE / 2 + 1, Long.MAX_VALUE - 1,
+        Long.MAX_VALUE, Long.MIN_VALUE / 2, Long.MIN_VALUE + 1, Long.MIN_VALUE
+    };
+    
+    private static void assertMatches(BigInteger expected, LongOrBigInt actual) {
+        assertEquals(expected, actual.toBigInteger());
+        assertEquals(expected.bitLength() < Long.SIZE, actual.fitsInLong());
+        assertEquals(LongOrBigInt.valueOf(expected), actual);
+        assertEquals(expected.toString(), actual.toString());
+    }
+    
+    /**
+     * The expected sums and products are found with BigIntegers.
+     */
+    @Test
+    void addAndMultiplyMatchBigIntegers() {
+        for (long a : EDGE_LONGS) {
+            for (long b : EDGE_LONGS) {
+                var bigA = BigInteger.valueOf(a);
+                var bigB = BigInteger.valueOf(b);
+                var numA = LongOrBigInt.valueOf(a);
+                var numB = LongOrBigInt.valueOf(b);
+                
+                assertMatches(bigA.add(bigB), numA.add(numB));
+                assertMatches(bigA.multiply(bigB), numA.multiply(b));
+                assertMatches(bigA.multiply(bigB), numA.multiply(numB));
+                
+                // The same but with numbers that only fit in a BigInteger.
+                BigInteger bigSquare = bigA.multiply(bigA);
+                LongOrBigInt square = numA.multiply(numA);
+                assertMatches(bigSquare.add(bigB), square.add(numB));
+                assertMatches(bigSquare.multiply(bigB), square.multiply(b));
+                assertMatches(bigB.multiply(bigSquare), numB.multiply(square));
+                assertEquals(Integer.signum(bigSquare.compareTo(bigB)), Integer.signum(square.compareTo(numB)));
+                assertEquals(Integer.signum(bigB.compareTo(bigSquare)), Integer.signum(numB.compareTo(square)));
+            }
+        }
+    }
+    
+    /**
+     * A BigInteger that fits in a long should be kept as a long so that it equals the same
+     * number made from a long.
+     */
+    @ParameterizedTest
+    @ValueSource(longs = {0, 5, -5, Long.MAX_VALUE, Long.MIN_VALUE})
+    void valueOfBigIntegerThatFitsInLong(long l) {
+        LongOrBigInt num = LongOrBigInt.valueOf(BigInteger.valueOf(l));
+        assertTrue(num.fitsInLong());
+        assertEquals(l, num.longValueExact());
+        assertEquals(LongOrBigInt.valueOf(l), num);
+        assertEquals(LongOrBigInt.valueOf(l).hashCode(), num.hashCode());
+    }
+    
+    @Test
+    void longValueExactThrowsIfTooBig() {
+        LongOrBigInt num = LongOrBigInt.valueOf(Long.MAX_VALUE).add(LongOrBigInt.valueOf(1));
+        assertFalse(num.fitsInLong());
+        assertThrows(ArithmeticException.class, num::longValueExact);
+    }
+}
@@ -3,6 +3,7 @@ package numbertheoryplayground;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -22,6 +23,38 @@ class MiscTests {
         assertEquals(expectedString, Misc.createStringWithCommas(input));
     }
 
+    /**
+     * The squares of the last 2 longs don't fit in a long.
+     */
+    @ParameterizedTest
+    @CsvSource(useHeadersInDisplayName = true, textBlock = """
+        INPUT,                EXPECTED_STRING
+        12,                   '12^2 (144)'
+        3_037_000_499,        '3,037,000,499^2 (9,223,372,030,926,249,001)'
+        3_037_000_500,        '3,037,000,500^2 (9,223,372,037,000,250,000)'
+        500_000_000_000,      '500,000,000,000^2 (250,000,000,000,000,000,000,000)'
+        """)
+    void createLongAndSquareString(long input, String expectedString) {
+        assertEquals(expectedString, Misc.createLongAndSquareString(input));
+    }
+    
+    /**
+     * The digits get put after "ab", so the index returned should be 2 more than the number of
+     * digits. The last input is the max value for a long.
+     */
+    @ParameterizedTest
+    @ValueSource(longs = {0, 7, 10, 999, 1_000_000_000_000_000_000L, 9_223_372_036_854_775_807L})
+    void putChars(long input) {
+        var chars = new char[25];
+        chars[0] = 'a';
+        chars[1] = 'b';
+        int index = Misc.putChars(input, chars, 2);
+        
+        String expectedString = "ab" + input;
+        assertEquals(expectedString.length(), index);
+        assertEquals(expectedString, new String(chars, 0, index));
+    }
+    
     @Test
     void stripCommasAndParse() {
         assertAll(
@@ -0,0 +1,46 @@
+package numbertheoryplayground;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import java.math.BigInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MontgomeryTests {
+    /**
+     * The expected results are calculated with BigIntegers. The moduli include a small one, one
+     * around the max value of an int, and one close to the max value of a long.
+     */
+    @ParameterizedTest
+    @CsvSource(useHeadersInDisplayName = true, textBlock = """
+        MODULUS,                      A,                            B
+        7,                            5,                            6
+        4_294_967_311,                4_294_967_295,                123_456_789
+        9_999_999_999_971,            9_999_999_999_970,            9_999_999_999_969
+        9_223_372_036_854_775_783,    9_223_372_036_854_775_782,    9_000_000_000_000_000_000
+        """)
+    void multiplyModAndPowMod(long modulus, long a, long b) {
+        var montgomery = new Montgomery(modulus);
+        var bigModulus = BigInteger.valueOf(modulus);
+        var bigA = BigInteger.valueOf(a);
+        var bigB = BigInteger.valueOf(b);
+        
+        assertAll(
+            () -> assertEquals(
+                bigA.multiply(bigB).mod(bigModulus).longValueExact(),
+                montgomery.multiplyMod(a, b)
+            ),
+            () -> assertEquals(
+                bigA.modPow(bigB, bigModulus).longValueExact(),
+                montgomery.powMod(a, b)
+            ),
+            () -> assertEquals(a % modulus, montgomery.fromMontgomery(montgomery.toMontgomery(a)))
+        );
+    }
+    
+    @Test
+    void evenModulus() {
+        assertThrows(IllegalArgumentException.class, () -> new Montgomery(10));
+    }
+}
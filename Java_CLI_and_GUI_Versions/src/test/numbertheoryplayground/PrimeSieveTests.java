@@ -0,0 +1,49 @@
+package numbertheoryplayground;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static numbertheoryplayground.sectionclasses.outer.PrimeNumbers.isPrime;
+
+class PrimeSieveTests {
+    /**
+     * The expected primes are found by checking every long in the range with PrimeNumbers.isPrime.
+     * Some of the ranges are bigger than the first segment so that multiple segments get sieved.
+     */
+    @ParameterizedTest
+    @CsvSource(useHeadersInDisplayName = true, textBlock = """
+        FROM,                   TO
+        0,                      0
+        0,                      2
+        0,                      3
+        0,                      100_000
+        2,                      3
+        3,                      4
+        1_000,                  1_100
+        999_999_000_000,        1_000_000_000_000
+        9_999_999_900_000,      10_000_000_100_000
+        """)
+    void stream(long from, long to) {
+        assertArrayEquals(
+            LongStream.range(from, to).filter(l -> isPrime(l)).toArray(),
+            PrimeSieve.stream(from, to).toArray()
+        );
+    }
+    
+    @ParameterizedTest
+    @CsvSource(useHeadersInDisplayName = true, textBlock = """
+        MIN,                    NUM_PRIMES
+        0,                      1_000
+        4,                      30
+        10_000_000_000_000,     30
+        10_000_000_000_000,     5_000
+        """)
+    void getNextPrimes(long min, int numPrimes) {
+        assertArrayEquals(
+            LongStream.iterate(min, l -> l + 1).filter(l -> isPrime(l)).limit(numPrimes).toArray(),
+            PrimeSieve.getNextPrimes(min, numPrimes)
+        );
+    }
+}
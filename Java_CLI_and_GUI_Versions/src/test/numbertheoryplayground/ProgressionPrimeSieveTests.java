@@ -0,0 +1,75 @@
+package numbertheoryplayground;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static numbertheoryplayground.sectionclasses.outer.PrimeNumbers.isPrime;
+
+class ProgressionPrimeSieveTests {
+    /**
+     * The expected primes are found by checking every long in the range that's the residue mod the
+     * modulus with PrimeNumbers.isPrime. A modulus of 1 is for all the primes. The moduli 3 and 7
+     * are odd, so every other member of those progressions is even.
+     */
+    @ParameterizedTest
+    @CsvSource(useHeadersInDisplayName = true, textBlock = """
+        FROM,                   TO,                       MODULUS,    RESIDUE
+        0,                      100_000,                    1,           0
+        0,                      100_000,                    4,           1
+        0,                      100_000,                    4,           3
+        0,                      100_000,                    3,           2
+        0,                      100_000,                    7,           3
+        0,                      100_000,                    30,          7
+        0,                      100_000,                    1_000,       1
+        5,                      6,                          4,           1
+        6,                      13,                         4,           1
+        999_999_000_000,        1_000_000_000_000,          4,           1
+        999_999_000_000,        1_000_010_000_000,          1_000,       999
+        999_999_999_000_000,    1_000_000_000_000_000,      4,           -1
+        """)
+    void iterator(long from, long to, long modulus, long residue) {
+        long[] expectedPrimes =
+            LongStream.range(from, to)
+            .filter(l -> Math.floorMod(l - residue, modulus) == 0 && isPrime(l))
+            .toArray();
+        
+        LongStream.Builder actualPrimes = LongStream.builder();
+        ProgressionPrimeSieve.iterator(from, to, modulus, residue).forEachRemaining((LongConsumer) actualPrimes::add);
+        assertArrayEquals(expectedPrimes, actualPrimes.build().toArray());
+    }
+    
+    @ParameterizedTest
+    @CsvSource(useHeadersInDisplayName = true, textBlock = """
+        MIN,                          NUM_PRIMES,    MODULUS,    RESIDUE
+        0,                               500,          4,           1
+        1_000_000_000_000_000,            20,          4,           1
+        1_000_000_000_000_000,             5,          997,         5
+        9_000_000_000_000_000_000,         3,          4,           1
+        """)
+    void getNextPrimes(long min, int numPrimes, long modulus, long residue) {
+        assertArrayEquals(
+            LongStream.iterate(min + Math.floorMod(residue - min, modulus), l -> l + modulus)
+            .filter(l -> isPrime(l))
+            .limit(numPrimes)
+            .toArray(),
+            ProgressionPrimeSieve.getNextPrimes(min, numPrimes, modulus, residue)
+        );
+    }
+    
+    @ParameterizedTest
+    @CsvSource(useHeadersInDisplayName = true, textBlock = """
+        MODULUS,    RESIDUE
+        0,             1
+        4,             2
+        10,            5
+        """)
+    void invalidProgressions(long modulus, long residue) {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> ProgressionPrimeSieve.getNextPrime(0, modulus, residue)
+        );
+    }
+}
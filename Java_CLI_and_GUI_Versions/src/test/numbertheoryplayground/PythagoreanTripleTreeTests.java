@@ -0,0 +1,125 @@
+package numbertheoryplayground;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PythagoreanTripleTreeTests {
+    /**
+     * I got the number of primitive triples with a hypotenuse ≤ the max from OEIS sequence A101931
+     * at https://oeis.org/A101931 and checked those and the numbers of all triples with Euclid's
+     * formula.
+     */
+    @ParameterizedTest
+    @CsvSource(useHeadersInDisplayName = true, textBlock = """
+        MAX_C,      NUM_PRIMITIVE_TRIPLES,    NUM_TRIPLES
+        0,                  0,                     0
+        5,                  1,                     1
+        100,               16,                    52
+        1_000,            158,                   881
+        10_000,         1_593,                12_471
+        100_000,       15_919,               161_436
+        """)
+    void numTriples(int maxC, long expectedNumPrimitiveTriples, long expectedNumTriples) {
+        assertAll(
+            () -> assertEquals(expectedNumPrimitiveTriples, countTriples(maxC, false)),
+            () -> assertEquals(expectedNumTriples, countTriples(maxC, true))
+        );
+    }
+    
+    static long countTriples(int maxC, boolean includeMultiples) {
+        var count = new long[1];
+        PythagoreanTripleTree.forEachTriple(maxC, includeMultiples, (a, b, c) -> count[0]++);
+        return count[0];
+    }
+    
+    /**
+     * The expected triples are found by checking every pair of legs with a hypotenuse ≤ the max.
+     */
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void forEachTripleMatchesCheckingEveryPairOfLegs(boolean includeMultiples) {
+        final int maxC = 500;
+        var expectedTriples = new HashSet<List<Integer>>();
+        for (var a = 1; a <= maxC; a++) {
+            for (int b = a + 1; a * a + b * b <= maxC * maxC; b++) {
+                var c = (int) Math.round(Math.sqrt(a * a + b * b));
+                if (c * c == a * a + b * b && (includeMultiples || gcd(a, b) == 1)) {
+                    expectedTriples.add(List.of(a, b, c));
+                }
+            }
+        }
+        
+        var triples = new ArrayList<List<Integer>>();
+        PythagoreanTripleTree.forEachTriple(maxC, includeMultiples, (a, b, c) -> triples.add(List.of(a, b, c)));
+        assertEquals(expectedTriples.size(), triples.size());
+        assertEquals(expectedTriples, new HashSet<>(triples));
+    }
+    
+    static int gcd(int a, int b) {
+        return b == 0 ? a : gcd(b, a % b);
+    }
+    
+    /**
+     * 2,147,483,647 is the max value for an int. The children of the triples near it get
+     * calculated with longs, so none of the triples should overflow.
+     */
+    @Test
+    void forEachTripleWithMaxInt() {
+        final int maxC = Integer.MAX_VALUE;
+        var numTriples = new long[1];
+        PythagoreanTripleTree.forEachTriple(maxC, false, (a, b, c) -> {
+            if (c > 2_100_000_000) {
+                assertTrue(0 < a && a < b && b < c);
+                assertEquals((long) c * c, (long) a * a + (long) b * b);
+            }
+            numTriples[0]++;
+        });
+        // The number of primitive triples with a hypotenuse ≤ the max is around the max / (2π).
+        assertEquals(Integer.MAX_VALUE / (2 * Math.PI), numTriples[0], 1e-3 * numTriples[0]);
+    }
+    
+    @Test
+    void writeTriples(@TempDir Path tempDir) throws IOException {
+        Path path = tempDir.resolve("triples.csv");
+        PythagoreanTripleTree.WriteStats stats = PythagoreanTripleTree.writeTriples(100, true, path);
+        
+        List<String> lines = Files.readAllLines(path);
+        assertAll(
+            () -> assertEquals(52, stats.numTriples()),
+            () -> assertEquals(Files.size(path), stats.numChars()),
+            () -> assertEquals(52, lines.size()),
+            () -> assertEquals(List.of("3,4,5", "6,8,10"), lines.subList(0, 2)),
+            () -> assertTrue(lines.contains("65,72,97"))
+        );
+    }
+    
+    /**
+     * There are more triples than fit in 1 batch, so this checks that the lines from every batch
+     * get written, in the order that forEachTriple gives the triples.
+     */
+    @Test
+    void writeTriplesToWriter() throws IOException {
+        var writer = new StringWriter();
+        PythagoreanTripleTree.WriteStats stats = PythagoreanTripleTree.writeTriples(100_000, false, writer);
+        
+        var expectedString = new StringBuilder();
+        PythagoreanTripleTree.forEachTriple(100_000, false, (a, b, c) ->
+            expectedString.append(a).append(',').append(b).append(',').append(c).append('\n')
+        );
+        assertAll(
+            () -> assertEquals(15_919, stats.numTriples()),
+            () -> assertEquals(expectedString.length(), stats.numChars()),
+            () -> assertEquals(expectedString.toString(), writer.toString())
+        );
+    }
+}
@@ -0,0 +1,66 @@
+package numbertheoryplayground;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static numbertheoryplayground.sectionclasses.outer.PrimeNumbers.isPrime;
+
+class TwinPrimeSieveTests {
+    /**
+     * The expected pair starts are found by checking every long in the range with
+     * PrimeNumbers.isPrime.
+     */
+    @ParameterizedTest
+    @CsvSource(useHeadersInDisplayName = true, textBlock = """
+        FROM,                   TO
+        0,                      3
+        0,                      4
+        4,                      6
+        0,                      100_000
+        999_999_000_000,        1_000_000_000_000
+        499_999_900_000,        500_000_100_000
+        """)
+    void iterator(long from, long to) {
+        long[] expectedPairStarts =
+            LongStream.range(from, to)
+            .filter(l -> isPrime(l) && isPrime(l + 2))
+            .toArray();
+        
+        LongStream.Builder actualPairStarts = LongStream.builder();
+        TwinPrimeSieve.iterator(from, to).forEachRemaining((LongConsumer) actualPairStarts::add);
+        assertArrayEquals(expectedPairStarts, actualPairStarts.build().toArray());
+    }
+    
+    @ParameterizedTest
+    @CsvSource(useHeadersInDisplayName = true, textBlock = """
+        MIN,                    NUM_PAIRS
+        0,                      500
+        500_000_000_000,        20
+        """)
+    void getNextPairStarts(long min, int numPairs) {
+        assertArrayEquals(
+            LongStream.iterate(min, l -> l + 1)
+            .filter(l -> isPrime(l) && isPrime(l + 2))
+            .limit(numPairs)
+            .toArray(),
+            TwinPrimeSieve.getNextPairStarts(min, numPairs)
+        );
+    }
+    
+    /**
+     * I got these counts from OEIS sequence A007508 at https://oeis.org/A007508.
+     */
+    @ParameterizedTest
+    @CsvSource(useHeadersInDisplayName = true, textBlock = """
+        TO,                 EXPECTED_COUNT
+        1_000,                   35
+        100_000,                1_224
+        100_000_000,           440_312
+        """)
+    void countPairs(long to, long expectedCount) {
+        assertEquals(expectedCount, TwinPrimeSieve.countPairs(0, to));
+    }
+}
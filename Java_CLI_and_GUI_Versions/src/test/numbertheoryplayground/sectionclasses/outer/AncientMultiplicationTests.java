@@ -1,11 +1,13 @@
 package numbertheoryplayground.sectionclasses.outer;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import java.math.BigInteger;
 import java.util.List;
 import java.util.stream.Stream;
+import numbertheoryplayground.LongOrBigInt;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
@@ -42,7 +44,7 @@ class AncientMultiplicationTests {
     }
     
     static TableRow tr(int powerOf2, int correspondingMultiple) {
-        return new TableRow(powerOf2, BigInteger.valueOf(correspondingMultiple));
+        return new TableRow(powerOf2, LongOrBigInt.valueOf(correspondingMultiple));
     }
 
     static Stream<Arguments> getArgs() {
@@ -80,4 +82,25 @@ class AncientMultiplicationTests {
         
         return Stream.of(args1, args2, args3);
     }
+    
+    /**
+     * The product of these inputs is too big for a long, so the multiples for the biggest powers
+     * of 2 have to be BigIntegers and the multiples for the smaller ones can still be longs.
+     */
+    @Test
+    void answerTableRowsWithMultiplesTooBigForLong() {
+        long input1 = 9_000_000_000_000_000_000L;
+        long input2 = 8_999_999_999_999_999_999L;
+        List<TableRow> table1Rows = new Answer(input1, input2, "", "").getTable1Rows();
+        
+        var powerOf2 = 1L;
+        for (TableRow row : table1Rows) {
+            BigInteger expectedMultiple = BigInteger.valueOf(input2).multiply(BigInteger.valueOf(powerOf2));
+            assertEquals(powerOf2, row.powerOf2());
+            assertEquals(expectedMultiple, row.correspondingMultiple().toBigInteger());
+            assertEquals(powerOf2 == 1, row.correspondingMultiple().fitsInLong());
+            powerOf2 *= 2;
+        }
+        assertEquals(63, table1Rows.size());
+    }
 }
@@ -1,5 +1,6 @@
 package numbertheoryplayground.sectionclasses.outer;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.*;
 import java.util.Collections;
@@ -65,7 +66,7 @@ INPUT,      LAST_2_DIGITS,  LAST_3_DIGITS,  SUM_OF_DIGITS_EXPRESSION,        ALT
         List<List<FactorAndPower>> expectedFactorFpLists
     ) {
         List<List<FactorAndPower>> actualFactorFpLists =
-            Divisibility.getFactorPfs(new PrimeFactorization(input), 2)
+            Divisibility.getFactorPfs(new PrimeFactorization(input))
             .stream()
             .map(PrimeFactorization::getFps)
             .toList();
@@ -123,4 +124,38 @@ INPUT,      LAST_2_DIGITS,  LAST_3_DIGITS,  SUM_OF_DIGITS_EXPRESSION,        ALT
             )
         );
     }
+    
+    /**
+     * 9,736,008,432,870,720 has 28,672 factors. The stream is made from an ordered iterator, so
+     * making it parallel or skipping some of it shouldn't change which PF is for which factor.
+     */
+    @Test
+    void streamFactorPfsInParallel() {
+        final long input = 9_736_008_432_870_720L;
+        var pf = new PrimeFactorization(input, String.valueOf(input));
+        final int numFactors = 28_672;
+        List<Long> factors = streamFactorPfs(pf, numFactors).map(pf2 -> pf2.getCorrespondingNum().longValueExact()).toList();
+        
+        assertEquals(numFactors - 2, factors.size());
+        for (var i = 1; i < factors.size(); i++) {
+            assertTrue(factors.get(i - 1) < factors.get(i));
+        }
+        assertAll(
+            () -> assertEquals(
+                factors,
+                streamFactorPfs(pf, numFactors).parallel().map(pf2 -> pf2.getCorrespondingNum().longValueExact()).toList()
+            ),
+            () -> assertEquals(
+                factors.subList(1_000, factors.size()),
+                streamFactorPfs(pf, numFactors).skip(1_000).map(pf2 -> pf2.getCorrespondingNum().longValueExact()).toList()
+            ),
+            () -> streamFactorPfs(pf, numFactors).parallel().forEach(pf2 -> {
+                long product = 1;
+                for (FactorAndPower fp : pf2.getFps()) {
+                    for (var i = 0; i < fp.power(); i++) product *= fp.factor();
+                }
+                assertEquals(product, pf2.getCorrespondingNum().longValueExact());
+            })
+        );
+    }
 }
@@ -1,31 +1,54 @@
 package numbertheoryplayground.sectionclasses.outer;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.MethodSource;
 import java.math.BigInteger;
 import java.util.List;
 import java.util.stream.Stream;
+import numbertheoryplayground.LongOrBigInt;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
+import static numbertheoryplayground.sectionclasses.outer.FibonacciLikeSequences.ConsecutiveNumbers;
 
 class FibonacciLikeSequencesTests {
     @ParameterizedTest
     @MethodSource("getIntFiboLikeSequences")
-    void getBigIntFiboLikeSequence(List<Integer> expectedIntSequence) {
-        List<BigInteger> expectedBigIntSequence =
+    void getFiboLikeSequence(List<Integer> expectedIntSequence) {
+        List<LongOrBigInt> expectedSequence =
             expectedIntSequence
             .stream()
-            .map(BigInteger::valueOf)
+            .map(LongOrBigInt::valueOf)
             .toList();
         
-        List<BigInteger> actualBigIntSequence =
-            FibonacciLikeSequences.getBigIntFiboLikeSequence(
-                expectedBigIntSequence.get(0).longValueExact(),
-                expectedBigIntSequence.get(1).longValueExact()
+        List<LongOrBigInt> actualSequence =
+            FibonacciLikeSequences.getFiboLikeSequence(
+                expectedSequence.get(0).longValueExact(),
+                expectedSequence.get(1).longValueExact()
             );
 
-        assertEquals(expectedBigIntSequence, actualBigIntSequence);
+        assertEquals(expectedSequence, actualSequence);
+    }
+    
+    /**
+     * The numbers of this sequence go from fitting in a long to not fitting in one partway
+     * through, so the expected numbers are found by adding BigIntegers.
+     */
+    @Test
+    void getFiboLikeSequenceWithNumbersTooBigForLong() {
+        long input = 9_000_000_000_000_000_000L;
+        BigInteger bigInt1 = BigInteger.valueOf(input);
+        BigInteger bigInt2 = BigInteger.valueOf(1);
+        List<LongOrBigInt> sequence = FibonacciLikeSequences.getFiboLikeSequence(input, 1);
+        
+        for (LongOrBigInt num : sequence) {
+            assertEquals(bigInt1, num.toBigInteger());
+            assertEquals(bigInt1.bitLength() < Long.SIZE, num.fitsInLong());
+            BigInteger nextBigInt = bigInt1.add(bigInt2);
+            bigInt1 = bigInt2;
+            bigInt2 = nextBigInt;
+        }
     }
 
     static Stream<List<Integer>> getIntFiboLikeSequences() {
@@ -51,7 +74,152 @@ class FibonacciLikeSequencesTests {
            3,        4,     4 / 3 ≈ 1.333333333333333
            4,        5,     5 / 4 = 1.25
         """)
-    void getRatioExpression(BigInteger input1, BigInteger input2, String expectedExpression) {
-        assertEquals(expectedExpression, FibonacciLikeSequences.getRatioExpression(input1, input2));
+    void getRatioExpression(long input1, long input2, String expectedExpression) {
+        assertEquals(
+            expectedExpression,
+            FibonacciLikeSequences.getRatioExpression(LongOrBigInt.valueOf(input1), LongOrBigInt.valueOf(input2))
+        );
+    }
+    
+    @Test
+    void getFibonacciNumbersMatchesAdding() {
+        BigInteger fn = BigInteger.ZERO;
+        BigInteger fnPlus1 = BigInteger.ONE;
+        for (var n = 0; n <= 2_000; n++) {
+            assertEquals(new ConsecutiveNumbers(fn, fnPlus1), FibonacciLikeSequences.getFibonacciNumbers(n));
+            BigInteger next = fn.add(fnPlus1);
+            fn = fnPlus1;
+            fnPlus1 = next;
+        }
+    }
+    
+    /**
+     * The expected numbers are found by adding numbers one at a time, starting with the inputs.
+     * The last inputs are the max inputs.
+     */
+    @ParameterizedTest
+    @CsvSource(useHeadersInDisplayName = true, textBlock = """
+        INPUT_1,                     INPUT_2
+        1,                           1
+        2,                           1
+        304,                         5
+        9_000_000_000_000_000_000,   9_000_000_000_000_000_000
+        """)
+    void getFiboLikeNumbersMatchesAdding(long input1, long input2) {
+        var bigInt1 = BigInteger.valueOf(input1);
+        var bigInt2 = BigInteger.valueOf(input2);
+        for (var index = 2; index <= 3_000; index++) {
+            assertEquals(
+                new ConsecutiveNumbers(bigInt1, bigInt2),
+                FibonacciLikeSequences.getFiboLikeNumbers(input1, input2, index)
+            );
+            BigInteger next = bigInt1.add(bigInt2);
+            bigInt1 = bigInt2;
+            bigInt2 = next;
+        }
+    }
+    
+    /**
+     * Number 1,000 of the Fibonacci sequence, F(1,000), has 209 digits and number 10,000,
+     * F(10,000), has 2,090 digits, which is too many to display in full. I got the first and last
+     * digits of F(10,000) by adding the numbers one at a time in Python.
+     */
+    @Test
+    void getFiboLikeNumberInfo() {
+        String shortInfo = FibonacciLikeSequences.getFiboLikeNumberInfo(1, 1, 1_000);
+        assertTrue(shortInfo.startsWith("Number 1,000 in the Fibonacci-like sequence that starts with 1 and 1 is 43,466,557,686,937,456,"));
+        assertTrue(shortInfo.endsWith("The ratio between it and the number before it ≈ 1.618033988749895."));
+        
+        assertEquals(
+            "Number 10,000 in the Fibonacci-like sequence that starts with 1 and 1 is a number with 2,090 " +
+                "digits that starts with 33644764876431783266 and ends with 66073310059947366875. The " +
+                "ratio between it and the number before it ≈ 1.618033988749895.",
+            FibonacciLikeSequences.getFiboLikeNumberInfo(1, 1, 10_000)
+        );
+    }
+    
+    /**
+     * The expected periods are found by going through the Fibonacci sequence mod the modulus until
+     * 0 and 1 come up again.
+     */
+    @Test
+    void getPisanoPeriodMatchesGoingThroughSequence() {
+        for (var modulus = 1; modulus <= 2_000; modulus++) {
+            long expectedPeriod = 0;
+            int fn = 0;
+            int fnPlus1 = 1 % modulus;
+            do {
+                int next = (fn + fnPlus1) % modulus;
+                fn = fnPlus1;
+                fnPlus1 = next;
+                expectedPeriod++;
+            } while (fn != 0 || fnPlus1 != 1 % modulus);
+            
+            assertEquals(expectedPeriod, FibonacciLikeSequences.getPisanoPeriod(modulus));
+        }
+    }
+    
+    /**
+     * The Pisano period of 10^k is 15 × 10^(k − 1) for k ≥ 3. 1,000,000,007 is prime and 2 mod 5,
+     * so its period divides 2,000,000,016.
+     */
+    @ParameterizedTest
+    @CsvSource(useHeadersInDisplayName = true, textBlock = """
+        MODULUS,                      EXPECTED_PERIOD
+        1_000,                        1_500
+        1_000_000_000,                1_500_000_000
+        1_000_000_000_000_000_000,    1_500_000_000_000_000_000
+        1_000_000_007,                2_000_000_016
+        """)
+    void getPisanoPeriod(long modulus, long expectedPeriod) {
+        assertEquals(expectedPeriod, FibonacciLikeSequences.getPisanoPeriod(modulus));
+    }
+    
+    /**
+     * The expected numbers are found with getFiboLikeNumbers, which uses BigIntegers. The moduli
+     * include odd ones, even ones, a power of 2, and the max modulus.
+     */
+    @ParameterizedTest
+    @CsvSource(useHeadersInDisplayName = true, textBlock = """
+        INPUT_1,                      INPUT_2,                      MODULUS
+        1,                            1,                            1
+        1,                            1,                            10
+        304,                          5,                            1_000_000_007
+        304,                          5,                            576_460_752_303_423_488
+        9_000_000_000_000_000_000,    8_999_999_999_999_999_999,    999_999_999_999_999_989
+        9_000_000_000_000_000_000,    8_999_999_999_999_999_999,    1_000_000_000_000_000_000
+        123_456_789,                  987_654_321,                  98_304
+        """)
+    void getFiboLikeNumberModMatchesBigIntegers(long input1, long input2, long modulus) {
+        var bigModulus = BigInteger.valueOf(modulus);
+        assertEquals(input1 % modulus, FibonacciLikeSequences.getFiboLikeNumberMod(input1, input2, 1, modulus));
+        for (var index = 2; index <= 1_500; index++) {
+            BigInteger expectedNumber =
+                FibonacciLikeSequences.getFiboLikeNumbers(input1, input2, index).second().mod(bigModulus);
+            assertEquals(
+                expectedNumber.longValueExact(),
+                FibonacciLikeSequences.getFiboLikeNumberMod(input1, input2, index, modulus)
+            );
+        }
+    }
+    
+    /**
+     * For indices too big for BigIntegers, the number at an index should be the same as the
+     * number at the index + the Pisano period.
+     */
+    @ParameterizedTest
+    @CsvSource(useHeadersInDisplayName = true, textBlock = """
+        INDEX,                        MODULUS
+        1_000_000_000_000,            1_000_000_007
+        1_000_000_000_000_000_000,    999_999_999_999_999_989
+        5_000_000_000_000_000_000,    1_000_000_000_000_000
+        12_345_678_901_234_567,       6_000_000_000_000_006
+        """)
+    void getFiboLikeNumberModRepeats(long index, long modulus) {
+        long period = FibonacciLikeSequences.getPisanoPeriod(modulus);
+        assertEquals(
+            FibonacciLikeSequences.getFiboLikeNumberMod(3, 7, index, modulus),
+            FibonacciLikeSequences.getFiboLikeNumberMod(3, 7, index + period, modulus)
+        );
     }
-}
\ No newline at end of file
+}
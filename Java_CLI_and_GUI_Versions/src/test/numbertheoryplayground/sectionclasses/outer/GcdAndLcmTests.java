@@ -3,11 +3,16 @@ package numbertheoryplayground.sectionclasses.outer;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.*;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
+import static numbertheoryplayground.Misc.InvalidInputNumberException;
 import static numbertheoryplayground.sectionclasses.outer.GcdAndLcm.*;
 import static numbertheoryplayground.sectionclasses.outer.PrimeFactorization.FactorAndPower;
 
@@ -24,16 +29,16 @@ class GcdAndLcmTests {
      */
 
     @ParameterizedTest
-    @FieldSource("argsForGetEuclideanIterations")
-    void getEuclideanIterations(int input1, int input2, List<EuclideanIteration> expectedIterations) {
-        assertEquals(expectedIterations, GcdAndLcm.getEuclideanIterations(input1, input2));
+    @FieldSource("argsForStreamEuclideanIterations")
+    void streamEuclideanIterations(int input1, int input2, List<EuclideanIteration> expectedIterations) {
+        assertEquals(expectedIterations, GcdAndLcm.streamEuclideanIterations(input1, input2).toList());
     }
     
     static EuclideanIteration ei(int max, int min, int remainder) {
         return new EuclideanIteration(max, min, remainder);
     }
 
-    static final List<Arguments> argsForGetEuclideanIterations =
+    static final List<Arguments> argsForStreamEuclideanIterations =
         List.of(
             arguments(10, 10, List.of(ei(10, 10, 0))),
             arguments(10, 5, List.of(ei(10, 5, 0))),
@@ -57,7 +62,7 @@ class GcdAndLcmTests {
         int expectedCorrespondingInt
     ) {
         assertEquals(expectedFps, pf.getFps());
-        assertEquals(expectedCorrespondingInt, pf.getCorrespondingBigInt().intValueExact());
+        assertEquals(expectedCorrespondingInt, pf.getCorrespondingNum().longValueExact());
     }
     
     /**
@@ -126,4 +131,93 @@ class GcdAndLcmTests {
             )
         );
     }
+    
+    /**
+     * The expected GCD and LCM of the inputs are found 2 at a time with BigInteger.gcd, since
+     * the LCM of 10 inputs can be way bigger than a long. The inputs are products of small primes
+     * so that they have lots of common factors, and some of them are 1 prime raised to a power.
+     */
+    @Test
+    void combinePfsMatchesPairwiseGcdAndLcm() {
+        var random = new Random(23);
+        long[] smallPrimes = {2, 3, 5, 7, 11, 13, 999_983};
+        
+        for (var trial = 0; trial < 500; trial++) {
+            int numInputs = 1 + random.nextInt(MAX_NUM_INPUTS);
+            var inputPfs = new ArrayList<PrimeFactorization>();
+            BigInteger expectedGcd = BigInteger.ZERO;
+            BigInteger expectedLcm = BigInteger.ONE;
+            
+            for (var i = 0; i < numInputs; i++) {
+                var input = 1L;
+                while (input == 1 || random.nextInt(4) != 0 && input < 1_000_000_000L) {
+                    input *= smallPrimes[random.nextInt(smallPrimes.length)];
+                }
+                inputPfs.add(new PrimeFactorization(input, ""));
+                
+                BigInteger inputBigInt = BigInteger.valueOf(input);
+                expectedGcd = expectedGcd.gcd(inputBigInt);
+                expectedLcm = expectedLcm.multiply(inputBigInt).divide(expectedLcm.gcd(inputBigInt));
+            }
+            
+            GcdAndLcmPfs gcdAndLcmPfs = combinePfs(inputPfs);
+            if (expectedGcd.equals(BigInteger.ONE)) {
+                assertNull(gcdAndLcmPfs.gcdPf());
+            } else {
+                assertEquals(expectedGcd, gcdAndLcmPfs.gcdPf().getCorrespondingNum().toBigInteger());
+            }
+            assertEquals(expectedLcm, gcdAndLcmPfs.lcmPf().getCorrespondingNum().toBigInteger());
+        }
+    }
+    
+    /**
+     * The LCM of these is 2^52 × 3^32 × 5^22 × 7^18 × 97, which is way bigger than a long, and the GCD
+     * is 1 since the last input is a prime that isn't a factor of the others.
+     */
+    @Test
+    void combinePfsWithLcmBiggerThanLong() {
+        List<PrimeFactorization> inputPfs =
+            Arrays.stream(new long[] {1L << 52, 1_853_020_188_851_841L, 2_384_185_791_015_625L, 1_628_413_597_910_449L, 97})
+            .mapToObj(input -> new PrimeFactorization(input, ""))
+            .toList();
+        GcdAndLcmPfs gcdAndLcmPfs = combinePfs(inputPfs);
+        
+        assertNull(gcdAndLcmPfs.gcdPf());
+        assertEquals(List.of(fp(2, 52), fp(3, 32), fp(5, 22), fp(7, 18), fp(97, 1)), gcdAndLcmPfs.lcmPf().getFps());
+        assertEquals(
+            BigInteger.TWO.pow(52).multiply(BigInteger.valueOf(3).pow(32)).multiply(BigInteger.valueOf(5).pow(22))
+                .multiply(BigInteger.valueOf(7).pow(18)).multiply(BigInteger.valueOf(97)),
+            gcdAndLcmPfs.lcmPf().getCorrespondingNum().toBigInteger()
+        );
+    }
+    
+    @Test
+    void getManyInputsCliAnswer() {
+        String answer = GcdAndLcm.getManyInputsCliAnswer(new long[] {12, 18, 30});
+        assertTrue(answer.startsWith("GCD and LCM Info for 12, 18, and 30"));
+        assertTrue(answer.contains("The PF of the GCD is 2 × 3, which is 6."));
+        assertTrue(answer.contains("The PF of the LCM is 2^2 × 3^2 × 5, which is 180."));
+        
+        assertThrows(
+            InvalidInputNumberException.class,
+            () -> GcdAndLcm.getManyInputsCliAnswer(new long[] {12, 1})
+        );
+    }
+    
+    /**
+     * 240 × (−9) + 46 × 47 = 2 is the example on Wikipedia's page for the extended Euclidean
+     * algorithm. 35 × 5 = 175 = 29 × 6 + 1 and 6 × 6 = 36 = 35 + 1. Long sentences get split
+     * onto indented lines, so those get joined back together.
+     */
+    @Test
+    void getBezoutCliAnswer() {
+        String answer = GcdAndLcm.getBezoutCliAnswer(240, 46).replace("\n    ", " ");
+        assertTrue(answer.startsWith("Bézout Coefficients Info for 240 and 46"));
+        assertTrue(answer.contains("240 × (-9) + 46 × 47 = 2, so -9 and 47 are Bézout coefficients"));
+        assertTrue(answer.contains("240 has no inverse mod 46 since their GCD isn't 1."));
+        
+        String coprimeAnswer = GcdAndLcm.getBezoutCliAnswer(35, 6).replace("\n    ", " ");
+        assertTrue(coprimeAnswer.contains("The inverse of 35 mod 6 is 5,"));
+        assertTrue(coprimeAnswer.contains("The inverse of 6 mod 35 is 6,"));
+    }
 }
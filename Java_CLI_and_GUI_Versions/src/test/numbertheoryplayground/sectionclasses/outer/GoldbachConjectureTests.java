@@ -1,13 +1,19 @@
 package numbertheoryplayground.sectionclasses.outer;
 
 import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.FieldSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import java.util.Arrays;
 import java.util.List;
+import java.util.stream.IntStream;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
+import static numbertheoryplayground.Misc.InvalidInputNumberException;
+import static numbertheoryplayground.sectionclasses.outer.PrimeNumbers.isPrime;
 
 class GoldbachConjectureTests {
     @BeforeAll
@@ -18,15 +24,90 @@ class GoldbachConjectureTests {
     @ParameterizedTest
     @FieldSource("args")
     void getPrimePairStarts(long input, List<Integer> expectedPairStarts) {
-        assertEquals(expectedPairStarts, GoldbachConjecture.getPrimePairStarts(input));
+        assertEquals(
+            expectedPairStarts,
+            Arrays.stream(GoldbachConjecture.getPrimePairStarts(input)).boxed().toList()
+        );
     }
     
     static final List<Arguments> args =
         List.of(
+            arguments(4, List.of(2)),
             arguments(6, List.of(3)),
             arguments(10, List.of(3, 5)),
             arguments(32, List.of(3, 13)),
             arguments(58, List.of(5, 11, 17, 29)),
             arguments(100, List.of(3, 11, 17, 29, 41, 47))
         );
+    
+    /**
+     * The expected pair starts are found by checking every odd number ≤ half of the input with
+     * PrimeNumbers.isPrime. Some of these inputs are big enough that the reversed view of the
+     * bitset crosses many longs.
+     */
+    @ParameterizedTest
+    @ValueSource(longs = {8, 128, 130, 1_000, 65_536, 1_500_000})
+    void getPrimePairStartsMatchesPrimalityChecks(long input) {
+        assertArrayEquals(getPrimePairStartsWithPrimalityChecks(input), GoldbachConjecture.getPrimePairStarts(input));
+    }
+    
+    /**
+     * These inputs are big enough for the sieving and scanning to get split into multiple chunks,
+     * so the pair starts from the different tasks have to get concatenated in the right order no
+     * matter how many threads there are.
+     */
+    @ParameterizedTest
+    @ValueSource(longs = {524_292, 1_048_578, 3_000_000, 10_000_000})
+    void getPrimePairStartsWithParallelism(long input) {
+        int[] expectedPairStarts = getPrimePairStartsWithPrimalityChecks(input);
+        for (int parallelism : new int[] {1, 2, 3, 8}) {
+            assertArrayEquals(expectedPairStarts, GoldbachConjecture.getPrimePairStarts(input, parallelism));
+        }
+    }
+    
+    /**
+     * These inputs get split into multiple chunks, so the 1-arg getPrimePairStarts uses a pool
+     * unless there's only 1 processor.
+     */
+    @ParameterizedTest
+    @ValueSource(longs = {1_048_578, 10_000_000})
+    void getPrimePairStartsWithDefaultParallelism(long input) {
+        assertArrayEquals(GoldbachConjecture.getPrimePairStarts(input, 1), GoldbachConjecture.getPrimePairStarts(input));
+    }
+    
+    @Test
+    void getDefaultParallelism() {
+        assertAll(
+            () -> assertEquals(1, GoldbachConjecture.getDefaultParallelism(1)),
+            () -> assertEquals(8, GoldbachConjecture.getDefaultParallelism(8)),
+            () -> assertEquals(64, GoldbachConjecture.getDefaultParallelism(64)),
+            () -> assertEquals(64, GoldbachConjecture.getDefaultParallelism(128))
+        );
+        assertDoesNotThrow(() -> GoldbachConjecture.getPrimePairStarts(1_000_000, GoldbachConjecture.getDefaultParallelism(128)));
+    }
+    
+    @ParameterizedTest
+    @ValueSource(ints = {0, 65})
+    void getPrimePairStartsWithInvalidParallelism(int parallelism) {
+        assertThrows(IllegalArgumentException.class, () -> GoldbachConjecture.getPrimePairStarts(1_000_000, parallelism));
+    }
+    
+    @Test
+    void getTimedCliAnswer() {
+        String answer = GoldbachConjecture.getTimedCliAnswer(100, 2).replace('\n', ' ');
+        assertAll(
+            () -> assertTrue(answer.startsWith("There are 6 pairs of prime numbers that sum to 100. They were found in ")),
+            () -> assertTrue(answer.contains(" ms with up to 2 threads.")),
+            () -> assertTrue(answer.contains("3 & 97")),
+            () -> assertThrows(InvalidInputNumberException.class, () -> GoldbachConjecture.getTimedCliAnswer(100, 0)),
+            () -> assertThrows(InvalidInputNumberException.class, () -> GoldbachConjecture.getTimedCliAnswer(101, 1))
+        );
+    }
+    
+    static int[] getPrimePairStartsWithPrimalityChecks(long input) {
+        return
+            IntStream.iterate(3, i -> i <= input / 2, i -> i + 2)
+            .filter(i -> isPrime(i) && isPrime(input - i))
+            .toArray();
+    }
 }
@@ -1,11 +1,15 @@
 package numbertheoryplayground.sectionclasses.outer;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.FieldSource;
+import java.math.BigInteger;
+import java.util.Comparator;
 import java.util.List;
+import java.util.OptionalInt;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static numbertheoryplayground.sectionclasses.outer.PrimeFactorization.FactorAndPower;
 
@@ -36,7 +40,13 @@ class PrimeFactorizationTests {
             arguments(pow(3, 3) * pow(5, 2) * 7, List.of(fp(3, 3), fp(5, 2), fp(7, 1))),
             arguments(pow(5, 2) * pow(17, 2), List.of(fp(5, 2), fp(17, 2))),
             arguments(pow(13, 3), List.of(fp(13, 3))),
-            arguments(1_213, List.of(fp(1_213, 1)))
+            arguments(1_213, List.of(fp(1_213, 1))),
+            // The following have prime factors that are too big for trial division so they get found with Pollard's rho algorithm.
+            arguments(99_999_989L * 99_999_971L, List.of(fp(99_999_971, 1), fp(99_999_989, 1))),
+            arguments(99_999_989L * 99_999_989L, List.of(fp(99_999_989, 2))),
+            arguments(3L * 5 * 7 * 99_999_989, List.of(fp(3, 1), fp(5, 1), fp(7, 1), fp(99_999_989, 1))),
+            arguments(1_000_003L * 1_000_033L * 7_919, List.of(fp(7_919, 1), fp(1_000_003, 1), fp(1_000_033, 1))),
+            arguments(1L << 53, List.of(fp(2, 53)))
         );
 
     
@@ -51,4 +61,47 @@ class PrimeFactorizationTests {
             arguments(1_213, "1,213"),
             arguments(pow(3, 3) * pow(5, 2) * 7, "3^3 × 5^2 × 7")
         );
+    
+    
+    /**
+     * The expected corresponding big int is found by multiplying BigIntegers. 3^39 is bigger than
+     * 2^53, so a double can't hold it exactly, and the last list is for the LCM of 2 longs and
+     * its product is bigger than a long.
+     */
+    @ParameterizedTest
+    @FieldSource("listConstructorArgs")
+    void listConstructor(List<FactorAndPower> fps) {
+        var pf = new PrimeFactorization(fps);
+        assertEquals(fps.stream().sorted(Comparator.comparingLong(FactorAndPower::factor)).toList(), pf.getFps());
+        
+        BigInteger expectedBigInt = BigInteger.ONE;
+        for (FactorAndPower fp : fps) {
+            expectedBigInt = expectedBigInt.multiply(BigInteger.valueOf(fp.factor()).pow(fp.power()));
+        }
+        assertEquals(expectedBigInt, pf.getCorrespondingNum().toBigInteger());
+    }
+    
+    static final List<Arguments> listConstructorArgs =
+        List.of(
+            arguments(List.of(fp(2, 1))),
+            arguments(List.of(fp(7, 2), fp(2, 1), fp(5, 3))),
+            arguments(List.of(fp(3, 39))),
+            arguments(List.of(fp(99_999_989, 2), fp(7, 1), fp(2, 62), fp(99_999_971, 1)))
+        );
+    
+    @Test
+    void getPowerOfAndContainsFactor() {
+        var pf = new PrimeFactorization(2L * 2 * 2 * 5 * 5 * 7 * 99_999_989, "");
+        for (var factor = 0L; factor < 100; factor++) {
+            OptionalInt expectedPower =
+                factor == 2 ? OptionalInt.of(3) :
+                factor == 5 ? OptionalInt.of(2) :
+                factor == 7 ? OptionalInt.of(1) :
+                OptionalInt.empty();
+            assertEquals(expectedPower, pf.getPowerOf(factor));
+            assertEquals(expectedPower.isPresent(), pf.containsFactor(factor));
+        }
+        assertEquals(OptionalInt.of(1), pf.getPowerOf(99_999_989));
+        assertTrue(pf.containsFactor(99_999_989));
+    }
 }
@@ -2,6 +2,7 @@ package numbertheoryplayground.sectionclasses.outer;
 
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.MethodSource;
 import java.util.List;
 import java.util.stream.Stream;
@@ -43,4 +44,38 @@ class PrimeNumbersTests {
             arguments(first30PrimesAfter1000.getFirst(), first30PrimesAfter1000)
         );
     }
+    
+    
+    /**
+     * The composite numbers include a Carmichael number (561) and numbers that are strong
+     * pseudoprimes to the first few prime bases, which are numbers that a Miller-Rabin test with
+     * too few bases would wrongly say are prime. I got those from OEIS sequence A014233 at
+     * https://oeis.org/A014233. 9,223,372,036,854,775,783 is the largest prime < 2^63 and
+     * 9,999,999,999,971 is the largest prime ≤ 10 trillion, the max input.
+     */
+    @ParameterizedTest
+    @CsvSource(useHeadersInDisplayName = true, textBlock = """
+        INPUT,                        EXPECTED_IS_PRIME
+        0,                                 false
+        1,                                 false
+        2,                                 true
+        37,                                true
+        561,                               false
+        1_681,                             false
+        2_047,                             false
+        1_373_653,                         false
+        25_326_001,                        false
+        3_215_031_751,                     false
+        4_759_123_141,                     false
+        2_152_302_898_747,                 false
+        3_474_749_660_383,                 false
+        9_999_999_999_971,                 true
+        341_550_071_728_321,               false
+        3_825_123_056_546_413_051,         false
+        9_223_372_036_854_775_783,         true
+        9_223_372_036_854_775_807,         false
+        """)
+    void isPrime(long input, boolean expectedIsPrime) {
+        assertEquals(expectedIsPrime, PrimeNumbers.isPrime(input));
+    }
 }
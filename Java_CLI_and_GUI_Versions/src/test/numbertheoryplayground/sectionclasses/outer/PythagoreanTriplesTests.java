@@ -2,6 +2,8 @@ package numbertheoryplayground.sectionclasses.outer;
 
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.*;
+import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Stream;
 
@@ -17,7 +19,7 @@ class PythagoreanTriplesTests {
     
     @ParameterizedTest
     @MethodSource("getArgsForGetTriples")
-    void getTriples(int input, List<Triple> expectedTriples) {
+    void getTriples(long input, List<Triple> expectedTriples) {
         assertEquals(expectedTriples, PythagoreanTriples.getTriples(input));
     }
     
@@ -58,11 +60,58 @@ class PythagoreanTriplesTests {
             );
         
         return Stream.of(
-            arguments(0, expectedTriples1),
-            arguments(expectedTriples2.getFirst().a(), expectedTriples2)
+            arguments(0L, expectedTriples1),
+            arguments(expectedTriples2.getFirst().getA(), expectedTriples2)
         );
     }
     
+    /**
+     * The expected triples are found by checking every possible long leg length for every short
+     * leg length ≥ the input, with longs instead of Math.hypot so that it's exact.
+     */
+    @ParameterizedTest
+    @ValueSource(longs = {60, 1_000, 2_310, 9_990})
+    void getTriplesMatchesCheckingEveryLongLeg(long input) {
+        var expectedTriples = new ArrayList<Triple>();
+        for (long a = input; expectedTriples.size() < 10; a++) {
+            for (long b = a + 1; 2 * b + 1 <= a * a && expectedTriples.size() < 10; b++) {
+                var c = (long) Math.sqrt((double) (a * a + b * b));
+                while (c * c > a * a + b * b) c--;
+                while ((c + 1) * (c + 1) <= a * a + b * b) c++;
+                if (c * c == a * a + b * b) {
+                    expectedTriples.add(new Triple(a, b, c));
+                }
+            }
+        }
+        
+        assertEquals(expectedTriples, PythagoreanTriples.getTriples(input));
+    }
+    
+    /**
+     * The squares of the long legs and hypotenuses of these triples don't fit in a long, so
+     * a^2 + b^2 = c^2 gets checked with BigIntegers.
+     */
+    @ParameterizedTest
+    @ValueSource(longs = {999_999_000, 1_000_000_000})
+    void getTriplesWithBigInputs(long input) {
+        List<Triple> triples = PythagoreanTriples.getTriples(input);
+        assertEquals(10, triples.size());
+        
+        for (var i = 0; i < triples.size(); i++) {
+            Triple t = triples.get(i);
+            BigInteger a = BigInteger.valueOf(t.getA());
+            BigInteger b = BigInteger.valueOf(t.getB());
+            BigInteger c = BigInteger.valueOf(t.getC());
+            assertEquals(c.pow(2), a.pow(2).add(b.pow(2)));
+            assertTrue(input <= t.getA() && t.getA() < t.getB());
+            
+            if (i > 0) {
+                Triple previous = triples.get(i - 1);
+                assertTrue(previous.getA() < t.getA() || previous.getA() == t.getA() && previous.getB() < t.getB());
+            }
+        }
+    }
+    
     
     /**
      * a, b, and c are a primitive triple but a triple formed by multiplying those by the
@@ -83,4 +132,5 @@ class PythagoreanTriplesTests {
             )
         );
     }
+
 }
@@ -2,12 +2,16 @@ package numbertheoryplayground.sectionclasses.outer;
 
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import java.util.List;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
+import static numbertheoryplayground.sectionclasses.outer.PrimeFactorization.FactorAndPower;
 import static numbertheoryplayground.sectionclasses.outer.Semiprimes.SemiprimeData;
 
 public class SemiprimesTests {
@@ -83,4 +87,41 @@ public class SemiprimesTests {
             )
         );
     }
-}
\ No newline at end of file
+    
+    /**
+     * The expected SemiprimeDatas are found by creating a PrimeFactorization for each long ≥ the
+     * input until 20 with 2 prime factors are found.
+     */
+    @ParameterizedTest
+    @ValueSource(longs = {1_000_000_000_000L, 49_999_999_999_000L, 50_000_000_000_000L})
+    void getSemiprimesDataForLargeInputs(long input) {
+        List<SemiprimeData> expectedSemiprimesData =
+            LongStream.iterate(input, l -> l + 1)
+            .mapToObj(l -> new PrimeFactorization(l, "").getFps())
+            .filter(fps -> fps.stream().mapToInt(FactorAndPower::power).sum() == 2)
+            .limit(20)
+            .map(fps -> {
+                long factor1 = fps.getFirst().factor();
+                long factor2 = fps.getLast().factor();
+                return new SemiprimeData(factor1 * factor2, factor1, factor2);
+            })
+            .toList();
+        
+        assertEquals(expectedSemiprimesData, Semiprimes.getSemiprimesData(input));
+    }
+    
+    /**
+     * I got these counts of semiprimes ≤ a power of 10 from OEIS sequence A066265 at
+     * https://oeis.org/A066265.
+     */
+    @ParameterizedTest
+    @CsvSource(useHeadersInDisplayName = true, textBlock = """
+        MAX,            EXPECTED_COUNT
+        10,                   4
+        10_000,             2_625
+        1_000_000,         210_035
+        """)
+    void countSemiprimes(long max, long expectedCount) {
+        assertEquals(expectedCount, Semiprimes.countSemiprimes(0, max + 1));
+    }
+}
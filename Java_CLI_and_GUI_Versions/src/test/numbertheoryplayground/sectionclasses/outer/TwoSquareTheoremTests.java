@@ -1,21 +1,29 @@
 package numbertheoryplayground.sectionclasses.outer;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
+import static numbertheoryplayground.sectionclasses.outer.PrimeNumbers.isPrime;
 import static numbertheoryplayground.sectionclasses.outer.TwoSquareTheorem.Answer;
+import static numbertheoryplayground.sectionclasses.outer.TwoSquareTheorem.TwoSquares;
 
 class TwoSquareTheoremTests {
     /**
-     * At the start of the Answer constructor, there are 2 loops to determine the first Pythagorean
-     * prime ≥ the input. There are 4 situations that can happen with those loops as follows:
+     * At the start of the Answer constructor, the first Pythagorean prime ≥ the input gets found
+     * by sieving the longs ≥ the input that are 1 above a multiple of 4. There are 4 situations
+     * that can happen with that as follows:
      *
-     * 1. The input is a Pythagorean prime, so none of the loops have to be used.
-     * 2. The input is 1 above a multiple of 4 but isn't prime so only the second loop is used.
-     * 3. The input is 1, 2, or 3 less than a prime number that's 1 above a multiple of 4, so only
-     *    the first loop is used.
-     * 4. None of the above so both loops are used.
+     * 1. The input is a Pythagorean prime, so it's the first member that gets sieved.
+     * 2. The input is 1 above a multiple of 4 but isn't prime, so it gets crossed off.
+     * 3. The input is 1, 2, or 3 less than a prime number that's 1 above a multiple of 4, so the
+     *    first member is that prime.
+     * 4. None of the above.
      *
      * I'm not certain that all of these situations need to be tested but it's not gonna do any harm
      * to test them all either so I'll do each one, in the order that they're listed.
@@ -39,4 +47,99 @@ class TwoSquareTheoremTests {
         assertEquals(expectedA, answer.getA());
         assertEquals(expectedB, answer.getB());
     }
+    
+    /**
+     * The expected squares are found by trying every a, like this section used to do. There's
+     * only 1 way to write a Pythagorean prime as the sum of 2 squares.
+     */
+    @Test
+    void findTwoSquaresMatchesTryingEveryA() {
+        for (var p = 5L; p < 20_000; p += 4) {
+            if (!isPrime(p)) continue;
+            
+            var a = 0L;
+            long b;
+            do {
+                a++;
+                b = TwoSquareTheorem.floorSqrt(p - a * a);
+            } while (b * b != p - a * a);
+            assertEquals(new TwoSquares(Math.min(a, b), Math.max(a, b)), TwoSquareTheorem.findTwoSquares(p));
+        }
+    }
+    
+    /**
+     * For inputs this big, trying every a would take up to billions of tries and Math.sqrt isn't
+     * exact. The last input is the max input.
+     */
+    @ParameterizedTest
+    @ValueSource(longs = {999_999_999_000L, 123_456_789_012_345L, 1_000_000_000_000_000L, 9_000_000_000_000_000_000L})
+    void answerWithBigInputs(long input) {
+        var answer = new Answer(input, "");
+        long pythagPrime = answer.getPythagPrime();
+        assertAll(
+            () -> assertTrue(pythagPrime >= input && pythagPrime % 4 == 1 && isPrime(pythagPrime)),
+            () -> assertEquals(pythagPrime, answer.getA() * answer.getA() + answer.getB() * answer.getB()),
+            () -> assertTrue(0 < answer.getA() && answer.getA() <= answer.getB())
+        );
+    }
+    
+    /**
+     * The expected ways are found by trying every a from 0 to √(n / 2), and r2 is found by
+     * counting the signs and orders of each way.
+     */
+    @Test
+    void findAllTwoSquaresMatchesTryingEveryA() {
+        for (var n = 0L; n < 20_000; n++) {
+            var expectedTwoSquares = new ArrayList<TwoSquares>();
+            var expectedNumRepresentations = 0L;
+            for (var a = 0L; 2 * a * a <= n; a++) {
+                long b = TwoSquareTheorem.floorSqrt(n - a * a);
+                if (a * a + b * b != n) continue;
+                
+                expectedTwoSquares.add(new TwoSquares(a, b));
+                long numSigns = (a == 0 ? 1 : 2) * (b == 0 ? 1 : 2);
+                expectedNumRepresentations += a == b ? numSigns : 2 * numSigns;
+            }
+            
+            assertEquals(expectedTwoSquares, TwoSquareTheorem.findAllTwoSquares(n));
+            assertEquals(expectedNumRepresentations, TwoSquareTheorem.countRepresentations(n));
+        }
+    }
+    
+    /**
+     * The first input is the product of the first 11 Pythagorean primes, so it has 2^11 Gaussian
+     * integers with it as their norm, up to signs, and 1,024 ways. The last input is the max value
+     * for a long, which has 127 as a prime factor with a power of 1, so it has no ways. A way with
+     * a = 0 or a = b has fewer signs and orders than the other ways, so the number of ways is
+     * (r2 + 4 if the input is a square + 4 if it's 2 × a square) / 8.
+     */
+    @ParameterizedTest
+    @ValueSource(longs = {99_045_822_390_973_705L, 66_619_268_813_565_000L, 999_999_999_999_999_989L, 1_000_000_000_000_000_000L, Long.MAX_VALUE})
+    void findAllTwoSquaresWithBigInputs(long n) {
+        var twoSquaresList = TwoSquareTheorem.findAllTwoSquares(n);
+        for (TwoSquares twoSquares : twoSquaresList) {
+            assertTrue(0 <= twoSquares.a() && twoSquares.a() <= twoSquares.b());
+            assertEquals(n, twoSquares.a() * twoSquares.a() + twoSquares.b() * twoSquares.b());
+        }
+        assertEquals(twoSquaresList.stream().distinct().sorted(Comparator.comparingLong(TwoSquares::a)).toList(), twoSquaresList);
+        
+        long squareRoot = TwoSquareTheorem.floorSqrt(n);
+        long halfSquareRoot = TwoSquareTheorem.floorSqrt(n / 2);
+        long expectedNumWays =
+            (TwoSquareTheorem.countRepresentations(n) +
+                (squareRoot * squareRoot == n ? 4 : 0) +
+                (2 * halfSquareRoot * halfSquareRoot == n ? 4 : 0)) / 8;
+        assertEquals(expectedNumWays, twoSquaresList.size());
+    }
+    
+    @Test
+    void answerRepresentations() {
+        var answer = new Answer(1_105, "");
+        assertEquals(
+            List.of(new TwoSquares(4, 33), new TwoSquares(9, 32), new TwoSquares(12, 31), new TwoSquares(23, 24)),
+            answer.getInputTwoSquares()
+        );
+        assertEquals(32, answer.getNumRepresentations());
+        assertEquals(4, answer.getInputTwoSquaresStrings().count());
+    }
 }
@@ -2,10 +2,27 @@ package com.numbertheoryplayground;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Bean;
+import com.numbertheoryplayground.calculationsimpl.*;
 
 @SpringBootApplication
 public class Application {
     public static void main(String[] args) {
         SpringApplication.run(Application.class, args);
     }
+    
+    /*
+    Having the beans below makes the tables and arrays in them get built when the app starts up
+    instead of when the first request that needs them comes in.
+     */
+    
+    @Bean
+    public SmallestPrimeFactorTable smallestPrimeFactorTable() {
+        return SmallestPrimeFactorTable.getInstance();
+    }
+    
+    @Bean
+    public PrimeIndex primeIndex() {
+        return PrimeIndex.getInstance();
+    }
 }
\ No newline at end of file
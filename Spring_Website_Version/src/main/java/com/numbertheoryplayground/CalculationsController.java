@@ -1,5 +1,6 @@
 package com.numbertheoryplayground;
 
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
 import java.util.List;
 import com.numbertheoryplayground.calculationsimpl.*;
@@ -11,6 +12,12 @@ import static com.numbertheoryplayground.calculationsimpl.PrimeFactorization.Fac
 @RestController
 @RequestMapping("/calculate/")
 public class CalculationsController {
+    private final PrecomputedJsonAnswers precomputedJsonAnswers;
+    
+    public CalculationsController(PrecomputedJsonAnswers precomputedJsonAnswers) {
+        this.precomputedJsonAnswers = precomputedJsonAnswers;
+    }
+    
     /*
     There are constants for the endpoint ends so that they can be accessed from the
     CalculationsControllerTests class.
@@ -69,17 +76,17 @@ public class CalculationsController {
     
     static final String GOLDBACH_PRIME_PAIR_STARTS_ENDPOINT_END = "goldbach-prime-pair-starts";
     
-    @GetMapping(GOLDBACH_PRIME_PAIR_STARTS_ENDPOINT_END)
-    public List<Integer> getGoldbachPrimePairStarts(@RequestParam int input) {
-        return Calculations.getGoldbachPrimePairStarts(input);
+    @GetMapping(value = GOLDBACH_PRIME_PAIR_STARTS_ENDPOINT_END, produces = MediaType.APPLICATION_JSON_VALUE)
+    public byte[] getGoldbachPrimePairStarts(@RequestParam int input) {
+        return precomputedJsonAnswers.getGoldbachPrimePairStartsJson(input);
     }
     
     
     static final String PYTHAG_TRIPLES_ENDPOINT_END = "pythagorean-triples";
     
-    @GetMapping(PYTHAG_TRIPLES_ENDPOINT_END)
-    public List<Calculations.PythagoreanTriple> getPythagTriples(@RequestParam int input) {
-        return Calculations.getPythagTriples(input);
+    @GetMapping(value = PYTHAG_TRIPLES_ENDPOINT_END, produces = MediaType.APPLICATION_JSON_VALUE)
+    public byte[] getPythagTriples(@RequestParam int input) {
+        return precomputedJsonAnswers.getPythagTriplesJson(input);
     }
     
     
@@ -102,6 +109,31 @@ public class CalculationsController {
     }
     
     
+    static final String FIBO_LIKE_NUMBER_ANSWER_ENDPOINT_END = "fibonacci-like-number-answer";
+    
+    @GetMapping(FIBO_LIKE_NUMBER_ANSWER_ENDPOINT_END)
+    public FibonacciLikeNumberAnswer getFiboLikeNumberAnswer(
+        @RequestParam int input1,
+        @RequestParam int input2,
+        @RequestParam int index
+    ) {
+        return new FibonacciLikeNumberAnswer(input1, input2, index);
+    }
+    
+    
+    static final String FIBO_LIKE_MOD_ANSWER_ENDPOINT_END = "fibonacci-like-mod-answer";
+    
+    @GetMapping(FIBO_LIKE_MOD_ANSWER_ENDPOINT_END)
+    public FibonacciLikeModAnswer getFiboLikeModAnswer(
+        @RequestParam int input1,
+        @RequestParam int input2,
+        @RequestParam int index,
+        @RequestParam int modulus
+    ) {
+        return new FibonacciLikeModAnswer(input1, input2, index, modulus);
+    }
+    
+    
     static final String ANCIENT_MULT_ANSWER_ENDPOINT_END = "ancient-multiplication-answer";
     
     @GetMapping(ANCIENT_MULT_ANSWER_ENDPOINT_END)
@@ -0,0 +1,83 @@
+package com.numbertheoryplayground;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.numbertheoryplayground.calculationsimpl.Calculations;
+
+import static com.numbertheoryplayground.InputValidation.*;
+import static com.numbertheoryplayground.calculationsimpl.Calculations.*;
+
+/**
+ * The Pythagorean triples endpoint only accepts inputs from 0 to 100 and the Goldbach prime pair
+ * starts endpoint only accepts the even numbers from 4 to 10,000, so there are only around 5,000
+ * possible answers for those endpoints. This bean calculates all of them when the app starts up and
+ * stores each one as the bytes of its JSON, so that the controller can send those bytes in a
+ * response without calculating or marshaling anything.
+ *
+ * On my machine, building these takes around half a second and the JSON takes up around 2 MB, most
+ * of which is for the Goldbach answers. Both of those get logged at startup.
+ */
+@Component
+public class PrecomputedJsonAnswers {
+    private static final Logger logger = LoggerFactory.getLogger(PrecomputedJsonAnswers.class);
+    
+    /**
+     * The element at index i is the JSON for the input i.
+     */
+    private final byte[][] pythagTriplesJson;
+    
+    /**
+     * The element at index i is the JSON for the input 2i + GOLDBACH_MIN_INPUT.
+     */
+    private final byte[][] goldbachPrimePairStartsJson;
+    
+    public PrecomputedJsonAnswers(ObjectMapper objectMapper) throws JsonProcessingException {
+        long startNanos = System.nanoTime();
+        long totalBytes = 0;
+        
+        pythagTriplesJson = new byte[PYTHAG_TRIPLES_MAX_INPUT + 1][];
+        for (var input = 0; input <= PYTHAG_TRIPLES_MAX_INPUT; input++) {
+            pythagTriplesJson[input] = objectMapper.writeValueAsBytes(Calculations.getPythagTriples(input));
+            totalBytes += pythagTriplesJson[input].length;
+        }
+        
+        goldbachPrimePairStartsJson = new byte[(GOLDBACH_MAX_INPUT - GOLDBACH_MIN_INPUT) / 2 + 1][];
+        for (var i = 0; i < goldbachPrimePairStartsJson.length; i++) {
+            int input = 2 * i + GOLDBACH_MIN_INPUT;
+            goldbachPrimePairStartsJson[i] =
+                objectMapper.writeValueAsBytes(Calculations.getGoldbachPrimePairStarts(input));
+            totalBytes += goldbachPrimePairStartsJson[i].length;
+        }
+        
+        logger.info(
+            "Precomputed the Pythagorean triple and Goldbach answers in {} ms. Their JSON takes up {} bytes.",
+            (System.nanoTime() - startNanos) / 1_000_000,
+            totalBytes
+        );
+    }
+    
+    /**
+     * Returns the JSON for the list that Calculations.getPythagTriples returns for the input.
+     * The array returned shouldn't be modified.
+     */
+    byte[] getPythagTriplesJson(int input) {
+        assertIsInRange(input, 0, PYTHAG_TRIPLES_MAX_INPUT);
+        return pythagTriplesJson[input];
+    }
+    
+    /**
+     * Returns the JSON for the list that Calculations.getGoldbachPrimePairStarts returns for the
+     * input. The array returned shouldn't be modified.
+     */
+    byte[] getGoldbachPrimePairStartsJson(int input) {
+        assertIsInRange(input, GOLDBACH_MIN_INPUT, GOLDBACH_MAX_INPUT);
+        if (input % 2 != 0) {
+            throw InvalidInputNumberException.getInstance();
+        }
+        
+        return goldbachPrimePairStartsJson[(input - GOLDBACH_MIN_INPUT) / 2];
+    }
+}
@@ -51,6 +51,7 @@ public final class AncientMultiplicationAnswer {
         
         for (int i = input1BinaryString.length() - 1; i >= 0; i--) {
             String correspondingMultiple = Long.toString((long) input2 * powerOf2);
+            var row = new TableRow(Integer.toString(powerOf2), correspondingMultiple);
             table1Rows.add(row);
             
             if (input1BinaryString.charAt(i) == '1') {
@@ -61,7 +62,7 @@ public final class AncientMultiplicationAnswer {
             powerOf2 *= 2;
         }
         
-        product = Long.toString((long) input1 * input2);
+        productString = Long.toString((long) input1 * input2);
     }
     
     public List<TableRow> getTable1Rows() {
@@ -1,10 +1,10 @@
 package com.numbertheoryplayground.calculationsimpl;
 
 import java.util.*;
-import java.util.stream.IntStream;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import static com.numbertheoryplayground.InputValidation.*;
+import static com.numbertheoryplayground.calculationsimpl.PrimeFactorization.FactorAndPower;
 
 /**
  * Utility class with static methods for doing calculations.
@@ -22,38 +22,12 @@ public class Calculations {
         return !isEven(i);
     }
     
-    static boolean isPrime(int input) {
-        if (input <= 1) return false;
-        if (input <= 3) return true;
-        if (isEven(input)) return false;
-        
-        var maxPossibleFactorToCheck = (int) Math.sqrt(input);
-        for (var i = 3; i <= maxPossibleFactorToCheck; i += 2) {
-            if (isDivisible(input, i)) return false;
-        }
-        return true;
-    }
-    
     /**
      * Returns a list of the first 30 primes ≥ the input.
      */
     public static List<Integer> getPrimes(int input) {
         assertIsInRange(input, 0, 100_000);
-        
-        final int numPrimesToFind = 30;
-        var primes = new ArrayList<Integer>(numPrimesToFind);
-        if (input < 2) primes.add(2);
-        
-        int possiblePrime = isOdd(input) ? input : input + 1;
-        while (true) {
-            if (isPrime(possiblePrime)) {
-                primes.add(possiblePrime);
-                if (primes.size() == numPrimesToFind) {
-                    return primes;
-                }
-            }
-            possiblePrime += 2;
-        }
+        return PrimeIndex.getInstance().getPrimes(input, 30);
     }
     
     
@@ -65,27 +39,19 @@ public class Calculations {
      */
     private static SemiprimeData checkIfSemiprime(int input) {
         /*
-        First, we need to find the first int factor of the input that's > 1 and < the input.
-        Just like with the algorithm for determining if an int is prime, we only need to check
-        primes ≤ the square root of the input. If we don't find a factor, then that means that
-        the input is prime and not semiprime.
+        The input is a semiprime if, after dividing it by its smallest prime factor, the
+        quotient is prime. A prime is its own smallest prime factor, so both of these checks
+        are lookups in the smallest prime factor table instead of trial division.
          */
-        if (isEven(input)) {
-            return isPrime(input / 2) ? new SemiprimeData(input, 2, input / 2) : null;
-        }
+        if (input < 4) return null;
         
-        var maxPossibleFactorToCheck = (int) Math.sqrt(input);
-        for (var possibleFactor1 = 3; possibleFactor1 <= maxPossibleFactorToCheck; possibleFactor1 += 2) {
-            if (isDivisible(input, possibleFactor1)) {
-                int factor2 = input / possibleFactor1;
-                return
-                    possibleFactor1 == factor2 || isPrime(factor2)
-                    ? new SemiprimeData(input, possibleFactor1, factor2)
-                    : null;
-            }
-        }
-        
-        return null;
+        var spfTable = SmallestPrimeFactorTable.getInstance();
+        int factor1 = spfTable.getSmallestPrimeFactor(input);
+        int factor2 = input / factor1;
+        return
+            factor2 > 1 && spfTable.getSmallestPrimeFactor(factor2) == factor2
+            ? new SemiprimeData(input, factor1, factor2)
+            : null;
     }
     
     /**
@@ -117,90 +83,80 @@ public class Calculations {
      */
     public static List<Integer> getTwinPrimePairStarts(int input) {
         assertIsInRange(input, 0, 100_000);
-        
-        final int numPairsToFind = 20;
-        var pairStarts = new ArrayList<Integer>(numPairsToFind);
-        /*
-        All twin prime pairs besides 3 and 5 consist of 1 number that's 1 below a multiple of 6
-        and another number that's 1 above that same multiple of 6. Set possiblePairStart to the
-        first int ≥ the input that's 1 below a multiple of 6 so that we'll be able to iterate
-        through ints that are 1 below a multiple of 6.
-         */
-        if (input <= 3) pairStarts.add(3);
-        int possiblePairStart = input;
-        while (possiblePairStart % 6 != 5) possiblePairStart++;
-        
-        while (true) {
-            if (isPrime(possiblePairStart) && isPrime(possiblePairStart + 2)) {
-                pairStarts.add(possiblePairStart);
-                if (pairStarts.size() == numPairsToFind) {
-                    return pairStarts;
-                }
-            }
-            possiblePairStart += 6;
-        }
+        return PrimeIndex.getInstance().getTwinPrimePairStarts(input, 20);
     }
     
+    public static final int GOLDBACH_MIN_INPUT = 4;
+    public static final int GOLDBACH_MAX_INPUT = 10_000;
+    
     /**
+     * Finds the pairs of primes that sum to the input and returns a list that contains the
      * lowest ints of those pairs.
-     * Find the pairs of primes that sum to the input and returns a list that contains the
      */
     public static List<Integer> getGoldbachPrimePairStarts(int input) {
-        assertIsInRange(input, 4, 10_000);
+        assertIsInRange(input, GOLDBACH_MIN_INPUT, GOLDBACH_MAX_INPUT);
         if (isOdd(input)) {
             throw InvalidInputNumberException.getInstance();
         }
         
-        /*
-        Check if the input is 4 since 4 is the only even number ≥ 4 that has 2 in a pair of
-        primes that sum to it.
-         */
-        if (input == 4) return List.of(2);
+        return PrimeIndex.getInstance().getGoldbachPrimePairStarts(input);
+    }
+    
+    /**
+     * Whether the triple is primitive gets found once when it's constructed, instead of every
+     * time the triple gets marshaled to JSON. The triple is primitive if the GCD of a and b is 1,
+     * because a prime that divides a and b also divides c.
+     */
+    public static final class PythagoreanTriple {
+        private final int a;
         
-        /*
-        Check pairs of odd numbers that sum to the input for primality. The iterating only
-        needs to go up to the floor of half of the input. After that point, checks for
-        primality will be done on pairs of numbers that have already been checked for primality.
-         */
-        var pairStarts = new ArrayList<Integer>();
-        int maxPossiblePairStart = input / 2;
+        private final int b;
         
-        for (var i = 3; i <= maxPossiblePairStart; i += 2) {
-            if (isPrime(i) && isPrime(input - i)) {
-                pairStarts.add(i);
-            }
+        private final int c;
+        
+        private final boolean isPrimitive;
+        
+        public PythagoreanTriple(int a, int b, int c) {
+            this.a = a;
+            this.b = b;
+            this.c = c;
+            isPrimitive = Gcd.gcd(a, b) == 1;
+        }
+        
+        public int getA() {
+            return a;
+        }
+        
+        public int getB() {
+            return b;
+        }
+        
+        public int getC() {
+            return c;
         }
         
-        return pairStarts;
-    }
-    
-    public record PythagoreanTriple(int a, int b, int c) {
         /*
         I want the JSON property to be "isPrimitive" but the Jackson JSON mapper
         removes "is" by default.
          */
         @JsonProperty("isPrimitive")
         public boolean isPrimitive() {
-            /*
-            See if there's a common factor other than 1. The iterating only needs to go up to
-            a third of the min of a, b, and c. This is because if the min could be a common
-            factor, then we would be able to divide a, b, and c by the min and get a
-            Pythagorean triple and the min of a, b, and c in that triple would be 1. There's
-            no Pythagorean triple with 1. The first one is 3, 4, and 5. Because of that, half
-            of the min also can't be a common factor. The next lowest possible common factor
-            is a third of the min.
-             */
-            int maxPossibleCommonFactor = Math.min(a, Math.min(b, c)) / 3;
-            return
-                IntStream.concat(
-                    IntStream.of(2),
-                    IntStream.iterate(3, i -> i + 2)
-                )
-                .takeWhile(i -> i <= maxPossibleCommonFactor)
-                .noneMatch(i -> isDivisible(a, i) && isDivisible(b, i) && isDivisible(c, i));
+            return isPrimitive;
+        }
+        
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof PythagoreanTriple t && a == t.a && b == t.b && c == t.c;
+        }
+        
+        @Override
+        public int hashCode() {
+            return Objects.hash(a, b, c);
         }
     }
     
+    public static final int PYTHAG_TRIPLES_MAX_INPUT = 100;
+    
     /**
      * Returns a list of triple objects for the first 10 Pythagorean triples where the short leg
      * length, the lowest number in the triple, is ≥ the input. For example, if the input is 3,
@@ -210,34 +166,54 @@ public class Calculations {
      * find triples where the short leg equals the input + 1, and so on until 10 are found.
      */
     public static List<PythagoreanTriple> getPythagTriples(int input) {
-        assertIsInRange(input, 0, 100);
+        assertIsInRange(input, 0, PYTHAG_TRIPLES_MAX_INPUT);
         
         final int numTriplesToFind = 10;
-        var triples = new ArrayList<PythagoreanTriple>(numTriplesToFind);
-        // a and b and for the short and long leg lengths, respectively.
-        int a = input;
-        int b = a + 1;
-        
-        while (true) {
-            var cDouble = Math.hypot(a, b);
-            /*
-            b + 1 is the min possible integer value for c, so if c is less than that then
-            the max value for b for the current value of a has been exceeded.
-             */
-            if (cDouble < b + 1) {
-                b = ++a + 1;
-                continue;
-            }
-            
-            var cInt = (int) cDouble;
-            if (cDouble == cInt) {
-                triples.add(new PythagoreanTriple(a, b, cInt));
-                if (triples.size() == numTriplesToFind) {
-                    return triples;
+        var triples = new ArrayList<PythagoreanTriple>();
+        for (int a = input; triples.size() < numTriplesToFind; a++) {
+            addPythagTriplesWithShortLeg(a, triples);
+        }
+        return List.copyOf(triples.subList(0, numTriplesToFind));
+    }
+    
+    /**
+     * Adds objects for all the Pythagorean triples with the short leg length provided to the
+     * list, in increasing order of the long leg length.
+     *
+     * If a^2 + b^2 = c^2, then a^2 = (c − b)(c + b). So every triple with a short leg length of a
+     * comes from a pair of factors d and e of a^2 where d = c − b and e = c + b. Then
+     * b = (e − d) / 2 and c = (e + d) / 2, so d and e have to both be even or both be odd, and
+     * b > a when a^2 − 2ad − d^2 > 0, which needs d to be < half of a. The divisors of a^2 come
+     * from the PF of a with all the powers doubled. A smaller d means a bigger b, so the ds get
+     * gone through in decreasing order. Unlike checking every b with Math.hypot, this only looks
+     * at the triples that exist and has no rounding errors.
+     */
+    private static void addPythagTriplesWithShortLeg(int a, List<PythagoreanTriple> triples) {
+        // There are no triples with a short leg length < 3.
+        if (a < 3) return;
+        
+        int maxD = a / 2;
+        var ds = new ArrayList<Integer>();
+        ds.add(1);
+        
+        for (FactorAndPower fp : new PrimeFactorization(a).getFps()) {
+            int numDsBefore = ds.size();
+            for (var i = 0; i < numDsBefore; i++) {
+                int d = ds.get(i);
+                for (var power = 1; power <= 2 * fp.power() && d <= maxD / fp.factor(); power++) {
+                    d *= fp.factor();
+                    ds.add(d);
                 }
             }
-            
-            b++;
+        }
+        
+        ds.sort(Comparator.reverseOrder());
+        int aSquared = a * a;
+        for (int d : ds) {
+            int e = aSquared / d;
+            if (isEven(e - d) && aSquared - 2 * a * d - d * d > 0) {
+                triples.add(new PythagoreanTriple(a, (e - d) / 2, (e + d) / 2));
+            }
         }
     }
 }
\ No newline at end of file
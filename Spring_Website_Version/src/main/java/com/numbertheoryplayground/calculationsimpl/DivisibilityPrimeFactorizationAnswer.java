@@ -41,52 +41,49 @@ public final class DivisibilityPrimeFactorizationAnswer {
     
     /**
      * This method finds PFs of factors of the input PF's corresponding int, excluding 1 and the
-     * corresponding int, by finding subfactorizations in the input PF and that's done by
-     * finding combinations of factors and powers in that PF. The PFs in the list returned are
-     * sorted by corresponding ints.
+     * corresponding int. A DivisorIterator finds the factors in increasing order along with
+     * their powers, so the PFs in the list returned are sorted by corresponding ints without
+     * needing to be sorted, and each PF is made from factors and powers that are already sorted.
      */
     static List<PrimeFactorization> getFactorPfs(PrimeFactorization pf) {
+        var primes = new long[pf.getNumFactors()];
+        var maxPowers = new int[pf.getNumFactors()];
+        for (var i = 0; i < primes.length; i++) {
+            primes[i] = pf.getFactor(i);
+            maxPowers[i] = pf.getPower(i);
+        }
+        
         /*
         Let numFactors be the number of factors of the corresponding long of the input PF,
         including 1 and the corresponding long.
          */
         var numFactors = 1;
-        for (FactorAndPower fp : pf.getFps()) {
-            numFactors *= fp.power() + 1;
+        for (int maxPower : maxPowers) {
+            numFactors *= maxPower + 1;
         }
         
-        /*
-        The algorithm below will add a PF to factorPfs that's the same as the input PF but
-        then remove it, so the capacity for factorPfs will be set to numFactors - 1 and its
-        size at the end will be numFactors - 2.
-         */
-        var factorPfs = new ArrayList<PrimeFactorization>(numFactors - 1);
-        
-        for (FactorAndPower fp : pf.getFps()) {
-            int primeFactor = fp.factor();
-            int maxPower = fp.power();
-            /*
-            In the 2nd for loop below, we want to iterate through all the PFs that are in factorPfs
-            at this point, and not the ones that get added below. Use this variable for that.
-             */
-            int lastPfIndexToUse = factorPfs.size() - 1;
+        var factorPfs = new ArrayList<PrimeFactorization>(numFactors - 2);
+        var divisors = new DivisorIterator(primes, maxPowers);
+        divisors.nextLong(); // Skip 1.
+        for (var i = 0; i < numFactors - 2; i++) {
+            long divisor = divisors.nextLong();
+            var numPrimes = 0;
+            for (var j = 0; j < primes.length; j++) {
+                if (divisors.getPower(j) > 0) numPrimes++;
+            }
             
-            for (var power = 1; power <= maxPower; power++) {
-                var singleton = List.of(new FactorAndPower(primeFactor, power));
-                factorPfs.add(new PrimeFactorization(singleton));
-                
-                for (var i = 0; i <= lastPfIndexToUse; i++) {
-                    List<FactorAndPower> listFactorFps = factorPfs.get(i).getFps();
-                    var newFactorFps = new ArrayList<FactorAndPower>(listFactorFps.size() + 1);
-                    newFactorFps.addAll(listFactorFps);
-                    newFactorFps.add(new FactorAndPower(primeFactor, power));
-                    factorPfs.add(new PrimeFactorization(newFactorFps));
+            var factors = new int[numPrimes];
+            var powers = new byte[numPrimes];
+            var k = 0;
+            for (var j = 0; j < primes.length; j++) {
+                int power = divisors.getPower(j);
+                if (power > 0) {
+                    factors[k] = (int) primes[j];
+                    powers[k++] = (byte) power;
                 }
             }
+            factorPfs.add(new PrimeFactorization(divisor, factors, powers));
         }
-        
-        factorPfs.removeLast();
-        factorPfs.sort(Comparator.comparingLong(PrimeFactorization::getCorrespondingLong));
         return factorPfs;
     }
 }
\ No newline at end of file
@@ -0,0 +1,122 @@
+package com.numbertheoryplayground.calculationsimpl;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * Iterator that goes through the divisors of a number in increasing order, given the prime
+ * factors and powers of its PF, without finding all of them first. A number with 13 prime factors
+ * can have tens of thousands of divisors. The inputs for the website are ≤ 1 million, so they have
+ * at most 240 divisors, but this still finds them in order without making a PF for every
+ * combination of factors and powers and then sorting them.
+ *
+ * Every divisor d other than 1 has exactly 1 "parent", which is d divided by its biggest prime
+ * factor. The children of a divisor are it times each prime that's ≥ its biggest prime factor and
+ * whose power in it is < the max power. Every child is bigger than its parent, so if the divisors
+ * that have been found but not returned yet are kept in a min-heap, the smallest one is always
+ * the next divisor. Returning a divisor means taking it off the heap and putting its children on.
+ * This is like a k-way merge of the lists of divisors times each prime. The heap is a long[] and
+ * only holds the divisors between what's been returned and what hasn't, not all of them.
+ *
+ * The powers of the primes in a divisor aren't kept in the heap. They get found when it's
+ * returned, by dividing it by the primes, and getPower gives them so the PF of the divisor can be
+ * made.
+ */
+final class DivisorIterator implements PrimitiveIterator.OfLong {
+    private final long[] primes;
+    
+    private final int[] maxPowers;
+    
+    /**
+     * The powers of the primes in the divisor that nextLong returned last.
+     */
+    private final int[] powers;
+    
+    /**
+     * A binary min-heap with the smallest divisor at index 0 and the children of the divisor at
+     * index i at indexes 2i + 1 and 2i + 2.
+     */
+    private long[] heap = new long[16];
+    
+    private int heapSize;
+    
+    /**
+     * The primes should be in increasing order and the powers should be ≥ 1. The product of the
+     * primes raised to the powers should fit in a long.
+     */
+    DivisorIterator(long[] primes, int[] maxPowers) {
+        if (primes.length != maxPowers.length) {
+            throw new IllegalArgumentException("There must be a power for each prime.");
+        }
+        
+        this.primes = primes.clone();
+        this.maxPowers = maxPowers.clone();
+        powers = new int[primes.length];
+        push(1);
+    }
+    
+    @Override
+    public boolean hasNext() {
+        return heapSize > 0;
+    }
+    
+    @Override
+    public long nextLong() {
+        if (!hasNext()) throw new NoSuchElementException();
+        
+        long divisor = pop();
+        long remaining = divisor;
+        var biggestPrimeIndex = 0;
+        for (var i = 0; i < primes.length; i++) {
+            powers[i] = 0;
+            while (remaining % primes[i] == 0) {
+                remaining /= primes[i];
+                powers[i]++;
+            }
+            if (powers[i] > 0) biggestPrimeIndex = i;
+        }
+        
+        for (int i = biggestPrimeIndex; i < primes.length; i++) {
+            if (powers[i] < maxPowers[i]) push(divisor * primes[i]);
+        }
+        return divisor;
+    }
+    
+    /**
+     * Returns the power of the prime at the index in the divisor that nextLong returned last, or
+     * 0 if it doesn't have that prime as a factor.
+     */
+    int getPower(int primeIndex) {
+        return powers[primeIndex];
+    }
+    
+    private void push(long divisor) {
+        if (heapSize == heap.length) {
+            heap = Arrays.copyOf(heap, 2 * heap.length);
+        }
+        
+        int i = heapSize++;
+        while (i > 0 && heap[(i - 1) / 2] > divisor) {
+            heap[i] = heap[(i - 1) / 2];
+            i = (i - 1) / 2;
+        }
+        heap[i] = divisor;
+    }
+    
+    private long pop() {
+        long smallest = heap[0];
+        long last = heap[--heapSize];
+        
+        var i = 0;
+        while (2 * i + 1 < heapSize) {
+            int child = 2 * i + 1;
+            if (child + 1 < heapSize && heap[child + 1] < heap[child]) child++;
+            if (heap[child] >= last) break;
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = last;
+        return smallest;
+    }
+}
@@ -0,0 +1,127 @@
+package com.numbertheoryplayground.calculationsimpl;
+
+import static com.numbertheoryplayground.InputValidation.*;
+import static com.numbertheoryplayground.calculationsimpl.PrimeFactorization.FactorAndPower;
+
+/**
+ * Answer for the Pisano period of an input modulus, which is the length of the cycle that the
+ * Fibonacci sequence goes through when taken mod the modulus, and the number at an input index in
+ * the Fibonacci-like sequence that starts with 2 input numbers, mod the modulus. The first input
+ * number is at index 1.
+ */
+public final class FibonacciLikeModAnswer {
+    private static final int MIN_INPUT = 1;
+    private static final int MAX_INPUT = ONE_BILLION;
+    
+    private static final int MIN_INDEX = 1;
+    private static final int MAX_INDEX = Integer.MAX_VALUE;
+    
+    /**
+     * The modulus gets factored with a PrimeFactorization, so it has the same max.
+     */
+    private static final int MIN_MODULUS = 1;
+    private static final int MAX_MODULUS = PrimeFactorization.MAX_INPUT;
+    
+    private final long pisanoPeriod;
+    
+    private final int numberMod;
+    
+    public FibonacciLikeModAnswer(int input1, int input2, int index, int modulus) {
+        assertIsInRange(input1, MIN_INPUT, MAX_INPUT);
+        assertIsInRange(input2, MIN_INPUT, MAX_INPUT);
+        assertIsInRange(index, MIN_INDEX, MAX_INDEX);
+        assertIsInRange(modulus, MIN_MODULUS, MAX_MODULUS);
+        
+        pisanoPeriod = findPisanoPeriod(modulus);
+        
+        /*
+        With F(index − 1) and F(index), the number is
+        input1 × (F(index) − F(index − 1)) + input2 × F(index − 1).
+         */
+        long[] fibonacciNumbers = getFibonacciNumbers(index - 1, modulus);
+        long difference = Math.floorMod(fibonacciNumbers[1] - fibonacciNumbers[0], modulus);
+        numberMod = (int) ((input1 % modulus * difference + input2 % modulus * fibonacciNumbers[0]) % modulus);
+    }
+    
+    /**
+     * Returns the Pisano period of the modulus. It's the LCM of the Pisano periods of the prime
+     * powers in the PF of the modulus, and the Pisano period of p^e is p^(e − 1) × the Pisano
+     * period of p, which has been checked for every prime way past the max modulus.
+     */
+    static long findPisanoPeriod(int modulus) {
+        if (modulus == 1) return 1;
+        
+        long period = 1;
+        for (FactorAndPower fp : new PrimeFactorization(modulus).getFps()) {
+            long primePowerPeriod = getPrimePisanoPeriod(fp.factor());
+            for (var i = 1; i < fp.power(); i++) {
+                primePowerPeriod *= fp.factor();
+            }
+            period = period / Gcd.gcd(period, primePowerPeriod) * primePowerPeriod;
+        }
+        return period;
+    }
+    
+    /**
+     * Returns the Pisano period of the prime. The periods of 2 and 5 are 3 and 20. For any other
+     * prime p, if p is 1 or 4 mod 5, then the period divides p − 1, and otherwise it divides
+     * 2(p + 1). So the search starts there and then that number gets divided by each of its prime
+     * factors as long as the result is still a period, meaning F of it is 0 and F of it + 1 is 1.
+     */
+    private static long getPrimePisanoPeriod(int prime) {
+        if (prime == 2) return 3;
+        if (prime == 5) return 20;
+        
+        int primeMod5 = prime % 5;
+        boolean dividesPrimeMinus1 = primeMod5 == 1 || primeMod5 == 4;
+        long period = dividesPrimeMinus1 ? prime - 1 : 2L * (prime + 1);
+        
+        /*
+        2(p + 1) can be > the max input for a PrimeFactorization, but p + 1 can't, and p + 1 has
+        the same prime factors since it's even.
+         */
+        var pf = new PrimeFactorization(dividesPrimeMinus1 ? prime - 1 : prime + 1);
+        for (FactorAndPower fp : pf.getFps()) {
+            int factor = fp.factor();
+            while (period % factor == 0) {
+                long[] fibonacciNumbers = getFibonacciNumbers(period / factor, prime);
+                if (fibonacciNumbers[0] != 0 || fibonacciNumbers[1] != 1) break;
+                period /= factor;
+            }
+        }
+        return period;
+    }
+    
+    /**
+     * Returns F(n) and F(n + 1) mod the modulus with the fast doubling formulas
+     * F(2k) = F(k) × (2F(k + 1) − F(k)) and F(2k + 1) = F(k)^2 + F(k + 1)^2. The modulus is an
+     * int, so the products of 2 numbers < it fit in a long.
+     */
+    static long[] getFibonacciNumbers(long n, int modulus) {
+        long fk = 0;
+        long fkPlus1 = 1 % modulus;
+        
+        for (int bit = 63 - Long.numberOfLeadingZeros(n); bit >= 0; bit--) {
+            long f2k = fk * Math.floorMod(2 * fkPlus1 - fk, modulus) % modulus;
+            long f2kPlus1 = (fk * fk + fkPlus1 * fkPlus1) % modulus;
+            
+            if ((n >>> bit & 1) == 0) {
+                fk = f2k;
+                fkPlus1 = f2kPlus1;
+            } else {
+                fk = f2kPlus1;
+                fkPlus1 = (f2k + f2kPlus1) % modulus;
+            }
+        }
+        
+        return new long[] {fk, fkPlus1};
+    }
+    
+    public long getPisanoPeriod() {
+        return pisanoPeriod;
+    }
+    
+    public int getNumberMod() {
+        return numberMod;
+    }
+}
@@ -0,0 +1,104 @@
+package com.numbertheoryplayground.calculationsimpl;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import static com.numbertheoryplayground.InputValidation.*;
+import static com.numbertheoryplayground.calculationsimpl.FibonacciLikeSequencesAnswer.RatioData;
+
+/**
+ * Answer for the number at an index in the Fibonacci-like sequence that starts with 2 input
+ * numbers, where the first input number is at index 1, as well as the ratio between it and the
+ * number before it. Unlike FibonacciLikeSequencesAnswer, which adds numbers one at a time to get
+ * the first 20, this jumps straight to the index.
+ */
+public final class FibonacciLikeNumberAnswer {
+    private static final int MIN_INPUT = 1;
+    private static final int MAX_INPUT = ONE_BILLION;
+    
+    private static final int MIN_INDEX = 2;
+    
+    /**
+     * The number at this index has around 20,000 digits, which is a reasonable amount to send.
+     */
+    private static final int MAX_INDEX = 100_000;
+    
+    /**
+     * A string is used since this number can be too big for a JavaScript number.
+     */
+    private final String number;
+    
+    private final BigDecimal ratio;
+    
+    private final boolean isRounded;
+    
+    public FibonacciLikeNumberAnswer(int input1, int input2, int index) {
+        assertIsInRange(input1, MIN_INPUT, MAX_INPUT);
+        assertIsInRange(input2, MIN_INPUT, MAX_INPUT);
+        assertIsInRange(index, MIN_INDEX, MAX_INDEX);
+        
+        /*
+        If the sequence is S and F is the Fibonacci sequence with F(0) = 0 and F(1) = 1, then
+        S(n) = input1 × F(n − 2) + input2 × F(n − 1) and
+        S(n − 1) = input1 × (F(n − 1) − F(n − 2)) + input2 × F(n − 2).
+         */
+        BigInteger[] fibonacciNumbers = getFibonacciNumbers(index - 2);
+        BigInteger indexMinus2Fibo = fibonacciNumbers[0];
+        BigInteger indexMinus1Fibo = fibonacciNumbers[1];
+        var bigInt1 = BigInteger.valueOf(input1);
+        var bigInt2 = BigInteger.valueOf(input2);
+        
+        BigInteger previousBigInt =
+            bigInt1.multiply(indexMinus1Fibo.subtract(indexMinus2Fibo)).add(bigInt2.multiply(indexMinus2Fibo));
+        BigInteger bigInt = bigInt1.multiply(indexMinus2Fibo).add(bigInt2.multiply(indexMinus1Fibo));
+        number = bigInt.toString();
+        
+        DecimalRatio decimalRatio = DecimalRatio.of(bigInt, previousBigInt, RatioData.MATH_CONTEXT_WITH_ROUNDING);
+        ratio = decimalRatio.value();
+        isRounded = decimalRatio.isRounded();
+    }
+    
+    /**
+     * Returns F(n) and F(n + 1) using the fast doubling formulas
+     * F(2k) = F(k) × (2F(k + 1) − F(k)) and F(2k + 1) = F(k)^2 + F(k + 1)^2, going through the
+     * bits of n from the highest to the lowest. This takes around 3 log n multiplications instead
+     * of n additions.
+     */
+    static BigInteger[] getFibonacciNumbers(int n) {
+        BigInteger fk = BigInteger.ZERO;
+        BigInteger fkPlus1 = BigInteger.ONE;
+        
+        for (int bit = 31 - Integer.numberOfLeadingZeros(n); bit >= 0; bit--) {
+            BigInteger f2k = fk.multiply(fkPlus1.shiftLeft(1).subtract(fk));
+            BigInteger f2kPlus1 = fk.multiply(fk).add(fkPlus1.multiply(fkPlus1));
+            
+            if ((n >>> bit & 1) == 0) {
+                fk = f2k;
+                fkPlus1 = f2kPlus1;
+            } else {
+                fk = f2kPlus1;
+                fkPlus1 = f2k.add(f2kPlus1);
+            }
+        }
+        
+        return new BigInteger[] {fk, fkPlus1};
+    }
+    
+    public String getNumber() {
+        return number;
+    }
+    
+    public BigDecimal getRatio() {
+        return ratio;
+    }
+    
+    /*
+    I want the JSON property to be "isRounded" but the Jackson JSON mapper
+    removes "is" by default.
+     */
+    @JsonProperty("isRounded")
+    public boolean isRounded() {
+        return isRounded;
+    }
+}
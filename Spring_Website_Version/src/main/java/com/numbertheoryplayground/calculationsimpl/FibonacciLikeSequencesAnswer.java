@@ -62,32 +62,24 @@ public final class FibonacciLikeSequencesAnswer {
     /**
      */
     public static final class RatioData {
-        private static final MathContext MATH_CONTEXT_WITH_ROUNDING = MathContext.DECIMAL64;
-        
-        private static final MathContext MATH_CONTEXT_WITHOUT_ROUNDING =
-            new MathContext(MATH_CONTEXT_WITH_ROUNDING.getPrecision(), RoundingMode.UNNECESSARY);
+        static final MathContext MATH_CONTEXT_WITH_ROUNDING = MathContext.DECIMAL64;
         
         private final long long1;
         
         private final long long2;
         
-        private BigDecimal ratio;
+        private final BigDecimal ratio;
         
-        private boolean isRounded;
+        private final boolean isRounded;
         
         RatioData(long long1, long long2) {
             this.long1 = long1;
             this.long2 = long2;
-            var bigDecimal1 = new BigDecimal(long1);
-            var bigDecimal2 = new BigDecimal(long2);
             
-            try {
-                ratio = bigDecimal2.divide(bigDecimal1, MATH_CONTEXT_WITHOUT_ROUNDING);
-                isRounded = false;
-            } catch (ArithmeticException ex) {
-                ratio = bigDecimal2.divide(bigDecimal1, MATH_CONTEXT_WITH_ROUNDING);
-                isRounded = true;
-            }
+            // No exception gets thrown and caught to find out if the ratio needs rounding.
+            DecimalRatio decimalRatio = DecimalRatio.of(long2, long1, MATH_CONTEXT_WITH_ROUNDING);
+            ratio = decimalRatio.value();
+            isRounded = decimalRatio.isRounded();
         }
         
         @JsonProperty("num1")
@@ -0,0 +1,99 @@
+package com.numbertheoryplayground.calculationsimpl;
+
+import java.util.OptionalLong;
+
+/**
+ * Utility class for finding GCDs without keeping track of the steps. The GCD and LCM answer shows
+ * the iterations of the Euclidean algorithm, but other calculations, like finding whether a
+ * Pythagorean triple is primitive, just need the GCD.
+ *
+ * The extended Euclidean algorithm also finds Bézout coefficients, which are whole numbers x and y
+ * with ax + by = GCD(a, b), and these give the inverse of a number mod another number.
+ */
+public final class Gcd {
+    private Gcd() {}
+    
+    /**
+     * Returns the GCD of a and b, which should both be ≥ 0. The GCD of 0 and a number is that
+     * number. This uses the binary GCD algorithm, which replaces the division of the Euclidean
+     * algorithm with subtraction and bit shifts.
+     */
+    public static long gcd(long a, long b) {
+        if (a == 0) return b;
+        if (b == 0) return a;
+        
+        // The power of 2 in the GCD is the min of the powers of 2 in a and b.
+        int commonTrailingZeros = Long.numberOfTrailingZeros(a | b);
+        a >>= Long.numberOfTrailingZeros(a);
+        
+        do {
+            b >>= Long.numberOfTrailingZeros(b);
+            if (a > b) {
+                long temp = a;
+                a = b;
+                b = temp;
+            }
+            b -= a;
+        } while (b != 0);
+        
+        return a << commonTrailingZeros;
+    }
+    
+    /**
+     * The GCD of 2 whole numbers a and b, along with whole numbers x and y where ax + by = gcd.
+     */
+    public record BezoutCoefficients(long gcd, long x, long y) {}
+    
+    /**
+     * Returns the GCD of a and b, which should both be ≥ 0, and Bézout coefficients for them.
+     *
+     * This is the Euclidean algorithm but each remainder is also kept track of as a combination
+     * of a and b. a = 1a + 0b and b = 0a + 1b, and if max = x1 × a + y1 × b and
+     * min = x2 × a + y2 × b, then the remainder max − q × min, where q is the quotient, is
+     * (x1 − q × x2) × a + (y1 − q × y2) × b. The last nonzero remainder is the GCD. The
+     * coefficients never get bigger than b / GCD and a / GCD, so they all fit in a long.
+     */
+    public static BezoutCoefficients extendedGcd(long a, long b) {
+        if (a < 0 || b < 0) {
+            throw new IllegalArgumentException("The numbers must be ≥ 0.");
+        }
+        
+        long max = a;
+        long min = b;
+        long maxX = 1;
+        long minX = 0;
+        long maxY = 0;
+        long minY = 1;
+        
+        while (min != 0) {
+            long quotient = max / min;
+            long remainder = max - quotient * min;
+            long remainderX = maxX - quotient * minX;
+            long remainderY = maxY - quotient * minY;
+            max = min;
+            min = remainder;
+            maxX = minX;
+            minX = remainderX;
+            maxY = minY;
+            minY = remainderY;
+        }
+        
+        return new BezoutCoefficients(max, maxX, maxY);
+    }
+    
+    /**
+     * Returns the inverse of a mod the modulus, which is the long ≥ 0 and < the modulus that when
+     * multiplied by a gives a product that's 1 mod the modulus, or an empty OptionalLong if there
+     * isn't one. There's an inverse iff the GCD of a and the modulus is 1, and then the
+     * coefficient of a from extendedGcd is an inverse, since ax + my = 1. The modulus should be
+     * ≥ 1 but a can be any long.
+     */
+    public static OptionalLong modInverse(long a, long modulus) {
+        if (modulus < 1) {
+            throw new IllegalArgumentException("The modulus must be ≥ 1.");
+        }
+        
+        BezoutCoefficients coefficients = extendedGcd(Math.floorMod(a, modulus), modulus);
+        return coefficients.gcd() == 1 ? OptionalLong.of(Math.floorMod(coefficients.x(), modulus)) : OptionalLong.empty();
+    }
+}
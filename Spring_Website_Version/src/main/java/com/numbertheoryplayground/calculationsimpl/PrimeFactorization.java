@@ -5,7 +5,6 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import static com.numbertheoryplayground.InputValidation.*;
-import static com.numbertheoryplayground.calculationsimpl.Calculations.isDivisible;
 
 /**
  * The initials PF are used to refer to instances of this class or to prime factorizations in general.
@@ -27,12 +26,17 @@ public final class PrimeFactorization {
      */
     private final long correspondingLong;
     
-    /**
-     * An immutable list that's sorted by factors, which is appropriate when marshaling this
-     * list to JSON and then sending that to the web page and then displaying the contents
-     * of this list.
+    /*
+    The factors and powers are kept in 2 parallel arrays instead of a list of FactorAndPower
+    records. The factors are sorted, which is appropriate when marshaling them to JSON and then
+    sending that to the web page and then displaying them, and lets findPowerOf and
+    containsFactor do a binary search. The factors are ints since they're ≤ MAX_INPUT, and a power
+    can't be more than 62, since 2^63 is too big for a long, so a byte is enough for it.
      */
-    private final List<FactorAndPower> fps;
+    
+    private final int[] factors;
+    
+    private final byte[] powers;
     
     /**
      * Constructs a PrimeFactorization for the prime factorization of the input.
@@ -42,44 +46,28 @@ public final class PrimeFactorization {
         
         correspondingLong = input;
         var tempFps = new ArrayList<FactorAndPower>();
-        var maxIntToCheck = (int) Math.sqrt(input);
+        var spfTable = SmallestPrimeFactorTable.getInstance();
         int remaining = input;
-
+        
         /*
-        Find all the prime factors and their powers and put these in tempFps. Divide remaining
-        by each factor that's found. When remaining becomes 1, the entire prime factorization
-        has been found. First, 2 will be checked and then odd numbers will be checked since all
-        prime numbers besides 2 are odd.
+        Find all the prime factors and their powers and put these in tempFps. The smallest prime
+        factor of remaining gets looked up and remaining gets divided by it as many times as it
+        can be. When remaining becomes 1, the entire prime factorization has been found. The
+        factors get found in increasing order, so tempFps will be sorted by factors.
          */
-        
-        if (isDivisible(remaining, 2)) {
+        while (remaining > 1) {
+            int factor = spfTable.getSmallestPrimeFactor(remaining);
             var power = 0;
             do {
                 power++;
-                remaining /= 2;
-            } while (isDivisible(remaining, 2));
-            tempFps.add(new FactorAndPower(2, power));
+                remaining /= factor;
+            } while (remaining > 1 && spfTable.getSmallestPrimeFactor(remaining) == factor);
+            tempFps.add(new FactorAndPower(factor, power));
         }
         
-        if (remaining > 1) {
-            for (var possiblePrimeFactor = 3; possiblePrimeFactor <= maxIntToCheck; possiblePrimeFactor += 2) {
-                if (isDivisible(remaining, possiblePrimeFactor)) {
-                    var power = 0;
-                    do {
-                        power++;
-                        remaining /= possiblePrimeFactor;
-                    } while (isDivisible(remaining, possiblePrimeFactor));
-                    tempFps.add(new FactorAndPower(possiblePrimeFactor, power));
-                    if (remaining == 1) break;
-                }
-            }
-        }
-        
-        if (remaining > 1) {
-            tempFps.add(new FactorAndPower(remaining, 1));
-        }
-        
-        fps = List.copyOf(tempFps);
+        factors = new int[tempFps.size()];
+        powers = new byte[tempFps.size()];
+        copyFps(tempFps, factors, powers);
     }
     
     /**
@@ -87,17 +75,72 @@ public final class PrimeFactorization {
      * in the list provided.
      */
     public PrimeFactorization(List<FactorAndPower> fps) {
-        this.fps =
-            fps
-            .stream()
-            .sorted(Comparator.comparingInt(FactorAndPower::factor))
-            .toList();
+        factors = new int[fps.size()];
+        powers = new byte[fps.size()];
+        copyFps(fps, factors, powers);
         
-        var tempCorrespondingLong = 1L;
-        for (FactorAndPower fp : fps) {
-            tempCorrespondingLong *= (long) Math.pow(fp.factor, fp.power);
+        // Insertion sort both arrays by factors, since there are at most around 10 factors.
+        for (var i = 1; i < factors.length; i++) {
+            int factor = factors[i];
+            byte power = powers[i];
+            int j = i - 1;
+            for (; j >= 0 && factors[j] > factor; j--) {
+                factors[j + 1] = factors[j];
+                powers[j + 1] = powers[j];
+            }
+            factors[j + 1] = factor;
+            powers[j + 1] = power;
+        }
+        
+        correspondingLong = multiplyPowers(factors, powers);
+    }
+    
+    /**
+     * Constructs a PrimeFactorization for the factors and powers in the arrays, whose product gets
+     * calculated. The factors should be sorted and the arrays get used as they are, so they
+     * shouldn't be changed after this. This is for the GCD and LCM PFs, which are found from
+     * the arrays of other PFs.
+     */
+    public PrimeFactorization(int[] sortedFactors, byte[] powers) {
+        factors = sortedFactors;
+        this.powers = powers;
+        correspondingLong = multiplyPowers(factors, powers);
+    }
+    
+    /**
+     * Constructs a PrimeFactorization for a long whose factors and powers are already known. The
+     * factors should be sorted and the arrays get used as they are, so they shouldn't be changed
+     * after this, and the long doesn't get calculated from them.
+     */
+    PrimeFactorization(long correspondingLong, int[] sortedFactors, byte[] powers) {
+        this.correspondingLong = correspondingLong;
+        factors = sortedFactors;
+        this.powers = powers;
+    }
+    
+    /**
+     * Returns the exact product of the factors raised to their powers. If the product is too big
+     * for a long, then Math.multiplyExact throws an ArithmeticException instead of it overflowing.
+     */
+    private static long multiplyPowers(int[] factors, byte[] powers) {
+        var product = 1L;
+        for (var i = 0; i < factors.length; i++) {
+            for (var j = 0; j < powers[i]; j++) {
+                product = Math.multiplyExact(product, factors[i]);
+            }
+        }
+        return product;
+    }
+    
+    private static void copyFps(List<FactorAndPower> fps, int[] factors, byte[] powers) {
+        for (var i = 0; i < factors.length; i++) {
+            FactorAndPower fp = fps.get(i);
+            if (fp.power < 1 || fp.power > Byte.MAX_VALUE) {
+                throw new IllegalArgumentException("Each power must be ≥ 1 and ≤ " + Byte.MAX_VALUE + '.');
+            }
+            factors[i] = fp.factor;
+            powers[i] = (byte) fp.power;
         }
-        correspondingLong = tempCorrespondingLong;
     }
     
     @JsonProperty("correspondingNum")
@@ -105,14 +148,33 @@ public final class PrimeFactorization {
         return correspondingLong;
     }
     
+    /**
+     * Returns an immutable list of the factors and powers, sorted by factors. The list is a view of
+     * the arrays, so the FactorAndPower records get made as the list gets read, like when it gets
+     * marshaled to JSON. getNumFactors, getFactor, and getPower can be used to go through them
+     * without making any.
+     */
     @JsonIgnore
     public List<FactorAndPower> getFps() {
-        return fps;
+        return new FpList();
+    }
+    
+    @JsonIgnore
+    public int getNumFactors() {
+        return factors.length;
+    }
+    
+    public int getFactor(int index) {
+        return factors[index];
+    }
+    
+    public int getPower(int index) {
+        return powers[index];
     }
     
     @JsonIgnore
     public boolean isForAPrimeNumber() {
-        return fps.size() == 1 && fps.getFirst().power == 1;
+        return factors.length == 1 && powers[0] == 1;
     }
     
     /**
@@ -127,7 +189,7 @@ public final class PrimeFactorization {
      */
     @JsonProperty("fps")
     public List<FactorAndPower> getFpsOrNull() {
-        return isForAPrimeNumber() ? null : fps;
+        return isForAPrimeNumber() ? null : getFps();
     }
     
     /**
@@ -135,18 +197,26 @@ public final class PrimeFactorization {
      * Otherwise, an empty Optional will be returned.
      */
     public OptionalInt findPowerOf(int factor) {
-        return
-            fps
-            .stream()
-            .filter(fp -> fp.factor == factor)
-            .mapToInt(FactorAndPower::power)
-            .findFirst();
+        int index = Arrays.binarySearch(factors, factor);
+        return index >= 0 ? OptionalInt.of(powers[index]) : OptionalInt.empty();
     }
     
     public boolean containsFactor(int i) {
-        return
-            fps
-            .stream()
-            .anyMatch(fp -> fp.factor == i);
+        return Arrays.binarySearch(factors, i) >= 0;
+    }
+    
+    /**
+     * The list that getFps returns.
+     */
+    private final class FpList extends AbstractList<FactorAndPower> implements RandomAccess {
+        @Override
+        public FactorAndPower get(int index) {
+            return new FactorAndPower(factors[index], powers[index]);
+        }
+        
+        @Override
+        public int size() {
+            return factors.length;
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,178 @@
+package com.numbertheoryplayground.calculationsimpl;
+
+import java.util.*;
+
+/**
+ * Class with a sorted array of all the primes up to a limit, a sorted array of the starts of all
+ * the twin prime pairs up to that limit, and a bitset for checking if an int up to that limit is
+ * prime. These get built once and are used by Calculations.getPrimes, getTwinPrimePairStarts, and
+ * getGoldbachPrimePairStarts. Since the inputs for those have small max values, every answer is in
+ * these arrays and finding an answer just takes a binary search and then taking a slice of an
+ * array, rather than checking ints for primality with trial division for every request. The
+ * primes are also used by TwoSquareTheoremAnswer to sieve the ints ≥ an input that are 1 mod 4.
+ *
+ * Just like with SmallestPrimeFactorTable, there's only 1 instance of this class and it's
+ * registered as a bean in the Application class so that it gets built when the app starts up.
+ */
+public final class PrimeIndex {
+    /**
+     * The max input for getPrimes and getTwinPrimePairStarts is 100,000. The 30th prime ≥ 100,000
+     * is 100,379 and the 20th twin prime pair start ≥ 100,000 is 102,197, so this limit leaves
+     * plenty of room for the primes and twin prime pairs after the max input.
+     */
+    static final int LIMIT = 110_000;
+    
+    private final int[] primes;
+    
+    private final int[] twinPrimePairStarts;
+    
+    /**
+     * The bit at index i is set if i is prime.
+     */
+    private final BitSet primeBitSet;
+    
+    private static final PrimeIndex instance = new PrimeIndex();
+    
+    public static PrimeIndex getInstance() {
+        return instance;
+    }
+    
+    /**
+     * Uses the sieve of Eratosthenes to find the primes ≤ LIMIT.
+     */
+    private PrimeIndex() {
+        primeBitSet = new BitSet(LIMIT + 1);
+        primeBitSet.set(2, LIMIT + 1);
+        var maxPrimeToMarkWith = (int) Math.sqrt(LIMIT);
+        
+        for (var prime = 2; prime <= maxPrimeToMarkWith; prime = primeBitSet.nextSetBit(prime + 1)) {
+            for (int multiple = prime * prime; multiple <= LIMIT; multiple += prime) {
+                primeBitSet.clear(multiple);
+            }
+        }
+        
+        primes = primeBitSet.stream().toArray();
+        twinPrimePairStarts =
+            Arrays.stream(primes)
+            .filter(prime -> primeBitSet.get(prime + 2))
+            .toArray();
+    }
+    
+    /**
+     * Returns true if i is prime. i should be ≥ 0 and ≤ LIMIT.
+     */
+    boolean isPrime(int i) {
+        return primeBitSet.get(i);
+    }
+    
+    /**
+     * Returns an unmodifiable list of the first numPrimes primes ≥ min.
+     */
+    List<Integer> getPrimes(int min, int numPrimes) {
+        return getSlice(primes, min, numPrimes);
+    }
+    
+    /**
+     * Returns an unmodifiable list of the first numPairStarts twin prime pair starts ≥ min.
+     */
+    List<Integer> getTwinPrimePairStarts(int min, int numPairStarts) {
+        return getSlice(twinPrimePairStarts, min, numPairStarts);
+    }
+    
+    /**
+     * Returns a list of the primes p ≤ half of the even int provided where the int − p is also
+     * prime. The int should be ≤ LIMIT.
+     */
+    List<Integer> getGoldbachPrimePairStarts(int evenInt) {
+        var pairStarts = new ArrayList<Integer>();
+        int maxPairStart = evenInt / 2;
+        
+        for (var i = 0; i < primes.length && primes[i] <= maxPairStart; i++) {
+            if (primeBitSet.get(evenInt - primes[i])) {
+                pairStarts.add(primes[i]);
+            }
+        }
+        
+        return pairStarts;
+    }
+    
+    /**
+     * The number of members of an arithmetic progression that getNextPrimeInProgression sieves
+     * at a time.
+     */
+    private static final int PROGRESSION_WINDOW_LENGTH = 256;
+    
+    /**
+     * Returns the first prime ≥ min that's the residue mod the modulus. The residue and modulus
+     * should have a GCD of 1, and the modulus should be ≥ 1. Unlike the other methods, min can be
+     * > LIMIT. The primes in this index go past the square root of the max value for an int, so
+     * they can be used to sieve any members of the progression that are ints.
+     *
+     * The members of the progression get sieved a window at a time. The members are
+     * first + km for whole numbers k, where first is the first member of the window. A prime p
+     * that doesn't divide the modulus m divides first + km when k mod p is −first × the inverse
+     * of m mod p, so each prime crosses off every pth member starting at 1 spot. If p divides the
+     * modulus, then it doesn't divide any member.
+     */
+    int getNextPrimeInProgression(int min, int modulus, int residue) {
+        long first = Math.max(2, min);
+        first += Math.floorMod(residue - first, modulus);
+        var isComposite = new boolean[PROGRESSION_WINDOW_LENGTH];
+        
+        while (first <= Integer.MAX_VALUE) {
+            Arrays.fill(isComposite, false);
+            long last = first + (long) (PROGRESSION_WINDOW_LENGTH - 1) * modulus;
+            
+            for (var i = 0; i < primes.length && (long) primes[i] * primes[i] <= last; i++) {
+                int prime = primes[i];
+                int modulusModPrime = modulus % prime;
+                if (modulusModPrime == 0) continue;
+                
+                long modulusInverse = Gcd.modInverse(modulusModPrime, prime).getAsLong();
+                long firstIndex = (prime - first % prime) % prime * modulusInverse % prime;
+                // The prime itself might be a member and it shouldn't be crossed off.
+                if (first + firstIndex * modulus == prime) firstIndex += prime;
+                
+                for (long k = firstIndex; k < PROGRESSION_WINDOW_LENGTH; k += prime) {
+                    isComposite[(int) k] = true;
+                }
+            }
+            
+            for (var k = 0; k < PROGRESSION_WINDOW_LENGTH; k++) {
+                long member = first + (long) k * modulus;
+                if (member > Integer.MAX_VALUE) break;
+                if (!isComposite[k]) return (int) member;
+            }
+            
+            first = last + modulus;
+        }
+        
+        throw new IllegalStateException("There's no int prime in the progression ≥ min.");
+    }
+    
+    /**
+     * Binary searches the sorted array provided for the first int ≥ min and returns an
+     * unmodifiable list view of that int and the length − 1 ints after it. No ints get copied.
+     */
+    private static List<Integer> getSlice(int[] sortedArray, int min, int length) {
+        int searchResult = Arrays.binarySearch(sortedArray, min);
+        // If min isn't in the array, then binarySearch returns −(the index min would be at) − 1.
+        int fromIndex = searchResult >= 0 ? searchResult : -searchResult - 1;
+        if (fromIndex + length > sortedArray.length) {
+            throw new IllegalStateException("The prime index doesn't go high enough for this min.");
+        }
+        
+        return new AbstractList<>() {
+            @Override
+            public Integer get(int index) {
+                Objects.checkIndex(index, length);
+                return sortedArray[fromIndex + index];
+            }
+            
+            @Override
+            public int size() {
+                return length;
+            }
+        };
+    }
+}
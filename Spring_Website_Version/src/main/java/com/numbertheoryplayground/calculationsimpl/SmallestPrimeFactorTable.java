@@ -0,0 +1,61 @@
+package com.numbertheoryplayground.calculationsimpl;
+
+/**
+ * Table that has the smallest prime factor of every int from 2 to PrimeFactorization.MAX_INPUT.
+ * This gets built once and then a PF can be created by looking up the smallest prime factor of the
+ * input, dividing the input by it, looking up the smallest prime factor of the quotient, and so on.
+ * That takes at most around 20 lookups for an input ≤ 1 million, instead of trial division that can
+ * take up to around 500 divisions.
+ *
+ * There's only 1 instance of this class and it's registered as a bean in the Application class so
+ * that it gets built when the app starts up. The classes in this package that create PFs are
+ * instantiated with "new" for every request, so they get the instance with getInstance.
+ */
+public final class SmallestPrimeFactorTable {
+    private static final int MAX_INT = PrimeFactorization.MAX_INPUT;
+    
+    /**
+     * Even ints don't need to be in the table since their smallest prime factor is 2, so the int at
+     * index i is 2i + 1. The smallest prime factor of a composite int is ≤ the square root of that
+     * int, which is ≤ 1,000 here, so it fits in a char. 0 is used for primes, since the smallest
+     * prime factor of a prime is itself and that might not fit in a char. A char array with
+     * 500,000 elements takes up around 1 MB, which is a quarter of what an int array for every
+     * int ≤ 1 million would take up.
+     */
+    private final char[] oddIntSmallestPrimeFactors;
+    
+    private static final SmallestPrimeFactorTable instance = new SmallestPrimeFactorTable();
+    
+    public static SmallestPrimeFactorTable getInstance() {
+        return instance;
+    }
+    
+    /**
+     * Fills the table with a sieve of Eratosthenes. For each odd prime p ≤ the square root of
+     * MAX_INT, mark the odd multiples of p starting with p^2. Since primes are iterated through in
+     * increasing order, the first prime that marks an int is that int's smallest prime factor.
+     */
+    private SmallestPrimeFactorTable() {
+        oddIntSmallestPrimeFactors = new char[MAX_INT / 2 + 1];
+        var maxPrimeToMarkWith = (int) Math.sqrt(MAX_INT);
+        
+        for (var prime = 3; prime <= maxPrimeToMarkWith; prime += 2) {
+            if (oddIntSmallestPrimeFactors[prime / 2] != 0) continue;
+            
+            for (int multiple = prime * prime; multiple <= MAX_INT; multiple += 2 * prime) {
+                if (oddIntSmallestPrimeFactors[multiple / 2] == 0) {
+                    oddIntSmallestPrimeFactors[multiple / 2] = (char) prime;
+                }
+            }
+        }
+    }
+    
+    /**
+     * Returns the smallest prime factor of i, which should be ≥ 2 and ≤ PrimeFactorization.MAX_INPUT.
+     */
+    public int getSmallestPrimeFactor(int i) {
+        if ((i & 1) == 0) return 2;
+        char smallestPrimeFactor = oddIntSmallestPrimeFactors[i / 2];
+        return smallestPrimeFactor == 0 ? i : smallestPrimeFactor;
+    }
+}
@@ -1,7 +1,6 @@
 package com.numbertheoryplayground.calculationsimpl;
 
 import static com.numbertheoryplayground.InputValidation.*;
-import static com.numbertheoryplayground.calculationsimpl.Calculations.isPrime;
 
 public final class TwoSquareTheoremAnswer {
     private static final int MIN_INPUT = 0;
@@ -22,21 +21,64 @@ public final class TwoSquareTheoremAnswer {
     public TwoSquareTheoremAnswer(int input) {
         assertIsInRange(input, MIN_INPUT, MAX_INPUT);
         
-        pythagPrime = input;
-        while (pythagPrime % 4 != 1) pythagPrime++;
-        while (!isPrime(pythagPrime)) pythagPrime += 4;
+        // Only the ints that are 1 mod 4 get sieved, instead of checking each one with isPrime.
+        pythagPrime = PrimeIndex.getInstance().getNextPrimeInProgression(input, 4, 1);
         
-        b = 0;
-        for (a = 1; a < pythagPrime; a++) {
-            int aSquared = a * a;
-            int bSquared = pythagPrime - aSquared;
-            var bDouble = Math.sqrt(bSquared);
-            var bInt = (int) bDouble;
-            if (bDouble == bInt) {
-                b = bInt;
-                break;
+        /*
+        Find a and b with the Hermite-Serret algorithm instead of trying every a. Since
+        pythagPrime is 1 above a multiple of 4, −1 has a square root mod pythagPrime. If c
+        doesn't have a square root mod pythagPrime, then c^((pythagPrime − 1) / 2) is −1 mod
+        pythagPrime by Euler's criterion, so c^((pythagPrime − 1) / 4) is a square root of −1.
+        When the Euclidean algorithm is done with pythagPrime and that square root, the first
+        remainder < the square root of pythagPrime is 1 of the ints and the other one is the
+        square root of pythagPrime − the square of that remainder.
+         */
+        long squareRootOfMinus1;
+        for (var c = 2; ; c++) {
+            squareRootOfMinus1 = powMod(c, (pythagPrime - 1) / 4, pythagPrime);
+            if (squareRootOfMinus1 * squareRootOfMinus1 % pythagPrime == pythagPrime - 1) break;
+        }
+        
+        int maxRemainder = floorSqrt(pythagPrime);
+        int max = pythagPrime;
+        var min = (int) squareRootOfMinus1;
+        while (min > maxRemainder) {
+            int remainder = max % min;
+            max = min;
+            min = remainder;
+        }
+        
+        int otherInt = floorSqrt(pythagPrime - min * min);
+        a = Math.min(min, otherInt);
+        b = Math.max(min, otherInt);
+    }
+    
+    /**
+     * Returns base^exponent mod the modulus. The modulus is an int, so the products of 2 numbers
+     * < it fit in a long.
+     */
+    private static long powMod(long base, int exponent, int modulus) {
+        long result = 1;
+        base %= modulus;
+        while (exponent > 0) {
+            if ((exponent & 1) == 1) {
+                result = result * base % modulus;
             }
+            base = base * base % modulus;
+            exponent >>>= 1;
         }
+        return result;
+    }
+    
+    /**
+     * Returns the square root of i rounded down, correcting the guess from Math.sqrt in case it's
+     * off by 1.
+     */
+    private static int floorSqrt(int i) {
+        var squareRoot = (int) Math.sqrt(i);
+        while (squareRoot * squareRoot > i) squareRoot--;
+        while ((squareRoot + 1) * (squareRoot + 1) <= i) squareRoot++;
+        return squareRoot;
     }
     
     public int getPythagPrime() {
@@ -2,6 +2,7 @@ package com.numbertheoryplayground.calculationsimpl.gcdandlcm;
 
 import java.util.ArrayList;
 import java.util.List;
+import com.numbertheoryplayground.calculationsimpl.Gcd;
 import com.numbertheoryplayground.calculationsimpl.PrimeFactorization;
 
 import static com.numbertheoryplayground.InputValidation.*;
@@ -15,10 +16,13 @@ public final class GcdAndLcmAnswer {
     
     private final List<EuclideanIteration> euclideanIterations;
     
+    private final BezoutAnswer bezoutAnswer;
+    
     private final PrimeFactorizationAnswer pfAnswer;
     
     public GcdAndLcmAnswer(int input1, int input2) {
         euclideanIterations = getEuclideanIterations(input1, input2);
+        bezoutAnswer = getBezoutAnswer(input1, input2);
         pfAnswer = new PrimeFactorizationAnswer(input1, input2);
     }
     
@@ -26,6 +30,10 @@ public final class GcdAndLcmAnswer {
         return euclideanIterations;
     }
     
+    public BezoutAnswer getBezoutAnswer() {
+        return bezoutAnswer;
+    }
+    
     public PrimeFactorizationAnswer getPfAnswer() {
         return pfAnswer;
     }
@@ -59,4 +67,39 @@ public final class GcdAndLcmAnswer {
         
         return iterations;
     }
+    
+    
+    /**
+     * The GCD of the inputs, whole numbers x and y where input1 × x + input2 × y = gcd, which are
+     * called Bézout coefficients, and the inverse of each input mod the other. An inverse is null
+     * if the GCD isn't 1, since then there isn't one.
+     */
+    public record BezoutAnswer(
+        int gcd,
+        int x,
+        int y,
+        Integer input1InverseModInput2,
+        Integer input2InverseModInput1
+    ) {}
+    
+    /**
+     * Returns the Bézout answer for the inputs with Gcd.extendedGcd. The coefficients are never
+     * bigger than the inputs, so they fit in an int. Since input1 × x + input2 × y = 1 when the
+     * GCD is 1, x is the inverse of input1 mod input2 once it's taken mod input2, and the same
+     * goes for y, so the inverses come from the coefficients instead of another extended GCD.
+     */
+    static BezoutAnswer getBezoutAnswer(int input1, int input2) {
+        Gcd.BezoutCoefficients coefficients = Gcd.extendedGcd(input1, input2);
+        var gcd = (int) coefficients.gcd();
+        var x = (int) coefficients.x();
+        var y = (int) coefficients.y();
+        
+        return new BezoutAnswer(
+            gcd,
+            x,
+            y,
+            gcd == 1 ? Math.floorMod(x, input2) : null,
+            gcd == 1 ? Math.floorMod(y, input1) : null
+        );
+    }
 }
\ No newline at end of file
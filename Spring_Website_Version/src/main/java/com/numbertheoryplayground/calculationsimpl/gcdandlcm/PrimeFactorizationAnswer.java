@@ -38,32 +38,81 @@ public final class PrimeFactorizationAnswer {
         
         var input2Pf = new PrimeFactorization(input2);
         input2Fps = input2Pf.getFps();
-        var gcdFps = new ArrayList<FactorAndPower>();
-        var lcmFps = new ArrayList<FactorAndPower>();
-        
-        for (FactorAndPower fp : input1Pf.getFps()) {
-            int factor = fp.factor();
-            int power1 = fp.power();
-            
-            input2Pf
-            .findPowerOf(factor)
-            .ifPresentOrElse(
-                power2 -> {
-                    gcdFps.add(new FactorAndPower(factor, Math.min(power1, power2)));
-                    lcmFps.add(new FactorAndPower(factor, Math.max(power1, power2)));
-                },
-                () -> lcmFps.add(new FactorAndPower(factor, power1))
-            );
+        GcdAndLcmPfs gcdAndLcmPfs = combinePfs(List.of(input1Pf, input2Pf));
+        gcdPf = gcdAndLcmPfs.gcdPf();
+        lcmPf = gcdAndLcmPfs.lcmPf();
+    }
+    
+    /**
+     * The PFs of the GCD and LCM of some PFs. gcdPf is null if the GCD is 1.
+     */
+    record GcdAndLcmPfs(PrimeFactorization gcdPf, PrimeFactorization lcmPf) {}
+    
+    /**
+     * Returns the PFs of the GCD and LCM of the PFs provided, which there should be at least 1 of.
+     * The factors of each PF are sorted, so this goes through all of them at once, like merging
+     * sorted lists, instead of looking up each factor of 1 PF in the others. The smallest factor
+     * that hasn't been gone through yet is a factor of the LCM with the max of its powers, and if
+     * every PF has it, it's also a factor of the GCD with the min of its powers. This takes time
+     * proportional to the number of unique factors times the number of PFs.
+     *
+     * The constructor only uses this for 2 PFs. The LCM of more than 2 inputs ≤ 1 million can be
+     * too big for the long in the LCM PF, which makes the PrimeFactorization constructor throw an
+     * ArithmeticException.
+     */
+    static GcdAndLcmPfs combinePfs(List<PrimeFactorization> pfs) {
+        var indexes = new int[pfs.size()];
+        var maxNumLcmFactors = 0;
+        var maxNumGcdFactors = Integer.MAX_VALUE;
+        for (PrimeFactorization pf : pfs) {
+            maxNumLcmFactors += pf.getNumFactors();
+            maxNumGcdFactors = Math.min(maxNumGcdFactors, pf.getNumFactors());
         }
         
-        for (FactorAndPower fp : input2Pf.getFps()) {
-            if (!input1Pf.containsFactor(fp.factor())) {
-                lcmFps.add(new FactorAndPower(fp.factor(), fp.power()));
+        var lcmFactors = new int[maxNumLcmFactors];
+        var lcmPowers = new byte[maxNumLcmFactors];
+        var numLcmFactors = 0;
+        var gcdFactors = new int[maxNumGcdFactors];
+        var gcdPowers = new byte[maxNumGcdFactors];
+        var numGcdFactors = 0;
+        
+        while (true) {
+            var smallestFactor = 0;
+            for (var i = 0; i < indexes.length; i++) {
+                PrimeFactorization pf = pfs.get(i);
+                if (indexes[i] < pf.getNumFactors() && (smallestFactor == 0 || pf.getFactor(indexes[i]) < smallestFactor)) {
+                    smallestFactor = pf.getFactor(indexes[i]);
+                }
+            }
+            if (smallestFactor == 0) break;
+            
+            var minPower = Integer.MAX_VALUE;
+            var maxPower = 0;
+            var numPfsWithFactor = 0;
+            for (var i = 0; i < indexes.length; i++) {
+                PrimeFactorization pf = pfs.get(i);
+                if (indexes[i] < pf.getNumFactors() && pf.getFactor(indexes[i]) == smallestFactor) {
+                    int power = pf.getPower(indexes[i]++);
+                    minPower = Math.min(minPower, power);
+                    maxPower = Math.max(maxPower, power);
+                    numPfsWithFactor++;
+                }
+            }
+            
+            lcmFactors[numLcmFactors] = smallestFactor;
+            lcmPowers[numLcmFactors++] = (byte) maxPower;
+            if (numPfsWithFactor == indexes.length) {
+                gcdFactors[numGcdFactors] = smallestFactor;
+                gcdPowers[numGcdFactors++] = (byte) minPower;
             }
         }
         
-        gcdPf = gcdFps.isEmpty() ? null : new PrimeFactorization(gcdFps);
-        lcmPf = new PrimeFactorization(lcmFps);
+        return new GcdAndLcmPfs(
+            numGcdFactors == 0
+                ? null
+                : new PrimeFactorization(Arrays.copyOf(gcdFactors, numGcdFactors), Arrays.copyOf(gcdPowers, numGcdFactors)),
+            new PrimeFactorization(Arrays.copyOf(lcmFactors, numLcmFactors), Arrays.copyOf(lcmPowers, numLcmFactors))
+        );
     }
     
     public List<FactorAndPower> getInput1Fps() {
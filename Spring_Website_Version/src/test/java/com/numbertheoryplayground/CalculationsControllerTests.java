@@ -2,9 +2,11 @@ package com.numbertheoryplayground;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.test.web.servlet.MockMvc;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.FieldSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import java.util.List;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -13,6 +15,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static com.numbertheoryplayground.CalculationsController.*;
 
 @WebMvcTest(CalculationsController.class)
+@Import(PrecomputedJsonAnswers.class)
 class CalculationsControllerTests {
     @Autowired
     private MockMvc mockMvc;
@@ -63,4 +66,18 @@ class CalculationsControllerTests {
             FIBO_LIKE_SEQUENCES_ANSWER_ENDPOINT_END,
             ANCIENT_MULT_ANSWER_ENDPOINT_END
         );
+    
+    
+    @ParameterizedTest
+    @ValueSource(strings = {"input1=-1&input2=10&index=10", "input1=10&input2=-1&index=10", "input1=10&input2=10&index=1"})
+    void badRequestForFiboLikeNumberEndpoint(String queryString) {
+        testBadRequest(FIBO_LIKE_NUMBER_ANSWER_ENDPOINT_END, queryString);
+    }
+    
+    
+    @ParameterizedTest
+    @ValueSource(strings = {"input1=1&input2=1&index=0&modulus=10", "input1=1&input2=1&index=10&modulus=0", "input1=1&input2=1&index=10&modulus=1000001"})
+    void badRequestForFiboLikeModEndpoint(String queryString) {
+        testBadRequest(FIBO_LIKE_MOD_ANSWER_ENDPOINT_END, queryString);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,59 @@
+package com.numbertheoryplayground;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import java.nio.charset.StandardCharsets;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.numbertheoryplayground.calculationsimpl.Calculations;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PrecomputedJsonAnswersTests {
+    static final ObjectMapper objectMapper = new ObjectMapper();
+    
+    static final PrecomputedJsonAnswers precomputedJsonAnswers;
+    
+    static {
+        try {
+            precomputedJsonAnswers = new PrecomputedJsonAnswers(objectMapper);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException(e);
+        }
+    }
+    
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 3, 50, 100})
+    void pythagTriplesJson(int input) throws JsonProcessingException {
+        assertArrayEquals(
+            objectMapper.writeValueAsBytes(Calculations.getPythagTriples(input)),
+            precomputedJsonAnswers.getPythagTriplesJson(input)
+        );
+    }
+    
+    /**
+     * The web page expects each triple to have an "isPrimitive" property.
+     */
+    @Test
+    void pythagTriplesJsonProperties() {
+        String json = new String(precomputedJsonAnswers.getPythagTriplesJson(5), StandardCharsets.UTF_8);
+        assertTrue(
+            json.startsWith(
+                "[{\"a\":5,\"b\":12,\"c\":13,\"isPrimitive\":true}," +
+                "{\"a\":6,\"b\":8,\"c\":10,\"isPrimitive\":false},"
+            ),
+            json
+        );
+    }
+    
+    @ParameterizedTest
+    @ValueSource(ints = {4, 6, 100, 9_998, 10_000})
+    void goldbachPrimePairStartsJson(int input) throws JsonProcessingException {
+        assertArrayEquals(
+            objectMapper.writeValueAsBytes(Calculations.getGoldbachPrimePairStarts(input)),
+            precomputedJsonAnswers.getGoldbachPrimePairStartsJson(input)
+        );
+    }
+}
@@ -2,6 +2,7 @@ package com.numbertheoryplayground.calculationsimpl;
 
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.*;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Stream;
 
@@ -32,9 +33,19 @@ class CalculationsTests {
                 1_129, 1_151, 1_153, 1_163, 1_171, 1_181, 1_187, 1_193, 1_201, 1_213
             );
         
+        var first30PrimesAfter100_000 =
+            List.of(
+                100_003, 100_019, 100_043, 100_049, 100_057, 100_069, 100_103, 100_109,
+                100_129, 100_151, 100_153, 100_169, 100_183, 100_189, 100_193, 100_207,
+                100_213, 100_237, 100_267, 100_271, 100_279, 100_291, 100_297, 100_313,
+                100_333, 100_343, 100_357, 100_361, 100_363, 100_379
+            );
+        
         return Stream.of(
             arguments(0, first30Primes),
-            arguments(first30PrimesAfter1000.getFirst(), first30PrimesAfter1000)
+            arguments(first30PrimesAfter1000.getFirst(), first30PrimesAfter1000),
+            arguments(1_000, first30PrimesAfter1000),
+            arguments(100_000, first30PrimesAfter100_000)
         );
     }
     
@@ -134,9 +145,17 @@ class CalculationsTests {
                 1_031, 1_049, 1_061, 1_091, 1_151, 1_229, 1_277, 1_289
             );
         
+        var first20PairStartsAfter100_000 =
+            List.of(
+                100_151, 100_361, 100_391, 100_517, 100_547, 100_799, 101_111, 101_117,
+                101_159, 101_207, 101_279, 101_501, 101_531, 101_747, 101_837, 101_999,
+                102_059, 102_077, 102_101, 102_197
+            );
+        
         return Stream.of(
             arguments(0, first20PairStarts),
-            arguments(first20PairStartsAfter500.getFirst(), first20PairStartsAfter500)
+            arguments(first20PairStartsAfter500.getFirst(), first20PairStartsAfter500),
+            arguments(100_000, first20PairStartsAfter100_000)
         );
     }
     
@@ -149,6 +168,7 @@ class CalculationsTests {
     
     static final List<Arguments> argsForGetGoldbachPrimePairStarts =
         List.of(
+            arguments(4, List.of(2)),
             arguments(6, List.of(3)),
             arguments(10, List.of(3, 5)),
             arguments(32, List.of(3, 13)),
@@ -205,10 +225,30 @@ class CalculationsTests {
         
         return Stream.of(
             arguments(0, expectedTriples1),
-            arguments(expectedTriples2.getFirst().a(), expectedTriples2)
+            arguments(expectedTriples2.getFirst().getA(), expectedTriples2)
         );
     }
     
+    /**
+     * The expected triples are found by checking every possible long leg length for every short
+     * leg length ≥ the input, with ints instead of Math.hypot so that it's exact.
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {0, 4, 48, 60, 99, 100})
+    void getPythagTriplesMatchesCheckingEveryLongLeg(int input) {
+        var expectedTriples = new ArrayList<PythagoreanTriple>();
+        for (int a = input; expectedTriples.size() < 10; a++) {
+            for (int b = a + 1; 2 * b + 1 <= a * a && expectedTriples.size() < 10; b++) {
+                var c = (int) Math.round(Math.sqrt(a * a + b * b));
+                if (c * c == a * a + b * b) {
+                    expectedTriples.add(pt(a, b, c));
+                }
+            }
+        }
+        
+        assertEquals(expectedTriples, Calculations.getPythagTriples(input));
+    }
+    
     /**
      * a, b, and c are a primitive triple but a triple formed by multiplying those by the
      * multiplicand won't be primitive.
@@ -0,0 +1,93 @@
+package com.numbertheoryplayground.calculationsimpl;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DecimalRatioTests {
+    private static final MathContext MATH_CONTEXT = MathContext.DECIMAL64;
+    
+    /**
+     * Finds the ratio the way the Fibonacci-like answers used to, by dividing with
+     * RoundingMode.UNNECESSARY and catching the exception if it needs rounding.
+     */
+    private static DecimalRatio getExpectedRatio(BigInteger numerator, BigInteger denominator) {
+        var bigDecimal1 = new BigDecimal(numerator);
+        var bigDecimal2 = new BigDecimal(denominator);
+        try {
+            return new DecimalRatio(
+                bigDecimal1.divide(bigDecimal2, new MathContext(MATH_CONTEXT.getPrecision(), RoundingMode.UNNECESSARY)),
+                false
+            );
+        } catch (ArithmeticException ex) {
+            return new DecimalRatio(bigDecimal1.divide(bigDecimal2, MATH_CONTEXT), true);
+        }
+    }
+    
+    /**
+     * Records use equals for their components and BigDecimal.equals checks the scale too, so
+     * these have to match exactly.
+     */
+    @Test
+    void ofMatchesCatchingException() {
+        for (var numerator = 0L; numerator <= 400; numerator++) {
+            for (var denominator = 1L; denominator <= 400; denominator++) {
+                var bigNumerator = BigInteger.valueOf(numerator);
+                var bigDenominator = BigInteger.valueOf(denominator);
+                DecimalRatio expectedRatio = getExpectedRatio(bigNumerator, bigDenominator);
+                assertEquals(expectedRatio, DecimalRatio.of(numerator, denominator, MATH_CONTEXT));
+                assertEquals(expectedRatio, DecimalRatio.of(bigNumerator, bigDenominator, MATH_CONTEXT));
+            }
+        }
+    }
+    
+    /**
+     * These include whole numbers that end with 0s, terminating decimals that have too many
+     * digits, numbers that are too big for a long, and the ratio of the 100th Fibonacci number to
+     * the 99th.
+     */
+    @ParameterizedTest
+    @CsvSource(useHeadersInDisplayName = true, textBlock = """
+        NUMERATOR,                                       DENOMINATOR
+        100,                                                  1
+        100_000_000_000_000_000_000,                          1
+        100_000_000_000_000_000_000,                          3
+        123_456_789_012_345_678_900_000,                      10
+        1,                                          1_152_921_504_606_846_976
+        3,                                          1_152_921_504_606_846_976
+        1,                                          9_765_625
+        9_223_372_036_854_775_807,                  9_223_372_036_854_775_807
+        92_233_720_368_547_758_070,                 9_223_372_036_854_775_807
+        18_446_744_073_709_551_616,                           5
+        18_446_744_073_709_551_616,               36_893_488_147_419_103_232
+        354_224_848_179_261_915_075,                218_922_995_834_555_169_026
+        123_456_789_000_000_000_000_000_000,        5_000_000_000_000_000_000_000
+        0,                                          5_000_000_000_000_000_000_000
+        """)
+    void of(String numeratorString, String denominatorString) {
+        var numerator = new BigInteger(numeratorString.replace("_", ""));
+        var denominator = new BigInteger(denominatorString.replace("_", ""));
+        assertEquals(getExpectedRatio(numerator, denominator), DecimalRatio.of(numerator, denominator, MATH_CONTEXT));
+    }
+    
+    @ParameterizedTest
+    @CsvSource(useHeadersInDisplayName = true, textBlock = """
+        NUMERATOR,    DENOMINATOR
+          -1,             1
+           1,             0
+           1,            -1
+        """)
+    void invalidRatios(long numerator, long denominator) {
+        assertThrows(IllegalArgumentException.class, () -> DecimalRatio.of(numerator, denominator, MATH_CONTEXT));
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> DecimalRatio.of(BigInteger.valueOf(numerator), BigInteger.valueOf(denominator), MATH_CONTEXT)
+        );
+    }
+}
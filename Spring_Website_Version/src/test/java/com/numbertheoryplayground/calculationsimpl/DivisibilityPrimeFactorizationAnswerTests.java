@@ -1,10 +1,12 @@
 package com.numbertheoryplayground.calculationsimpl;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -77,4 +79,24 @@ class DivisibilityPrimeFactorizationAnswerTests {
             )
         );
     }
-}
\ No newline at end of file
+    
+    /**
+     * The expected factors are found by checking every long from 2 to the input − 1 and the
+     * expected PFs are made with the constructor that factors an int.
+     */
+    @Test
+    void getFactorPfsMatchesCheckingEveryLong() {
+        for (var input = 2; input <= 3_000; input++) {
+            int finalInput = input;
+            List<Long> expectedFactors =
+                LongStream.range(2, input).filter(l -> finalInput % l == 0).boxed().toList();
+            List<PrimeFactorization> factorPfs =
+                DivisibilityPrimeFactorizationAnswer.getFactorPfs(new PrimeFactorization(input));
+            
+            assertEquals(expectedFactors, factorPfs.stream().map(PrimeFactorization::getCorrespondingLong).toList());
+            for (PrimeFactorization factorPf : factorPfs) {
+                assertEquals(new PrimeFactorization((int) factorPf.getCorrespondingLong()).getFps(), factorPf.getFps());
+            }
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.numbertheoryplayground.calculationsimpl;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FibonacciLikeModAnswerTests {
+    /**
+     * The expected periods are found by going through the Fibonacci sequence mod the modulus until
+     * 0 and 1 come up again.
+     */
+    @Test
+    void findPisanoPeriodMatchesGoingThroughSequence() {
+        for (var modulus = 1; modulus <= 2_000; modulus++) {
+            long expectedPeriod = 0;
+            int fn = 0;
+            int fnPlus1 = 1 % modulus;
+            do {
+                int next = (fn + fnPlus1) % modulus;
+                fn = fnPlus1;
+                fnPlus1 = next;
+                expectedPeriod++;
+            } while (fn != 0 || fnPlus1 != 1 % modulus);
+            
+            assertEquals(expectedPeriod, FibonacciLikeModAnswer.findPisanoPeriod(modulus));
+        }
+    }
+    
+    /**
+     * The expected numbers mod the modulus are found by going through the sequence mod the
+     * modulus. 999,983 is the biggest prime ≤ the max modulus and 524,288 is 2^19.
+     */
+    @ParameterizedTest
+    @CsvSource(useHeadersInDisplayName = true, textBlock = """
+        INPUT_1,          INPUT_2,          MODULUS
+           1,                1,                1
+           1,                1,                10
+          304,               5,             999_983
+        1_000_000_000,   999_999_999,       524_288
+        1_000_000_000,   999_999_999,     1_000_000
+        """)
+    void numberModMatchesGoingThroughSequence(int input1, int input2, int modulus) {
+        long number = input1 % modulus;
+        long nextNumber = input2 % modulus;
+        for (var index = 1; index <= 3_000; index++) {
+            assertEquals(number, new FibonacciLikeModAnswer(input1, input2, index, modulus).getNumberMod());
+            long afterNextNumber = (number + nextNumber) % modulus;
+            number = nextNumber;
+            nextNumber = afterNextNumber;
+        }
+    }
+    
+    /**
+     * The Pisano period of 10^k is 15 × 10^(k − 1) for k ≥ 3. F(2,147,483,647) mod 1,000,000 is
+     * the same as F(2,147,483,647 mod 1,500,000), which is F(983,647), mod 1,000,000.
+     */
+    @Test
+    void allMethods() {
+        var answer = new FibonacciLikeModAnswer(1, 1, Integer.MAX_VALUE, 1_000_000);
+        assertEquals(1_500_000, answer.getPisanoPeriod());
+        assertEquals(new FibonacciLikeModAnswer(1, 1, 983_647, 1_000_000).getNumberMod(), answer.getNumberMod());
+    }
+}
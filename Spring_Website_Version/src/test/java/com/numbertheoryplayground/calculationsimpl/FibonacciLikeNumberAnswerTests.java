@@ -0,0 +1,64 @@
+package com.numbertheoryplayground.calculationsimpl;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FibonacciLikeNumberAnswerTests {
+    @Test
+    void getFibonacciNumbersMatchesAdding() {
+        BigInteger fn = BigInteger.ZERO;
+        BigInteger fnPlus1 = BigInteger.ONE;
+        for (var n = 0; n <= 2_000; n++) {
+            assertArrayEquals(new BigInteger[] {fn, fnPlus1}, FibonacciLikeNumberAnswer.getFibonacciNumbers(n));
+            BigInteger next = fn.add(fnPlus1);
+            fn = fnPlus1;
+            fnPlus1 = next;
+        }
+    }
+    
+    /**
+     * The numbers at indices 2-20 are the same as the ones from FibonacciLikeSequencesAnswer.
+     */
+    @ParameterizedTest
+    @CsvSource(useHeadersInDisplayName = true, textBlock = """
+        INPUT_1,          INPUT_2
+           1,                1
+          304,               5
+        1_000_000_000,   1_000_000_000
+        """)
+    void numberMatchesSequence(int input1, int input2) {
+        var sequence = new FibonacciLikeSequencesAnswer(input1, input2).getFiboLikeSequence();
+        for (var index = 2; index <= 20; index++) {
+            var answer = new FibonacciLikeNumberAnswer(input1, input2, index);
+            assertEquals(sequence.get(index - 1).toString(), answer.getNumber());
+        }
+    }
+    
+    @ParameterizedTest
+    @CsvSource(useHeadersInDisplayName = true, textBlock = """
+        INPUT_1,  INPUT_2,  INDEX,  EXPECTED_NUMBER,              EXPECTED_RATIO,     EXPECTED_IS_ROUNDED
+           1,        1,       2,    1,                                1,                  false
+           4,        1,       3,    5,                                5,                  false
+           1,        1,      100,   354224848179261915075,    1.618033988749895,          true
+        """)
+    void allMethods(
+        int input1,
+        int input2,
+        int index,
+        String expectedNumber,
+        BigDecimal expectedRatio,
+        boolean expectedIsRounded
+    ) {
+        var answer = new FibonacciLikeNumberAnswer(input1, input2, index);
+        assertAll(
+            () -> assertEquals(expectedNumber, answer.getNumber()),
+            () -> assertEquals(expectedRatio, answer.getRatio()),
+            () -> assertEquals(expectedIsRounded, answer.isRounded())
+        );
+    }
+}
@@ -3,6 +3,7 @@ package com.numbertheoryplayground.calculationsimpl;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.MethodSource;
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.stream.Stream;
 
@@ -50,9 +51,9 @@ class FibonacciLikeSequencesAnswerTests {
            4,        5,          1.25,                false
         """)
     void ratioData(
-        BigDecimal expectedRatio,
         long input1,
         long input2,
+        BigDecimal expectedRatio,
         boolean expectedIsRounded
     ) {
         var data = new RatioData(input1, input2);
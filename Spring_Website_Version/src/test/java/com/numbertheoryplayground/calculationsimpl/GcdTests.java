@@ -0,0 +1,91 @@
+package com.numbertheoryplayground.calculationsimpl;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import java.math.BigInteger;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GcdTests {
+    @ParameterizedTest
+    @CsvSource(useHeadersInDisplayName = true, textBlock = """
+        A,          B,          EXPECTED_GCD
+        0,          0,               0
+        0,          12,              12
+        12,         18,              6
+        17,         5,               1
+        1_024,      384,             128
+        999_999,    1_000_000,       1
+        720_720,    360_360,         360_360
+        """)
+    void gcd(long a, long b, long expectedGcd) {
+        assertAll(
+            () -> assertEquals(expectedGcd, Gcd.gcd(a, b)),
+            () -> assertEquals(expectedGcd, Gcd.gcd(b, a))
+        );
+    }
+    
+    /**
+     * The expected GCDs are found with BigInteger.gcd.
+     */
+    @Test
+    void gcdMatchesBigInteger() {
+        var random = new Random(13);
+        for (var i = 0; i < 10_000; i++) {
+            // Shifting right by a random amount gives numbers of all sizes.
+            long a = random.nextLong() >>> 1 + random.nextInt(63);
+            long b = random.nextLong() >>> 1 + random.nextInt(63);
+            long expectedGcd = BigInteger.valueOf(a).gcd(BigInteger.valueOf(b)).longValueExact();
+            assertEquals(expectedGcd, Gcd.gcd(a, b));
+        }
+    }
+    
+    /**
+     * The coefficients aren't unique, so they're checked by making sure that ax + by is the GCD
+     * with BigIntegers, since the products might not fit in a long.
+     */
+    @Test
+    void extendedGcdMatchesBigInteger() {
+        var random = new Random(25);
+        for (var i = 0; i < 10_000; i++) {
+            long a = random.nextLong() >>> 1 + random.nextInt(63);
+            long b = random.nextLong() >>> 1 + random.nextInt(63);
+            BigInteger bigA = BigInteger.valueOf(a);
+            BigInteger bigB = BigInteger.valueOf(b);
+            
+            Gcd.BezoutCoefficients coefficients = Gcd.extendedGcd(a, b);
+            assertEquals(bigA.gcd(bigB).longValueExact(), coefficients.gcd());
+            assertEquals(
+                BigInteger.valueOf(coefficients.gcd()),
+                bigA.multiply(BigInteger.valueOf(coefficients.x())).add(bigB.multiply(BigInteger.valueOf(coefficients.y())))
+            );
+        }
+    }
+    
+    /**
+     * The expected inverses are found with BigInteger.modInverse, which throws an
+     * ArithmeticException if there isn't one.
+     */
+    @Test
+    void modInverseMatchesBigInteger() {
+        for (var modulus = 1L; modulus <= 200; modulus++) {
+            for (var a = -200L; a <= 200; a++) {
+                BigInteger bigModulus = BigInteger.valueOf(modulus);
+                BigInteger bigA = BigInteger.valueOf(a);
+                if (bigA.gcd(bigModulus).equals(BigInteger.ONE)) {
+                    assertEquals(bigA.modInverse(bigModulus).longValueExact(), Gcd.modInverse(a, modulus).getAsLong());
+                } else {
+                    assertTrue(Gcd.modInverse(a, modulus).isEmpty());
+                }
+            }
+        }
+    }
+    
+    @Test
+    void invalidArgs() {
+        assertThrows(IllegalArgumentException.class, () -> Gcd.extendedGcd(-1, 5));
+        assertThrows(IllegalArgumentException.class, () -> Gcd.modInverse(3, 0));
+    }
+}
\ No newline at end of file
@@ -1,11 +1,16 @@
 package com.numbertheoryplayground.calculationsimpl;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.FieldSource;
+import java.util.Comparator;
 import java.util.List;
+import java.util.OptionalInt;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static com.numbertheoryplayground.calculationsimpl.PrimeFactorization.FactorAndPower;
 
@@ -34,6 +39,78 @@ class PrimeFactorizationTests {
             arguments(pow(3, 3) * pow(5, 2) * 7, List.of(fp(3, 3), fp(5, 2), fp(7, 1))),
             arguments(pow(5, 2) * pow(17, 2), List.of(fp(5, 2), fp(17, 2))),
             arguments(pow(13, 3), List.of(fp(13, 3))),
-            arguments(1_213, List.of(fp(1_213, 1)))
+            arguments(1_213, List.of(fp(1_213, 1))),
+            arguments(999_983, List.of(fp(999_983, 1))),
+            arguments(999_999, List.of(fp(3, 3), fp(7, 1), fp(11, 1), fp(13, 1), fp(37, 1))),
+            arguments(1_000_000, List.of(fp(2, 6), fp(5, 6)))
         );
-}
\ No newline at end of file
+    
+    
+    /**
+     * The expected corresponding long is found by multiplying the factors one at a time.
+     */
+    @ParameterizedTest
+    @FieldSource("listConstructorArgs")
+    void listConstructor(List<FactorAndPower> fps) {
+        var pf = new PrimeFactorization(fps);
+        assertEquals(fps.stream().sorted(Comparator.comparingInt(FactorAndPower::factor)).toList(), pf.getFps());
+        
+        var expectedLong = 1L;
+        for (FactorAndPower fp : fps) {
+            for (var i = 0; i < fp.power(); i++) expectedLong *= fp.factor();
+        }
+        assertEquals(expectedLong, pf.getCorrespondingLong());
+    }
+    
+    static final List<Arguments> listConstructorArgs =
+        List.of(
+            arguments(List.of(fp(2, 1))),
+            arguments(List.of(fp(7, 2), fp(2, 1), fp(5, 3))),
+            arguments(List.of(fp(3, 39))),
+            arguments(List.of(fp(999_983, 1), fp(7, 2), fp(2, 10), fp(999_979, 1)))
+        );
+    
+    @Test
+    void findPowerOfAndContainsFactor() {
+        var pf = new PrimeFactorization(2 * 2 * 2 * 5 * 5 * 7 * 571);
+        for (var factor = 0; factor < 100; factor++) {
+            OptionalInt expectedPower =
+                factor == 2 ? OptionalInt.of(3) :
+                factor == 5 ? OptionalInt.of(2) :
+                factor == 7 ? OptionalInt.of(1) :
+                OptionalInt.empty();
+            assertEquals(expectedPower, pf.findPowerOf(factor));
+            assertEquals(expectedPower.isPresent(), pf.containsFactor(factor));
+        }
+        assertEquals(OptionalInt.of(1), pf.findPowerOf(571));
+        assertTrue(pf.containsFactor(571));
+    }
+    
+    @Test
+    void listConstructorWithProductTooBigForLong() {
+        assertThrows(ArithmeticException.class, () -> new PrimeFactorization(List.of(fp(999_983, 4))));
+    }
+    
+    /**
+     * The JSON has to stay the same as when the factors and powers were in a list of records.
+     */
+    @Test
+    void json() throws JsonProcessingException {
+        var objectMapper = new ObjectMapper();
+        assertEquals(
+            objectMapper.readTree("""
+                {"correspondingNum": 12, "fps": [{"factor": 2, "power": 2}, {"factor": 3, "power": 1}]}"""),
+            objectMapper.readTree(objectMapper.writeValueAsString(new PrimeFactorization(12)))
+        );
+        assertEquals(
+            objectMapper.readTree("""
+                {"correspondingNum": 13, "fps": null}"""),
+            objectMapper.readTree(objectMapper.writeValueAsString(new PrimeFactorization(13)))
+        );
+        assertEquals(
+            objectMapper.readTree("""
+                [{"factor": 2, "power": 6}, {"factor": 5, "power": 6}]"""),
+            objectMapper.readTree(objectMapper.writeValueAsString(new PrimeFactorization(1_000_000).getFps()))
+        );
+    }
+}
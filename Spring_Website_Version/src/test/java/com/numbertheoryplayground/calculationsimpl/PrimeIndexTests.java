@@ -0,0 +1,50 @@
+package com.numbertheoryplayground.calculationsimpl;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PrimeIndexTests {
+    /**
+     * The expected primes are found by checking every member of the progression ≥ min with
+     * isPrime below, which uses trial division.
+     */
+    @ParameterizedTest
+    @CsvSource(useHeadersInDisplayName = true, textBlock = """
+        MIN,              MODULUS,    RESIDUE
+        0,                   4,          1
+        5,                   4,          1
+        6,                   4,          1
+        0,                   4,          3
+        0,                   1,          0
+        0,                   3,          2
+        1_000_000,           4,          1
+        1_000_000,           1_000,      1
+        1_000_000,           30,         7
+        2_000_000_000,       4,          1
+        2_147_483_000,       2,          1
+        """)
+    void getNextPrimeInProgression(int min, int modulus, int residue) {
+        int expectedPrime =
+            IntStream.iterate(min + Math.floorMod(residue - min, modulus), i -> i + modulus)
+            .filter(PrimeIndexTests::isPrime)
+            .findFirst()
+            .getAsInt();
+        assertEquals(expectedPrime, PrimeIndex.getInstance().getNextPrimeInProgression(min, modulus, residue));
+    }
+    
+    /**
+     * Returns true if n is prime, using trial division. This is the oracle for the PrimeIndex
+     * tests and the TwoSquareTheoremAnswer tests, some of which check numbers past
+     * PrimeIndex.LIMIT.
+     */
+    static boolean isPrime(int n) {
+        if (n < 2) return false;
+        for (var i = 2; i <= n / i; i++) {
+            if (n % i == 0) return false;
+        }
+        return true;
+    }
+}
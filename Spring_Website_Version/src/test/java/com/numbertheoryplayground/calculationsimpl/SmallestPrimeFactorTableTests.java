@@ -0,0 +1,28 @@
+package com.numbertheoryplayground.calculationsimpl;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SmallestPrimeFactorTableTests {
+    @ParameterizedTest
+    @CsvSource(useHeadersInDisplayName = true, textBlock = """
+        INPUT,       EXPECTED_SMALLEST_PRIME_FACTOR
+          2,                    2
+          3,                    3
+          9,                    3
+         35,                    5
+         49,                    7
+        1_000_000,              2
+        999_983,             999_983
+        994_009,               997
+        998_001,                3
+        """)
+    void getSmallestPrimeFactor(int input, int expectedSmallestPrimeFactor) {
+        assertEquals(
+            expectedSmallestPrimeFactor,
+            SmallestPrimeFactorTable.getInstance().getSmallestPrimeFactor(input)
+        );
+    }
+}
@@ -2,8 +2,10 @@ package com.numbertheoryplayground.calculationsimpl;
 
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class TwoSquareTheoremAnswerTests {
     /**
@@ -39,4 +41,19 @@ class TwoSquareTheoremAnswerTests {
         assertEquals(expectedA, answer.getA());
         assertEquals(expectedB, answer.getB());
     }
+    
+    /**
+     * There's only 1 way to write a Pythagorean prime as the sum of 2 squares, so if the squares of
+     * a and b sum to the Pythagorean prime and a ≤ b, then a and b are right.
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1_000, 65_537, 500_000, 999_000, 1_000_000})
+    void squaresSumToPythagPrime(int input) {
+        var answer = new TwoSquareTheoremAnswer(input);
+        int pythagPrime = answer.getPythagPrime();
+        assertEquals(1, pythagPrime % 4);
+        assertTrue(PrimeIndexTests.isPrime(pythagPrime));
+        assertEquals(pythagPrime, answer.getA() * answer.getA() + answer.getB() * answer.getB());
+        assertTrue(0 < answer.getA() && answer.getA() <= answer.getB());
+    }
 }
\ No newline at end of file
@@ -1,11 +1,14 @@
 package com.numbertheoryplayground.calculationsimpl.gcdandlcm;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.*;
+import java.math.BigInteger;
 import java.util.List;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
+import static com.numbertheoryplayground.calculationsimpl.gcdandlcm.GcdAndLcmAnswer.BezoutAnswer;
 import static com.numbertheoryplayground.calculationsimpl.gcdandlcm.GcdAndLcmAnswer.EuclideanIteration;
 
 class GcdAndLcmAnswerTests {
@@ -38,6 +41,43 @@ class GcdAndLcmAnswerTests {
             arguments(99, 54, List.of(ei(99, 54, 45), ei(54, 45, 9), ei(45, 9, 0))),
             arguments(4_410, 2_100, List.of(ei(4_410, 2_100, 210), ei(2_100, 210, 0)))
         );
+    
+    /**
+     * The expected GCDs and inverses are found with BigInteger. The coefficients aren't unique,
+     * so they're checked by making sure that input1 × x + input2 × y is the GCD.
+     */
+    @Test
+    void getBezoutAnswerMatchesBigInteger() {
+        for (var input1 = 2; input1 <= 300; input1++) {
+            for (var input2 = 2; input2 <= 300; input2++) {
+                BezoutAnswer answer = GcdAndLcmAnswer.getBezoutAnswer(input1, input2);
+                var bigInput1 = BigInteger.valueOf(input1);
+                var bigInput2 = BigInteger.valueOf(input2);
+                int expectedGcd = bigInput1.gcd(bigInput2).intValueExact();
+                
+                assertEquals(expectedGcd, answer.gcd());
+                assertEquals(expectedGcd, input1 * answer.x() + input2 * answer.y());
+                if (expectedGcd == 1) {
+                    assertEquals(bigInput1.modInverse(bigInput2).intValueExact(), answer.input1InverseModInput2());
+                    assertEquals(bigInput2.modInverse(bigInput1).intValueExact(), answer.input2InverseModInput1());
+                } else {
+                    assertNull(answer.input1InverseModInput2());
+                    assertNull(answer.input2InverseModInput1());
+                }
+            }
+        }
+    }
+    
+    /**
+     * 1,000,000 and 999,999 are the biggest inputs and they're coprime. 1,000,000 − 999,999 = 1,
+     * and 999,999 is −1 mod 1,000,000, so it's its own inverse.
+     */
+    @Test
+    void bezoutAnswerForMaxInputs() {
+        BezoutAnswer answer = new GcdAndLcmAnswer(1_000_000, 999_999).getBezoutAnswer();
+        assertEquals(new BezoutAnswer(1, 1, -1, 1, 999_999), answer);
+    }
+    
     //arguments(
 //                120, 4_235,
 //                List.of(ei(4_235, 120, 35), ei(120, 35, 15), ei(35, 15, 5), ei(15, 5, 0))
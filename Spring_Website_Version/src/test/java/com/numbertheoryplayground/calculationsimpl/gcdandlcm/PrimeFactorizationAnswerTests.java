@@ -105,4 +105,36 @@ class PrimeFactorizationAnswerTests {
             )
         );
     }
-}
\ No newline at end of file
+    
+    /**
+     * The expected GCD and LCM of each 3 inputs are found 2 at a time with Euclid's algorithm.
+     * The inputs are small enough that their LCM fits in a long.
+     */
+    @Test
+    void combinePfsMatchesPairwiseGcdAndLcm() {
+        for (var input1 = 2; input1 <= 60; input1++) {
+            for (var input2 = 2; input2 <= 60; input2 += 3) {
+                for (var input3 = 2; input3 <= 60; input3 += 7) {
+                    long expectedGcd = gcd(gcd(input1, input2), input3);
+                    long lcm12 = input1 / gcd(input1, input2) * input2;
+                    long expectedLcm = lcm12 / gcd(lcm12, input3) * input3;
+                    
+                    var gcdAndLcmPfs =
+                        PrimeFactorizationAnswer.combinePfs(
+                            List.of(new PrimeFactorization(input1), new PrimeFactorization(input2), new PrimeFactorization(input3))
+                        );
+                    if (expectedGcd == 1) {
+                        assertNull(gcdAndLcmPfs.gcdPf());
+                    } else {
+                        assertEquals(expectedGcd, gcdAndLcmPfs.gcdPf().getCorrespondingLong());
+                    }
+                    assertEquals(expectedLcm, gcdAndLcmPfs.lcmPf().getCorrespondingLong());
+                }
+            }
+        }
+    }
+    
+    static long gcd(long a, long b) {
+        return b == 0 ? a : gcd(b, a % b);
+    }
+}